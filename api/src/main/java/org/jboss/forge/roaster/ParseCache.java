@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.spi.JavaSourcePrototype;
+
+/**
+ * Opt-in cache in front of {@link Roaster#parse(Class, String)} and {@link Roaster#parse(Class, File)}, for sources that
+ * are parsed over and over. Strings are cached by their content, files by their path and are parsed again once their
+ * modification time or size changes.
+ * <p>
+ * Each call returns a new, independent {@link JavaType}, exactly as {@link Roaster#parse(Class, String)} would return
+ * it; modifying it affects neither the cache nor other results. The cache keeps each source parsed once as a
+ * {@link JavaSourcePrototype}, which creates results by copying the parsed syntax tree; sources with syntax errors or
+ * comments attached to declarations, which copies could not faithfully represent, are parsed again for each result.
+ * Whenever the estimated retained size of the cached entries exceeds the budget of the cache, the least recently used
+ * are evicted.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class ParseCache
+{
+   private final long maximumWeight;
+   private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true);
+   private long weight;
+   private long hitCount;
+   private long missCount;
+   private long evictionCount;
+
+   /**
+    * Create a new {@link ParseCache} retaining parse results up to the given estimated size.
+    * 
+    * @param maximumWeight in bytes
+    */
+   public ParseCache(long maximumWeight)
+   {
+      if (maximumWeight < 0)
+      {
+         throw new IllegalArgumentException("Maximum weight must not be negative, was [" + maximumWeight + "]");
+      }
+      this.maximumWeight = maximumWeight;
+   }
+
+   /**
+    * Parse the given {@link String} into a new {@link JavaType} instance, reusing the cached parse result of equal
+    * data.
+    */
+   public JavaType<?> parse(final String data)
+   {
+      return parse(JavaType.class, data);
+   }
+
+   /**
+    * Parse the given {@link String} into a new {@link JavaType} instance of the given type, reusing the cached parse
+    * result of equal data.
+    */
+   public <T extends JavaType<?>> T parse(final Class<T> type, final String data)
+   {
+      JavaSourcePrototype prototype = get(data, null);
+      if (prototype == null)
+      {
+         prototype = put(data, null, data);
+      }
+      return Roaster.convert(type, prototype.create());
+   }
+
+   /**
+    * Parse the given {@link File} into a new {@link JavaType} instance, reusing the cached parse result while the file
+    * is unmodified.
+    */
+   public JavaType<?> parse(final File file) throws FileNotFoundException
+   {
+      return parse(JavaType.class, file);
+   }
+
+   /**
+    * Parse the given {@link File} into a new {@link JavaType} instance of the given type, reusing the cached parse
+    * result while the file is unmodified.
+    */
+   public <T extends JavaType<?>> T parse(final Class<T> type, final File file) throws FileNotFoundException
+   {
+      File key = file.getAbsoluteFile();
+      FileVersion version = new FileVersion(key);
+      JavaSourcePrototype prototype = get(key, version);
+      if (prototype == null)
+      {
+         prototype = put(key, version, read(key));
+      }
+      return Roaster.convert(type, prototype.create());
+   }
+
+   /**
+    * Number of lookups answered from this cache.
+    */
+   public synchronized long getHitCount()
+   {
+      return hitCount;
+   }
+
+   /**
+    * Number of lookups that required parsing.
+    */
+   public synchronized long getMissCount()
+   {
+      return missCount;
+   }
+
+   /**
+    * Number of entries removed to stay within the maximum weight.
+    */
+   public synchronized long getEvictionCount()
+   {
+      return evictionCount;
+   }
+
+   /**
+    * Estimated retained size of the cached entries, in bytes.
+    */
+   public synchronized long getWeight()
+   {
+      return weight;
+   }
+
+   /**
+    * Maximum estimated retained size of the cached entries, in bytes.
+    */
+   public long getMaximumWeight()
+   {
+      return maximumWeight;
+   }
+
+   /**
+    * Number of cached entries.
+    */
+   public synchronized int size()
+   {
+      return entries.size();
+   }
+
+   /**
+    * Discard all cached entries. Statistics are kept.
+    */
+   public synchronized void clear()
+   {
+      entries.clear();
+      weight = 0;
+   }
+
+   @Override
+   public synchronized String toString()
+   {
+      return "ParseCache [size=" + entries.size() + ", weight=" + weight + "/" + maximumWeight + ", hits=" + hitCount
+               + ", misses=" + missCount + ", evictions=" + evictionCount + "]";
+   }
+
+   private synchronized JavaSourcePrototype get(Object key, FileVersion version)
+   {
+      Entry entry = entries.get(key);
+      if (entry == null || (version != null && !version.equals(entry.version)))
+      {
+         missCount++;
+         return null;
+      }
+      hitCount++;
+      return entry.prototype;
+   }
+
+   /**
+    * Parse the given data outside of the lock, and cache the result if it fits, replacing any outdated entry.
+    */
+   private JavaSourcePrototype put(Object key, FileVersion version, String data)
+   {
+      JavaSourcePrototype prototype = Roaster.prototype(data);
+      long entryWeight = prototype.getRetainedSize();
+      synchronized (this)
+      {
+         Entry previous = entries.remove(key);
+         if (previous != null)
+         {
+            weight -= previous.weight;
+         }
+         if (entryWeight <= maximumWeight)
+         {
+            entries.put(key, new Entry(prototype, version, entryWeight));
+            weight += entryWeight;
+            for (Iterator<Entry> eldest = entries.values().iterator(); weight > maximumWeight;)
+            {
+               weight -= eldest.next().weight;
+               eldest.remove();
+               evictionCount++;
+            }
+         }
+      }
+      return prototype;
+   }
+
+   /**
+    * Read the given file with the platform encoding, as {@link Roaster#parse(File)} does.
+    */
+   private static String read(File file) throws FileNotFoundException
+   {
+      InputStream stream = new FileInputStream(file);
+      try
+      {
+         Reader reader = new InputStreamReader(stream);
+         StringBuilder result = new StringBuilder((int) file.length());
+         char[] buffer = new char[0x10000];
+         for (int read; (read = reader.read(buffer)) >= 0;)
+         {
+            result.append(buffer, 0, read);
+         }
+         return result.toString();
+      }
+      catch (IOException e)
+      {
+         throw new ParserException("Could not read source [" + file + "]", e);
+      }
+      finally
+      {
+         Streams.closeQuietly(stream);
+      }
+   }
+
+   private static class Entry
+   {
+      final JavaSourcePrototype prototype;
+      final FileVersion version;
+      final long weight;
+
+      Entry(JavaSourcePrototype prototype, FileVersion version, long weight)
+      {
+         this.prototype = prototype;
+         this.version = version;
+         this.weight = weight;
+      }
+   }
+
+   /**
+    * Identifies a version of a file without reading it.
+    */
+   private static class FileVersion
+   {
+      private final long lastModified;
+      private final long length;
+
+      FileVersion(File file)
+      {
+         this.lastModified = file.lastModified();
+         this.length = file.length();
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return (int) (lastModified ^ (lastModified >>> 32)) * 31 + (int) (length ^ (length >>> 32));
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof FileVersion))
+            return false;
+         FileVersion other = (FileVersion) obj;
+         return lastModified == other.lastModified && length == other.length;
+      }
+   }
+}
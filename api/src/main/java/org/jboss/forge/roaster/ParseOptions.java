@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+/**
+ * Immutable set of options controlling how much work a {@link org.jboss.forge.roaster.spi.JavaParser} does when
+ * parsing source. Use {@link #DEFAULT} and derive variations from it, e.g.
+ * <code>ParseOptions.DEFAULT.resolveBindings(false)</code>.
+ */
+public final class ParseOptions
+{
+   /**
+    * The options used by the plain <code>Roaster.parse(...)</code> methods.
+    */
+   public static final ParseOptions DEFAULT = new ParseOptions(true, false, true, false);
+
+   /**
+    * Options doing the least amount of work: no binding resolution, no statement recovery and no Javadoc parsing.
+    * Suited to scans that only read declarations.
+    */
+   public static final ParseOptions FAST = new ParseOptions(false, false, false, false);
+
+   /**
+    * {@link #FAST} options that also skip method bodies, for scans that only read declarations: fields, method
+    * signatures, annotations, interfaces and so on.
+    */
+   public static final ParseOptions OUTLINE = new ParseOptions(false, false, false, true);
+
+   private final boolean resolveBindings;
+   private final boolean statementsRecovery;
+   private final boolean javadocParsing;
+   private final boolean ignoreMethodBodies;
+
+   private ParseOptions(boolean resolveBindings, boolean statementsRecovery, boolean javadocParsing,
+            boolean ignoreMethodBodies)
+   {
+      this.resolveBindings = resolveBindings;
+      this.statementsRecovery = statementsRecovery;
+      this.javadocParsing = javadocParsing;
+      this.ignoreMethodBodies = ignoreMethodBodies;
+   }
+
+   /**
+    * Whether the parser should attempt to resolve bindings. The source model never reads bindings, so this is only of
+    * use to callers inspecting the underlying AST.
+    */
+   public boolean isResolveBindings()
+   {
+      return resolveBindings;
+   }
+
+   /**
+    * Return a copy of these options with binding resolution set as given.
+    */
+   public ParseOptions resolveBindings(boolean resolveBindings)
+   {
+      return new ParseOptions(resolveBindings, statementsRecovery, javadocParsing, ignoreMethodBodies);
+   }
+
+   /**
+    * Whether the parser should try to recover malformed statements instead of discarding them.
+    */
+   public boolean isStatementsRecovery()
+   {
+      return statementsRecovery;
+   }
+
+   /**
+    * Return a copy of these options with statement recovery set as given.
+    */
+   public ParseOptions statementsRecovery(boolean statementsRecovery)
+   {
+      return new ParseOptions(resolveBindings, statementsRecovery, javadocParsing, ignoreMethodBodies);
+   }
+
+   /**
+    * Whether Javadoc comments should be parsed. When disabled, Javadoc comments are kept in the source as plain
+    * comments and are not available through the model.
+    */
+   public boolean isJavadocParsing()
+   {
+      return javadocParsing;
+   }
+
+   /**
+    * Return a copy of these options with Javadoc parsing set as given.
+    */
+   public ParseOptions javadocParsing(boolean javadocParsing)
+   {
+      return new ParseOptions(resolveBindings, statementsRecovery, javadocParsing, ignoreMethodBodies);
+   }
+
+   /**
+    * Whether method bodies should be skipped by the parser. Skipped bodies are parsed from the original source when
+    * first requested, and are written back unchanged unless replaced.
+    */
+   public boolean isIgnoreMethodBodies()
+   {
+      return ignoreMethodBodies;
+   }
+
+   /**
+    * Return a copy of these options with method bodies ignored as given.
+    */
+   public ParseOptions ignoreMethodBodies(boolean ignoreMethodBodies)
+   {
+      return new ParseOptions(resolveBindings, statementsRecovery, javadocParsing, ignoreMethodBodies);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      final int prime = 31;
+      int result = 1;
+      result = prime * result + (ignoreMethodBodies ? 1231 : 1237);
+      result = prime * result + (javadocParsing ? 1231 : 1237);
+      result = prime * result + (resolveBindings ? 1231 : 1237);
+      result = prime * result + (statementsRecovery ? 1231 : 1237);
+      return result;
+   }
+
+   @Override
+   public boolean equals(Object obj)
+   {
+      if (this == obj)
+         return true;
+      if (obj == null)
+         return false;
+      if (getClass() != obj.getClass())
+         return false;
+      ParseOptions other = (ParseOptions) obj;
+      if (ignoreMethodBodies != other.ignoreMethodBodies)
+         return false;
+      if (javadocParsing != other.javadocParsing)
+         return false;
+      if (resolveBindings != other.resolveBindings)
+         return false;
+      if (statementsRecovery != other.statementsRecovery)
+         return false;
+      return true;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "ParseOptions [resolveBindings=" + resolveBindings + ", statementsRecovery=" + statementsRecovery
+               + ", javadocParsing=" + javadocParsing + ", ignoreMethodBodies=" + ignoreMethodBodies + "]";
+   }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.forge.roaster.model.JavaType;
+
+/**
+ * Read-only {@link Map} of sources to their parsed {@link JavaType}, parsing each source on first access.
+ */
+class ParsedSourceMap<S> extends AbstractMap<S, JavaType<?>>
+{
+   /**
+    * Holds every source, mapped to {@code null} until it has been parsed.
+    */
+   private final Map<S, JavaType<?>> parsed;
+
+   ParsedSourceMap(Collection<S> sources)
+   {
+      parsed = new LinkedHashMap<S, JavaType<?>>(sources.size() * 4 / 3 + 1);
+      for (S source : sources)
+      {
+         checkSource(source);
+         parsed.put(source, null);
+      }
+   }
+
+   /**
+    * Ensure the given source is of a type {@link #parse(Object)} accepts.
+    * 
+    * @throws IllegalArgumentException if it is not
+    */
+   static void checkSource(Object source)
+   {
+      if (!(source instanceof File || source instanceof URL || source instanceof String || source instanceof char[]))
+      {
+         throw new IllegalArgumentException("Cannot parse source of type ["
+                  + (source == null ? null : source.getClass().getName())
+                  + "], expected File, URL, String or char[]");
+      }
+   }
+
+   @Override
+   public int size()
+   {
+      return parsed.size();
+   }
+
+   @Override
+   public boolean containsKey(Object key)
+   {
+      return parsed.containsKey(key);
+   }
+
+   @Override
+   public JavaType<?> get(Object key)
+   {
+      synchronized (parsed)
+      {
+         if (!parsed.containsKey(key))
+         {
+            return null;
+         }
+         JavaType<?> result = parsed.get(key);
+         if (result == null)
+         {
+            result = parse(key);
+            @SuppressWarnings("unchecked")
+            S source = (S) key;
+            parsed.put(source, result);
+         }
+         return result;
+      }
+   }
+
+   @Override
+   public Set<Entry<S, JavaType<?>>> entrySet()
+   {
+      return new AbstractSet<Entry<S, JavaType<?>>>()
+      {
+         @Override
+         public int size()
+         {
+            return parsed.size();
+         }
+
+         @Override
+         public Iterator<Entry<S, JavaType<?>>> iterator()
+         {
+            final Iterator<S> keys = parsed.keySet().iterator();
+            return new Iterator<Entry<S, JavaType<?>>>()
+            {
+               @Override
+               public boolean hasNext()
+               {
+                  return keys.hasNext();
+               }
+
+               @Override
+               public Entry<S, JavaType<?>> next()
+               {
+                  return new LazyEntry(keys.next());
+               }
+
+               @Override
+               public void remove()
+               {
+                  throw new UnsupportedOperationException();
+               }
+            };
+         }
+      };
+   }
+
+   /**
+    * {@link Entry} that parses its source when the value is first requested.
+    */
+   private class LazyEntry implements Entry<S, JavaType<?>>
+   {
+      private final S key;
+
+      LazyEntry(S key)
+      {
+         this.key = key;
+      }
+
+      @Override
+      public S getKey()
+      {
+         return key;
+      }
+
+      @Override
+      public JavaType<?> getValue()
+      {
+         return get(key);
+      }
+
+      @Override
+      public JavaType<?> setValue(JavaType<?> value)
+      {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (!(obj instanceof Entry))
+            return false;
+         Entry<?, ?> other = (Entry<?, ?>) obj;
+         return (key == null ? other.getKey() == null : key.equals(other.getKey()))
+                  && getValue().equals(other.getValue());
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return (key == null ? 0 : key.hashCode()) ^ getValue().hashCode();
+      }
+
+      @Override
+      public String toString()
+      {
+         return key + "=" + getValue();
+      }
+   }
+
+   /**
+    * Parse the given {@link File}, {@link URL}, {@link String} or character array.
+    */
+   static JavaType<?> parse(Object source)
+   {
+      try
+      {
+         if (source instanceof File)
+         {
+            return Roaster.parse((File) source);
+         }
+         else if (source instanceof URL)
+         {
+            return Roaster.parse((URL) source);
+         }
+         else if (source instanceof char[])
+         {
+            return Roaster.parse((char[]) source);
+         }
+         return Roaster.parse((String) source);
+      }
+      catch (IOException e)
+      {
+         throw new ParserException("Could not read source [" + source + "]", e);
+      }
+   }
+}
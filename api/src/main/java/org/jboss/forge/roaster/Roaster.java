@@ -14,14 +14,37 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.source.FieldTemplate;
 import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.JavaUnit;
+import org.jboss.forge.roaster.model.source.MemberTemplate;
+import org.jboss.forge.roaster.model.source.MethodTemplate;
+import org.jboss.forge.roaster.scan.RoasterVisitor;
+import org.jboss.forge.roaster.scan.SourceHeader;
+import org.jboss.forge.roaster.spi.ConfigurableJavaParser;
 import org.jboss.forge.roaster.spi.FormatterProvider;
+import org.jboss.forge.roaster.spi.HeaderJavaParser;
 import org.jboss.forge.roaster.spi.JavaParser;
+import org.jboss.forge.roaster.spi.JavaSourcePrototype;
+import org.jboss.forge.roaster.spi.JavaUnitParser;
+import org.jboss.forge.roaster.spi.MemberJavaParser;
+import org.jboss.forge.roaster.spi.PrototypeJavaParser;
+import org.jboss.forge.roaster.spi.ScanningJavaParser;
 
 /**
  * Responsible for parsing data into new {@link JavaType} instances.
@@ -30,49 +53,62 @@ import org.jboss.forge.roaster.spi.JavaParser;
  */
 public final class Roaster
 {
-   private static List<JavaParser> parsers;
-   private static List<FormatterProvider> formatters;
+   private static volatile List<JavaParser> parsers;
+   private static volatile List<FormatterProvider> formatters;
+   private static final ConcurrentMap<String, JavaSourcePrototype> prototypes = new ConcurrentHashMap<String, JavaSourcePrototype>();
 
    private static List<JavaParser> getParsers()
    {
-      synchronized (Roaster.class)
+      List<JavaParser> result = parsers;
+      if (result == null)
       {
-         if (parsers == null || parsers.isEmpty())
+         synchronized (Roaster.class)
          {
-            parsers = new ArrayList<JavaParser>();
-            for (JavaParser p : ServiceLoader.load(JavaParser.class, Roaster.class.getClassLoader()))
+            result = parsers;
+            if (result == null)
             {
-               parsers.add(p);
+               result = new ArrayList<JavaParser>();
+               for (JavaParser p : ServiceLoader.load(JavaParser.class, Roaster.class.getClassLoader()))
+               {
+                  result.add(p);
+               }
+               if (result.size() == 0)
+               {
+                  throw new IllegalStateException("No instances of [" + JavaParser.class.getName()
+                           + "] were found on the classpath.");
+               }
+               parsers = result = Collections.unmodifiableList(result);
             }
          }
-         if (parsers.size() == 0)
-         {
-            throw new IllegalStateException("No instances of [" + JavaParser.class.getName()
-                     + "] were found on the classpath.");
-         }
       }
-      return parsers;
+      return result;
    }
 
    private static List<FormatterProvider> getFormatters()
    {
-      synchronized (Roaster.class)
+      List<FormatterProvider> result = formatters;
+      if (result == null)
       {
-         if (formatters == null || formatters.isEmpty())
+         synchronized (Roaster.class)
          {
-            formatters = new ArrayList<FormatterProvider>();
-            for (FormatterProvider p : ServiceLoader.load(FormatterProvider.class, Roaster.class.getClassLoader()))
+            result = formatters;
+            if (result == null)
             {
-               formatters.add(p);
+               result = new ArrayList<FormatterProvider>();
+               for (FormatterProvider p : ServiceLoader.load(FormatterProvider.class, Roaster.class.getClassLoader()))
+               {
+                  result.add(p);
+               }
+               if (result.size() == 0)
+               {
+                  throw new IllegalStateException("No instances of [" + FormatterProvider.class.getName()
+                           + "] were found on the classpath.");
+               }
+               formatters = result = Collections.unmodifiableList(result);
             }
          }
-         if (formatters.size() == 0)
-         {
-            throw new IllegalStateException("No instances of [" + FormatterProvider.class.getName()
-                     + "] were found on the classpath.");
-         }
       }
-      return formatters;
+      return result;
    }
 
    /**
@@ -92,6 +128,43 @@ public final class Roaster
                + type.getSimpleName(), new IllegalArgumentException(type.getName()));
    }
 
+   /**
+    * Check that the given source declares a type, and register it under the given name as a prototype for
+    * {@link #create(Class, String)}, replacing any prototype previously registered under that name.
+    */
+   public static void registerPrototype(final String name, final String source)
+   {
+      if (name == null)
+         throw new IllegalArgumentException("Prototype name must not be null");
+      prototypes.put(name, prototype(source));
+   }
+
+   /**
+    * Remove the prototype registered under the given name.
+    * 
+    * @return whether a prototype was registered under the given name
+    */
+   public static boolean removePrototype(final String name)
+   {
+      return prototypes.remove(name) != null;
+   }
+
+   /**
+    * Create a new {@link JavaSource} instance with the contents of the prototype registered under the given name, as
+    * {@link #parse(Class, String)} would return for its source.
+    * 
+    * @see #registerPrototype(String, String)
+    */
+   public static <T extends JavaSource<?>> T create(final Class<T> type, final String prototypeName)
+   {
+      final JavaSourcePrototype prototype = prototypes.get(prototypeName);
+      if (prototype == null)
+      {
+         throw new IllegalArgumentException("No prototype registered as [" + prototypeName + "]");
+      }
+      return convert(type, prototype.create());
+   }
+
    /**
     * Open the given {@link File}, parsing its contents into a new {@link JavaType} instance.
     */
@@ -173,26 +246,344 @@ public final class Roaster
     * caller is responsible for closing the stream.
     */
    public static <T extends JavaType<?>> T parse(final Class<T> type, final InputStream data)
+   {
+      return parse(type, data, ParseOptions.DEFAULT);
+   }
+
+   /**
+    * Read the given {@link File} and parse its data into a new {@link JavaType} instance of the given type, using the
+    * given {@link ParseOptions}.
+    *
+    * @throws FileNotFoundException
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final File file, final ParseOptions options)
+            throws FileNotFoundException
+   {
+      InputStream data = new FileInputStream(file);
+      try
+      {
+         return parse(type, data, options);
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   /**
+    * Read the given string and parse its data into a new {@link JavaType} instance of the given type, using the given
+    * {@link ParseOptions}.
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final String data, final ParseOptions options)
+   {
+      return parse(type, Streams.fromString(data), options);
+   }
+
+   /**
+    * Read the given {@link InputStream} and parse its data into a new {@link JavaType} instance of the given type,
+    * using the given {@link ParseOptions}. The caller is responsible for closing the stream.
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final InputStream data,
+            final ParseOptions options)
    {
       for (JavaParser parser : getParsers())
       {
-         final JavaType<?> source = parser.parse(data);
+         final JavaType<?> source;
+         if (parser instanceof ConfigurableJavaParser)
+         {
+            source = ((ConfigurableJavaParser) parser).parse(data, options);
+         }
+         else if (ParseOptions.DEFAULT.equals(options))
+         {
+            source = parser.parse(data);
+         }
+         else
+         {
+            continue;
+         }
 
-         if (type.isInstance(source))
+         if (source != null)
          {
-            @SuppressWarnings("unchecked")
-            final T result = (T) source;
-            return result;
+            return convert(type, source);
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
+   }
+
+   /**
+    * Open the given {@link File}, parsing its contents into a new {@link JavaUnit} exposing all of its top-level types.
+    *
+    * @throws FileNotFoundException
+    */
+   public static JavaUnit parseUnit(final File file) throws FileNotFoundException
+   {
+      InputStream data = new FileInputStream(file);
+      try
+      {
+         return parseUnit(data);
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   /**
+    * Parse the given String data into a new {@link JavaUnit} exposing all of its top-level types.
+    */
+   public static JavaUnit parseUnit(final String data)
+   {
+      return parseUnit(Streams.fromString(data));
+   }
+
+   /**
+    * Read the given {@link InputStream} and parse its data into a new {@link JavaUnit} exposing all of its top-level
+    * types. The caller is responsible for closing the stream.
+    */
+   public static JavaUnit parseUnit(final InputStream data)
+   {
+      return parseUnit(data, ParseOptions.DEFAULT);
+   }
+
+   /**
+    * Read the given {@link InputStream} and parse its data into a new {@link JavaUnit} exposing all of its top-level
+    * types, using the given {@link ParseOptions}. The caller is responsible for closing the stream.
+    */
+   public static JavaUnit parseUnit(final InputStream data, final ParseOptions options)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (!(parser instanceof JavaUnitParser))
+         {
+            continue;
          }
-         else if (source != null)
+         final JavaUnit unit = ((JavaUnitParser) parser).parseUnit(data, options);
+         if (unit != null)
          {
-            throw new ParserException("Source does not represent a [" + type.getSimpleName() + "], instead was ["
-                     + source.getClass().getSimpleName() + "] - Cannot convert.");
+            return unit;
          }
       }
       throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
    }
 
+   /**
+    * Scan the given String data, reporting its declarations to the given {@link RoasterVisitor} without creating a
+    * {@link JavaType} instance. Method bodies are not read.
+    */
+   public static void scan(final String data, final RoasterVisitor visitor)
+   {
+      scan(Streams.fromString(data), visitor);
+   }
+
+   /**
+    * Read the given {@link File}, reporting its declarations to the given {@link RoasterVisitor} without creating a
+    * {@link JavaType} instance. Method bodies are not read.
+    *
+    * @throws FileNotFoundException
+    */
+   public static void scan(final File file, final RoasterVisitor visitor) throws FileNotFoundException
+   {
+      InputStream data = new FileInputStream(file);
+      try
+      {
+         scan(data, visitor);
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   /**
+    * Read the given {@link InputStream}, reporting its declarations to the given {@link RoasterVisitor} without
+    * creating a {@link JavaType} instance. Method bodies are not read. The caller is responsible for closing the
+    * stream.
+    */
+   public static void scan(final InputStream data, final RoasterVisitor visitor)
+   {
+      if (visitor == null)
+         throw new IllegalArgumentException("RoasterVisitor must not be null");
+      for (JavaParser parser : getParsers())
+      {
+         if (parser instanceof ScanningJavaParser && ((ScanningJavaParser) parser).scan(data, visitor))
+         {
+            return;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of scanning the requested data");
+   }
+
+   /**
+    * Read the header of the given {@link File}: its package, imports and the kind, name and annotations of its first
+    * top-level type. Tokens are only read up to the name of that type, and no AST is built.
+    *
+    * @throws FileNotFoundException
+    */
+   public static SourceHeader peek(final File file) throws FileNotFoundException
+   {
+      InputStream data = new FileInputStream(file);
+      try
+      {
+         return peek(data);
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   /**
+    * Read the header of the given character array. See {@link #peek(File)}.
+    */
+   public static SourceHeader peek(final char[] data)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (!(parser instanceof HeaderJavaParser))
+         {
+            continue;
+         }
+         final SourceHeader header = ((HeaderJavaParser) parser).peek(data);
+         if (header != null)
+         {
+            return header;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of reading the requested data");
+   }
+
+   /**
+    * Read the header of the given String data. See {@link #peek(File)}.
+    */
+   public static SourceHeader peek(final String data)
+   {
+      return peek(data.toCharArray());
+   }
+
+   /**
+    * Read the header of the data of the given {@link InputStream}. See {@link #peek(File)}. The caller is responsible
+    * for closing the stream.
+    */
+   public static SourceHeader peek(final InputStream data)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (!(parser instanceof HeaderJavaParser))
+         {
+            continue;
+         }
+         final SourceHeader header = ((HeaderJavaParser) parser).peek(data);
+         if (header != null)
+         {
+            return header;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of reading the requested data");
+   }
+
+   /**
+    * Parse the given declaration of a single method or field once, into a template that can be added to any number of
+    * sources without parsing it again. Names in the declaration may contain <code>${placeholder}</code>s, e.g.
+    * <code>public ${Type} get${Name}() { return ${name}; }</code>, whose values are given when the template is added.
+    * Placeholders elsewhere, e.g. in string literals, are left as they are.
+    */
+   public static MemberTemplate parseMember(final String declaration)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (!(parser instanceof MemberJavaParser))
+         {
+            continue;
+         }
+         final MemberTemplate template = ((MemberJavaParser) parser).parseMember(declaration);
+         if (template != null)
+         {
+            return template;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing member declarations");
+   }
+
+   /**
+    * Parse the given method declaration once, into a template. See {@link #parseMember(String)}.
+    * 
+    * @see org.jboss.forge.roaster.model.source.MethodHolderSource#addMethod(MethodTemplate, Map)
+    */
+   public static MethodTemplate parseMethod(final String declaration)
+   {
+      final MemberTemplate template = parseMember(declaration);
+      if (!(template instanceof MethodTemplate))
+      {
+         throw new IllegalArgumentException("Not a valid method declaration [" + declaration + "]");
+      }
+      return (MethodTemplate) template;
+   }
+
+   /**
+    * Parse the given field declaration once, into a template. See {@link #parseMember(String)}.
+    * 
+    * @see org.jboss.forge.roaster.model.source.FieldHolderSource#addField(FieldTemplate, Map)
+    */
+   public static FieldTemplate parseField(final String declaration)
+   {
+      final MemberTemplate template = parseMember(declaration);
+      if (!(template instanceof FieldTemplate))
+      {
+         throw new IllegalArgumentException("Not a valid field declaration [" + declaration + "]");
+      }
+      return (FieldTemplate) template;
+   }
+
+   /**
+    * Parse all of the given sources into new {@link JavaType} instances. Each source must be a {@link File},
+    * {@link URL}, {@link String} or character array.
+    * <p>
+    * The returned {@link Map} is read-only and iterates in the order of the given sources. Sources are parsed lazily,
+    * once, when their value is first requested; failures are reported at that point as a {@link ParserException}.
+    * 
+    * @throws IllegalArgumentException if any source is not of a supported type
+    */
+   public static <S> Map<S, JavaType<?>> parseAll(final Collection<S> sources)
+   {
+      return new ParsedSourceMap<S>(sources);
+   }
+
+   /**
+    * Parse all of the given sources into new {@link JavaType} instances, using the given {@link Executor}. Each source
+    * must be a {@link File}, {@link URL}, {@link String} or character array.
+    * <p>
+    * One task per distinct source is handed to the {@link Executor}, so parsing is spread over as many threads as it
+    * provides. The returned {@link Map} is read-only and iterates in the order of the given sources; parse failures are
+    * reported by the corresponding {@link Future} as an {@link java.util.concurrent.ExecutionException} caused by a
+    * {@link ParserException}.
+    * 
+    * @throws IllegalArgumentException if any source is not of a supported type
+    */
+   public static <S> Map<S, Future<JavaType<?>>> parseAll(final Collection<S> sources, final Executor executor)
+   {
+      Map<S, FutureTask<JavaType<?>>> tasks = new LinkedHashMap<S, FutureTask<JavaType<?>>>();
+      for (final S source : sources)
+      {
+         ParsedSourceMap.checkSource(source);
+         if (!tasks.containsKey(source))
+         {
+            tasks.put(source, new FutureTask<JavaType<?>>(new Callable<JavaType<?>>()
+            {
+               @Override
+               public JavaType<?> call() throws Exception
+               {
+                  return ParsedSourceMap.parse(source);
+               }
+            }));
+         }
+      }
+      for (FutureTask<JavaType<?>> task : tasks.values())
+      {
+         executor.execute(task);
+      }
+      return Collections.<S, Future<JavaType<?>>> unmodifiableMap(tasks);
+   }
+
    /**
     * Format the given {@link String} as a Java source file, using the built in code format style.
     * 
@@ -222,6 +613,42 @@ public final class Roaster
       return result;
    }
 
+   /**
+    * Parse the given source into a {@link JavaSourcePrototype} with the first {@link JavaParser} that accepts it.
+    */
+   static JavaSourcePrototype prototype(final String source)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (!(parser instanceof PrototypeJavaParser))
+         {
+            continue;
+         }
+         final JavaSourcePrototype prototype = ((PrototypeJavaParser) parser).prototype(source);
+         if (prototype != null)
+         {
+            return prototype;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
+   }
+
+   /**
+    * Return the given {@link JavaType} as an instance of the given type.
+    * 
+    * @throws ParserException if it is not
+    */
+   @SuppressWarnings("unchecked")
+   static <T extends JavaType<?>> T convert(final Class<T> type, final JavaType<?> source)
+   {
+      if (!type.isInstance(source))
+      {
+         throw new ParserException("Source does not represent a [" + type.getSimpleName() + "], instead was ["
+                  + source.getClass().getSimpleName() + "] - Cannot convert.");
+      }
+      return (T) source;
+   }
+
    private static <T extends JavaType<?>> T internalParse(final Class<T> type, final InputStream data)
    {
       try
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.source;
+
+/**
+ * Collects modifications of a {@link MemberHolderSource}, which are applied together once the {@link SourceEdit} that
+ * recorded them completes: imports are deduplicated in a single pass, and all member declarations are parsed at once.
+ * Nothing is applied if the {@link SourceEdit} fails.
+ * 
+ * @see MemberHolderSource#edit(SourceEdit)
+ */
+public interface EditTransaction<O extends JavaSource<O>>
+{
+   /**
+    * Return the {@link JavaSource} being edited. Its state does not reflect the modifications recorded so far.
+    */
+   public O getSource();
+
+   /**
+    * Import the given class, unless already imported. See {@link Importer#addImport(String)}.
+    */
+   public EditTransaction<O> addImport(String className);
+
+   /**
+    * Import the given class, unless already imported. See {@link Importer#addImport(Class)}.
+    */
+   public EditTransaction<O> addImport(Class<?> type);
+
+   /**
+    * Annotate the edited type with the given annotation type, importing it if qualified.
+    * 
+    * @throws UnsupportedOperationException if the edited source does not support annotations
+    */
+   public EditTransaction<O> addAnnotation(String className);
+
+   /**
+    * Annotate the edited type with the given annotation type, importing it.
+    * 
+    * @throws UnsupportedOperationException if the edited source does not support annotations
+    */
+   public EditTransaction<O> addAnnotation(Class<? extends java.lang.annotation.Annotation> type);
+
+   /**
+    * Add the given field declaration, e.g. <code>private String name;</code>, after the fields already declared.
+    * 
+    * @throws IllegalArgumentException when the edit completes, if the declaration is not a single field declaration
+    */
+   public EditTransaction<O> addField(String declaration);
+
+   /**
+    * Add the given method declaration, e.g. <code>public String getName() { return name; }</code>.
+    * 
+    * @throws IllegalArgumentException when the edit completes, if the declaration is not a single method declaration
+    */
+   public EditTransaction<O> addMethod(String declaration);
+}
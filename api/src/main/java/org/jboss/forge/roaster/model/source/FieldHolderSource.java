@@ -8,6 +8,7 @@
 package org.jboss.forge.roaster.model.source;
 
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.forge.roaster.model.Field;
 import org.jboss.forge.roaster.model.FieldHolder;
@@ -35,6 +36,24 @@ public interface FieldHolderSource<O extends JavaSource<O>> extends FieldHolder<
     */
    public FieldSource<O> addField(final String declaration);
 
+   /**
+    * Add copies of the fields declared by the given {@link FieldTemplate}, which must not use placeholders, to this
+    * {@link O} instance, returning the first.
+    */
+   public FieldSource<O> addField(final FieldTemplate template);
+
+   /**
+    * Add copies of the fields declared by the given {@link FieldTemplate} to this {@link O} instance, replacing its
+    * placeholders with the given values, and return the first.
+    * <p/>
+    * <strong>For example:</strong><br>
+    * <code>javaClass.addField(Roaster.parseField("private ${Type} ${name};"), values)</code>
+    *
+    * @throws IllegalArgumentException if a placeholder has no value or a {@code null} one, or a value does not make a
+    *            valid name
+    */
+   public FieldSource<O> addField(final FieldTemplate template, final Map<String, String> placeholders);
+
    /**
     * Remove the given {@link Field} from this {@link O} instance, if it exists; otherwise, do nothing.
     */
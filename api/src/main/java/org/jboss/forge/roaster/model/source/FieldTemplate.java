@@ -0,0 +1,18 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.source;
+
+import org.jboss.forge.roaster.Roaster;
+
+/**
+ * A field declaration, of one or more fields, parsed once by {@link Roaster#parseField(String)}.
+ *
+ * @see FieldHolderSource#addField(FieldTemplate, java.util.Map)
+ */
+public interface FieldTemplate extends MemberTemplate
+{
+}
@@ -36,4 +36,24 @@ public interface JavaSource<T extends JavaSource<T>> extends JavaType<T>,
    @Deprecated
    public List<JavaSource<?>> getNestedClasses();
 
+   /**
+    * Return this {@link JavaSource} as a {@link String}, with all modifications applied but without running the code
+    * formatter. Equivalent to {@link #toString(SourceFormatting)} with {@link SourceFormatting#NONE}.
+    */
+   public String toUnformattedString();
+
+   /**
+    * Return this {@link JavaSource} as a {@link String}, with all modifications applied and formatted according to the
+    * given {@link SourceFormatting}.
+    */
+   public String toString(SourceFormatting formatting);
+
+   /**
+    * Return an independent copy of this {@link JavaSource}, including any modifications not yet written out, without
+    * running the code formatter. Modifications of the copy do not affect <code>this</code> and vice versa. Unless
+    * <code>this</code> has pending modifications or syntax errors, the copy is not parsed, so its comments are plain
+    * text attached to no member: removing a member of the copy leaves the comments preceding it in place.
+    */
+   public T copy();
+
 }
\ No newline at end of file
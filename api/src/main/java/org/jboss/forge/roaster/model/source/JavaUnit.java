@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.source;
+
+import java.util.List;
+
+/**
+ * Represents a Java compilation unit in source form: one file, which may declare several top-level types sharing its
+ * package and imports. Modifications of any of its types are reflected by {@link #toString()}.
+ */
+public interface JavaUnit
+{
+   /**
+    * Return the package of this unit, <code>null</code> for the default package.
+    */
+   public String getPackage();
+
+   /**
+    * Return the imports of this unit, shared by all of its types.
+    */
+   public List<Import> getImports();
+
+   /**
+    * Return the first top-level type of this unit, or the {@link JavaPackageInfoSource} if it declares no type.
+    */
+   public <T extends JavaSource<?>> T getGoverningType();
+
+   /**
+    * Return all top-level types of this unit in declaration order, or only the {@link JavaPackageInfoSource} if it
+    * declares no type.
+    */
+   public List<JavaSource<?>> getTopLevelTypes();
+
+   /**
+    * Return the top-level type with the given simple name, <code>null</code> if there is none.
+    */
+   public JavaSource<?> getTopLevelType(String name);
+
+   /**
+    * Return this unit as a {@link String}, with all modifications applied but without running the code formatter.
+    */
+   public String toUnformattedString();
+
+   /**
+    * Return this unit as a {@link String}, with all modifications applied and formatted according to the given
+    * {@link SourceFormatting}.
+    */
+   public String toString(SourceFormatting formatting);
+
+   /**
+    * Return this unit as a formatted {@link String}, with all modifications applied.
+    */
+   @Override
+   public String toString();
+}
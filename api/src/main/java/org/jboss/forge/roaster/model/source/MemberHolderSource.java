@@ -24,4 +24,24 @@ public interface MemberHolderSource<O extends JavaSource<O>> extends MemberHolde
     */
    @Override
    public List<MemberSource<O, ?>> getMembers();
+
+   /**
+    * Apply the modifications recorded by the given {@link SourceEdit} as a single batch, instead of one at a time.
+    * Applying many generated members this way avoids repeated duplicate checks and parses.
+    * <p/>
+    * <strong>For example:</strong>
+    * 
+    * <pre>
+    * javaClass.edit(new SourceEdit&lt;JavaClassSource&gt;()
+    * {
+    *    public void apply(EditTransaction&lt;JavaClassSource&gt; tx)
+    *    {
+    *       tx.addImport(&quot;java.util.List&quot;).addField(&quot;private List&lt;String&gt; names;&quot;);
+    *    }
+    * });
+    * </pre>
+    * 
+    * @return this {@link O} instance
+    */
+   public O edit(SourceEdit<O> edit);
 }
\ No newline at end of file
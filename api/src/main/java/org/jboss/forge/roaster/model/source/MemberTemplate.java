@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.source;
+
+import java.util.Set;
+
+import org.jboss.forge.roaster.Roaster;
+
+/**
+ * A member declaration parsed once by {@link Roaster#parseMember(String)}, which can be added to any number of sources
+ * without parsing it again. Names in the declaration may contain <code>${placeholder}</code>s, whose values are given
+ * when the template is added. Templates are immutable and may be shared between threads.
+ */
+public interface MemberTemplate
+{
+   /**
+    * Return the placeholders used by the names in this template, which need a value whenever it is added.
+    */
+   public Set<String> getPlaceholders();
+
+   /**
+    * Return the declaration this template was parsed from.
+    */
+   @Override
+   public String toString();
+}
@@ -8,6 +8,7 @@
 package org.jboss.forge.roaster.model.source;
 
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.forge.roaster.model.Method;
 import org.jboss.forge.roaster.model.MethodHolder;
@@ -61,6 +62,24 @@ public interface MethodHolderSource<O extends JavaSource<O>> extends MethodHolde
     */
    public MethodSource<O> addMethod(final String method);
 
+   /**
+    * Add a copy of the method declared by the given {@link MethodTemplate}, which must not use placeholders, to this
+    * {@link O} instance.
+    */
+   public MethodSource<O> addMethod(final MethodTemplate template);
+
+   /**
+    * Add a copy of the method declared by the given {@link MethodTemplate} to this {@link O} instance, replacing its
+    * placeholders with the given values.
+    * <p/>
+    * <strong>For example:</strong><br>
+    * <code>javaClass.addMethod(Roaster.parseMethod("public int get${Name}() {return ${name};}"), values)</code>
+    *
+    * @throws IllegalArgumentException if a placeholder has no value or a {@code null} one, or a value does not make a
+    *            valid name
+    */
+   public MethodSource<O> addMethod(final MethodTemplate template, final Map<String, String> placeholders);
+
    /**
     * Remove the given {@link MethodSource} declaration from this {@link O} instance, if it exists; otherwise, do
     * nothing.
@@ -0,0 +1,18 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.source;
+
+import org.jboss.forge.roaster.Roaster;
+
+/**
+ * A method declaration parsed once by {@link Roaster#parseMethod(String)}.
+ *
+ * @see MethodHolderSource#addMethod(MethodTemplate, java.util.Map)
+ */
+public interface MethodTemplate extends MemberTemplate
+{
+}
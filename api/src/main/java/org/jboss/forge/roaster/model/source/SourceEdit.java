@@ -0,0 +1,21 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.source;
+
+/**
+ * A batch of modifications to a {@link MemberHolderSource}, recorded on an {@link EditTransaction}.
+ * 
+ * @see MemberHolderSource#edit(SourceEdit)
+ */
+public interface SourceEdit<O extends JavaSource<O>>
+{
+   /**
+    * Record the modifications of this edit on the given {@link EditTransaction}.
+    */
+   public void apply(EditTransaction<O> tx);
+}
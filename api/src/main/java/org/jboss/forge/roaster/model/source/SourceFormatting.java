@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.source;
+
+/**
+ * Controls how much of a {@link JavaSource} is passed through the code formatter when it is written out.
+ * 
+ * @see JavaSource#toString(SourceFormatting)
+ */
+public enum SourceFormatting
+{
+   /**
+    * Return the rewritten source as-is, without formatting.
+    */
+   NONE,
+
+   /**
+    * Format only the lines touched by modifications made since the source was parsed.
+    */
+   CHANGED_REGIONS,
+
+   /**
+    * Format the entire source. This is what {@link Object#toString()} returns.
+    */
+   FULL;
+}
@@ -8,11 +8,19 @@ package org.jboss.forge.roaster.model.util;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.jboss.forge.roaster.model.source.EditTransaction;
 import org.jboss.forge.roaster.model.source.FieldSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
+import org.jboss.forge.roaster.model.source.ParameterSource;
+import org.jboss.forge.roaster.model.source.SourceEdit;
 
 /**
  * Utility refactory methods for {@link JavaClassSource} objects
@@ -24,32 +32,114 @@ import org.jboss.forge.roaster.model.source.MethodSource;
 public class Refactory
 {
    /**
-    * Generates a getXXX and setXXX method for the supplied field
+    * Generates a getXXX and setXXX method for the supplied field, unless already declared
     *
     * @param clazz
     * @param field
     */
    public static void createGetterAndSetter(final JavaClassSource clazz, final FieldSource<JavaClassSource> field)
    {
-      if (!clazz.hasField(field))
+      createGettersAndSetters(clazz, Collections.singletonList(field));
+   }
+
+   /**
+    * Generates getXXX and setXXX methods for the supplied fields, skipping accessors already declared. All methods are
+    * added in a single {@link JavaClassSource#edit(SourceEdit) edit}.
+    *
+    * @param clazz
+    * @param fields
+    */
+   public static void createGettersAndSetters(final JavaClassSource clazz,
+            final FieldSource<JavaClassSource>... fields)
+   {
+      createGettersAndSetters(clazz, Arrays.asList(fields));
+   }
+
+   /**
+    * Generates getXXX and setXXX methods for the supplied fields, skipping accessors already declared. All methods are
+    * added in a single {@link JavaClassSource#edit(SourceEdit) edit}.
+    *
+    * @param clazz
+    * @param fields
+    */
+   public static void createGettersAndSetters(final JavaClassSource clazz,
+            final List<FieldSource<JavaClassSource>> fields)
+   {
+      for (FieldSource<JavaClassSource> field : fields)
       {
-         throw new IllegalArgumentException("Entity did not contain the given field [" + field + "]");
+         if (!clazz.hasField(field))
+         {
+            throw new IllegalArgumentException("Entity did not contain the given field [" + field + "]");
+         }
       }
 
-      clazz.getMethods();
+      // name of each declared getter, and parameter types of each declared setter by name
+      final Set<String> getters = new HashSet<String>();
+      final Map<String, List<String>> setters = new HashMap<String, List<String>>();
+      for (MethodSource<JavaClassSource> method : clazz.getMethods())
+      {
+         List<ParameterSource<JavaClassSource>> parameters = method.getParameters();
+         if (parameters.isEmpty())
+         {
+            getters.add(method.getName());
+         }
+         else if (parameters.size() == 1)
+         {
+            if (!setters.containsKey(method.getName()))
+            {
+               setters.put(method.getName(), new ArrayList<String>());
+            }
+            setters.get(method.getName()).add(parameters.get(0).getType().toString());
+         }
+      }
 
-      String fieldName = field.getName();
-      String methodNameSuffix = Strings.capitalize(fieldName);
-      clazz.addMethod().setReturnType(field.getType().toString()).setName("get" + methodNameSuffix)
-               .setPublic()
-               .setBody("return this." + fieldName + ";");
+      final List<String> declarations = new ArrayList<String>();
+      for (FieldSource<JavaClassSource> field : fields)
+      {
+         String fieldName = field.getName();
+         String fieldType = field.getType().toString();
+         String methodNameSuffix = Strings.capitalize(fieldName);
+         if (getters.add("get" + methodNameSuffix))
+         {
+            declarations.add("public " + fieldType + " get" + methodNameSuffix + "() { return this." + fieldName
+                     + "; }");
+         }
+         if (!field.isFinal() && !hasSetter(setters, "set" + methodNameSuffix, fieldType))
+         {
+            declarations.add("public void set" + methodNameSuffix + "(final " + fieldType + " " + fieldName
+                     + ") { this." + fieldName + " = " + fieldName + "; }");
+         }
+      }
+      if (!declarations.isEmpty())
+      {
+         clazz.edit(new SourceEdit<JavaClassSource>()
+         {
+            @Override
+            public void apply(EditTransaction<JavaClassSource> tx)
+            {
+               for (String declaration : declarations)
+               {
+                  tx.addMethod(declaration);
+               }
+            }
+         });
+      }
+   }
 
-      if (!field.isFinal())
+   private static boolean hasSetter(Map<String, List<String>> setters, String name, String type)
+   {
+      List<String> types = setters.get(name);
+      if (types != null)
       {
-         clazz.addMethod().setReturnTypeVoid().setName("set" + methodNameSuffix).setPublic()
-                  .setParameters("final " + field.getType().toString() + " " + fieldName)
-                  .setBody("this." + fieldName + " = " + fieldName + ";");
+         for (String existing : types)
+         {
+            if (Types.areEquivalent(existing, type))
+            {
+               return true;
+            }
+         }
       }
+      return false;
    }
 
    /**
@@ -93,8 +183,7 @@ public class Refactory
     */
    public static void createHashCodeAndEquals(final JavaClassSource clazz, final FieldSource<?>... fields)
    {
-      createEquals(clazz,fields);
-      createHashCode(clazz,fields);
+      addOverrides(clazz, equalsDeclaration(clazz, fields), hashCodeDeclaration(clazz, fields));
    }
    
    /**
@@ -110,6 +199,11 @@ public class Refactory
     * @param fields fields to be used in the equals/hashCode methods
     */
    public static void createEquals(final JavaClassSource clazz, final FieldSource<?>... fields)
+   {
+      addOverrides(clazz, equalsDeclaration(clazz, fields));
+   }
+
+   private static String equalsDeclaration(final JavaClassSource clazz, final FieldSource<?>... fields)
    {
       if (clazz == null)
       {
@@ -193,15 +287,13 @@ public class Refactory
       typeCheckAndAssignment.append(" return false;}");
       typeCheckAndAssignment.append(klassName).append(" other = (").append(klassName).append(") obj;");
 
-      clazz.addMethod(
-               "public boolean equals(Object obj) { " +
-                        "if (this == obj) { return true; } " +
-                        superEqualsCheck.toString() +
-                        typeCheckAndAssignment.toString() +
-                        fieldEqualityChecks.toString() +
-                        "return true; " +
-                        "}")
-               .addAnnotation(Override.class);
+      return "public boolean equals(Object obj) { " +
+               "if (this == obj) { return true; } " +
+               superEqualsCheck.toString() +
+               typeCheckAndAssignment.toString() +
+               fieldEqualityChecks.toString() +
+               "return true; " +
+               "}";
    }
    
    /**
@@ -217,6 +309,11 @@ public class Refactory
     * @param fields fields to be used in the equals/hashCode methods
     */
    public static void createHashCode(final JavaClassSource clazz, final FieldSource<?>... fields)
+   {
+      addOverrides(clazz, hashCodeDeclaration(clazz, fields));
+   }
+
+   private static String hashCodeDeclaration(final JavaClassSource clazz, final FieldSource<?>... fields)
    {
       if (clazz == null)
       {
@@ -302,13 +399,30 @@ public class Refactory
          throw new IllegalArgumentException(
                   "A failure was detected when generating the equals and hashCode methods. Verify the type and modifiers of the provided fields.");
       }
-      clazz.addMethod(
-               "public int hashCode() { " +
-                        "final int prime = 31;" +
-                        defaultHashcode +
-                        hashCodeComputation.toString() +
-                        "return result; }")
-               .addAnnotation(Override.class);
+      return "public int hashCode() { " +
+               "final int prime = 31;" +
+               defaultHashcode +
+               hashCodeComputation.toString() +
+               "return result; }";
+   }
+
+   /**
+    * Add the given method declarations, annotated with {@link Override}, in a single edit.
+    */
+   private static void addOverrides(final JavaClassSource clazz, final String... declarations)
+   {
+      clazz.edit(new SourceEdit<JavaClassSource>()
+      {
+         @Override
+         public void apply(EditTransaction<JavaClassSource> tx)
+         {
+            tx.addImport(Override.class);
+            for (String declaration : declarations)
+            {
+               tx.addMethod("@Override " + declaration);
+            }
+         }
+      });
    }
    
    /**
@@ -341,10 +455,6 @@ public class Refactory
     */
    public static void createToStringFromFields(final JavaClassSource clazz, final List<FieldSource<JavaClassSource>> fields)
    {
-      MethodSource<JavaClassSource> method = clazz.addMethod().setName("toString").setReturnType(String.class)
-               .setPublic();
-      method.addAnnotation(Override.class);
-
       List<String> list = new ArrayList<String>();
 
       String delimeter = "\n";
@@ -377,6 +487,6 @@ public class Refactory
       String body = "String result = getClass().getSimpleName()+\" \";\n" +
                Strings.join(list, delimeter) + "\n" +
                "return result;";
-      method.setBody(body);
+      addOverrides(clazz, "public String toString() {\n" + body + "\n}");
    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Global table of canonical instances of the names (packages, qualified type names) returned by the model, so that
+ * sources parsed separately share a single {@link String} per name, and names from the model can be compared by
+ * reference. Names are only weakly held, and are dropped from the table once no longer used elsewhere.
+ */
+public final class Symbols
+{
+   private static final int STRIPES = 16;
+
+   private static final Map<String, WeakReference<String>>[] TABLES;
+
+   static
+   {
+      @SuppressWarnings("unchecked")
+      Map<String, WeakReference<String>>[] tables = new Map[STRIPES];
+      for (int i = 0; i < tables.length; i++)
+      {
+         tables[i] = new WeakHashMap<String, WeakReference<String>>();
+      }
+      TABLES = tables;
+   }
+
+   private Symbols()
+   {
+   }
+
+   /**
+    * Return the canonical instance of the given name, {@code null} if {@code null}.
+    */
+   public static String intern(final String symbol)
+   {
+      if (symbol == null)
+      {
+         return null;
+      }
+      int hash = symbol.hashCode();
+      Map<String, WeakReference<String>> table = TABLES[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+      synchronized (table)
+      {
+         WeakReference<String> reference = table.get(symbol);
+         String result = reference == null ? null : reference.get();
+         if (result == null)
+         {
+            table.put(symbol, new WeakReference<String>(symbol));
+            result = symbol;
+         }
+         return result;
+      }
+   }
+}
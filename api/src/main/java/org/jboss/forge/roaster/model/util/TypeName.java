@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable structure of a type name as written in source, e.g. {@code java.util.Map<String, ? extends Number>[]}, or
+ * of a binary array name, e.g. {@code [Ljava.lang.String;}. Type arguments may declare bounds, as in
+ * {@code Class<E extends Enum<E>>}.
+ */
+public final class TypeName
+{
+   /**
+    * The kind of bound of a wildcard or type variable.
+    */
+   public enum BoundKind
+   {
+      EXTENDS, SUPER;
+   }
+
+   private static final String WILDCARD = "?";
+
+   private final String qualifiedName;
+   private final int simpleNameStart;
+   private final List<TypeName> typeArguments;
+   private final int arrayDimensions;
+   private final BoundKind boundKind;
+   private final List<TypeName> bounds;
+
+   private TypeName(String qualifiedName, List<TypeName> typeArguments, int arrayDimensions, BoundKind boundKind,
+            List<TypeName> bounds)
+   {
+      this.qualifiedName = qualifiedName;
+      this.simpleNameStart = qualifiedName.lastIndexOf('.') + 1;
+      this.typeArguments = typeArguments;
+      this.arrayDimensions = arrayDimensions;
+      this.boundKind = boundKind;
+      this.bounds = bounds;
+   }
+
+   /**
+    * Parse the given type name in a single pass.
+    *
+    * @throws IllegalArgumentException if the name is not a valid type name
+    */
+   public static TypeName parse(final String name)
+   {
+      if (name == null)
+      {
+         throw new IllegalArgumentException("Type name must not be null");
+      }
+      if (name.startsWith("["))
+      {
+         return parseBinaryArray(name);
+      }
+      Parser parser = new Parser(name);
+      TypeName result = parser.parseType();
+      parser.skipWhitespace();
+      if (!parser.atEnd())
+      {
+         throw parser.invalid();
+      }
+      return result;
+   }
+
+   /**
+    * Whether the given name consists only of identifiers separated by dots, e.g. {@code String} or
+    * {@code java.util.List}. Such names need not be parsed.
+    */
+   static boolean isPlainName(final String name)
+   {
+      int length = name.length();
+      if (length == 0)
+      {
+         return false;
+      }
+      boolean identifierStart = true;
+      for (int i = 0; i < length; i++)
+      {
+         char c = name.charAt(i);
+         if (identifierStart)
+         {
+            if (!Character.isJavaIdentifierStart(c))
+            {
+               return false;
+            }
+            identifierStart = false;
+         }
+         else if (c == '.')
+         {
+            identifierStart = true;
+         }
+         else if (!Character.isJavaIdentifierPart(c))
+         {
+            return false;
+         }
+      }
+      return !identifierStart;
+   }
+
+   /**
+    * The qualifier preceding the simple name, which includes the enclosing types of a nested type; empty if
+    * unqualified.
+    */
+   public String getPackage()
+   {
+      return simpleNameStart == 0 ? "" : qualifiedName.substring(0, simpleNameStart - 1);
+   }
+
+   /**
+    * The last segment of the name, or {@code ?} for a wildcard.
+    */
+   public String getSimpleName()
+   {
+      return simpleNameStart == 0 ? qualifiedName : qualifiedName.substring(simpleNameStart);
+   }
+
+   /**
+    * The name without type arguments and array dimensions, e.g. {@code java.util.Map} or {@code int}.
+    */
+   public String getQualifiedName()
+   {
+      return qualifiedName;
+   }
+
+   public List<TypeName> getTypeArguments()
+   {
+      return typeArguments;
+   }
+
+   public boolean isParameterized()
+   {
+      return !typeArguments.isEmpty();
+   }
+
+   public int getArrayDimensions()
+   {
+      return arrayDimensions;
+   }
+
+   public boolean isArray()
+   {
+      return arrayDimensions > 0;
+   }
+
+   public boolean isWildcard()
+   {
+      return WILDCARD.equals(qualifiedName);
+   }
+
+   /**
+    * The kind of the bounds of this wildcard or type variable, {@code null} if unbounded.
+    */
+   public BoundKind getBoundKind()
+   {
+      return boundKind;
+   }
+
+   /**
+    * The bounds of this wildcard or type variable, e.g. {@code Number} for {@code ? extends Number}.
+    */
+   public List<TypeName> getBounds()
+   {
+      return bounds;
+   }
+
+   /**
+    * Render this type name with simple names only, e.g. {@code Map<String, List<? extends Number>>[]}.
+    */
+   public String toSimpleString()
+   {
+      StringBuilder result = new StringBuilder();
+      append(result, true);
+      return result.toString();
+   }
+
+   @Override
+   public String toString()
+   {
+      StringBuilder result = new StringBuilder();
+      append(result, false);
+      return result.toString();
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return toString().hashCode();
+   }
+
+   @Override
+   public boolean equals(Object obj)
+   {
+      return this == obj || (obj instanceof TypeName && toString().equals(obj.toString()));
+   }
+
+   private void append(StringBuilder result, boolean simple)
+   {
+      result.append(simple ? getSimpleName() : qualifiedName);
+      if (!typeArguments.isEmpty())
+      {
+         result.append('<');
+         for (int i = 0; i < typeArguments.size(); i++)
+         {
+            if (i > 0)
+            {
+               result.append(", ");
+            }
+            typeArguments.get(i).append(result, simple);
+         }
+         result.append('>');
+      }
+      for (int i = 0; i < arrayDimensions; i++)
+      {
+         result.append("[]");
+      }
+      if (boundKind != null)
+      {
+         result.append(boundKind == BoundKind.EXTENDS ? " extends " : " super ");
+         for (int i = 0; i < bounds.size(); i++)
+         {
+            if (i > 0)
+            {
+               result.append(" & ");
+            }
+            bounds.get(i).append(result, simple);
+         }
+      }
+   }
+
+   // [Z=boolean, [B=byte, [C=char, [D=double, [F=float, [I=int, [J=long, [S=short, [Lcom.example.Type;
+   private static TypeName parseBinaryArray(final String name)
+   {
+      int dimensions = 0;
+      while (dimensions < name.length() && name.charAt(dimensions) == '[')
+      {
+         dimensions++;
+      }
+      if (dimensions == name.length())
+      {
+         throw new IllegalArgumentException("Not a valid type name [" + name + "]");
+      }
+      String componentType;
+      char descriptor = name.charAt(dimensions);
+      if (descriptor == 'L')
+      {
+         int end = name.endsWith(";") ? name.length() - 1 : name.length();
+         componentType = name.substring(dimensions + 1, end);
+         if (!isPlainName(componentType))
+         {
+            throw new IllegalArgumentException("Not a valid type name [" + name + "]");
+         }
+      }
+      else
+      {
+         componentType = primitive(descriptor);
+         if (componentType == null || name.length() > dimensions + 1)
+         {
+            throw new IllegalArgumentException("Not a valid type name [" + name + "]");
+         }
+      }
+      return new TypeName(componentType, Collections.<TypeName> emptyList(), dimensions, null,
+               Collections.<TypeName> emptyList());
+   }
+
+   private static String primitive(char descriptor)
+   {
+      switch (descriptor)
+      {
+      case 'Z':
+         return "boolean";
+      case 'B':
+         return "byte";
+      case 'C':
+         return "char";
+      case 'D':
+         return "double";
+      case 'F':
+         return "float";
+      case 'I':
+         return "int";
+      case 'J':
+         return "long";
+      case 'S':
+         return "short";
+      default:
+         return null;
+      }
+   }
+
+   /**
+    * Recursive descent over the characters of a type name.
+    */
+   private static class Parser
+   {
+      private final String source;
+      private int pos;
+
+      Parser(String source)
+      {
+         this.source = source;
+      }
+
+      TypeName parseType()
+      {
+         skipWhitespace();
+         if (consume('?'))
+         {
+            return new TypeName(WILDCARD, Collections.<TypeName> emptyList(), 0, null,
+                     Collections.<TypeName> emptyList());
+         }
+         String name = parseQualifiedName();
+         List<TypeName> typeArguments = Collections.emptyList();
+         skipWhitespace();
+         if (peek() == '<')
+         {
+            typeArguments = parseTypeArguments();
+            skipWhitespace();
+            if (peek() == '.')
+            {
+               // type arguments of enclosing types, e.g. Outer<T>.Inner, are not supported
+               throw invalid();
+            }
+         }
+         int dimensions = 0;
+         while (consume('['))
+         {
+            skipWhitespace();
+            expect(']');
+            dimensions++;
+            skipWhitespace();
+         }
+         return new TypeName(name, typeArguments, dimensions, null, Collections.<TypeName> emptyList());
+      }
+
+      private List<TypeName> parseTypeArguments()
+      {
+         expect('<');
+         List<TypeName> result = new ArrayList<TypeName>(2);
+         do
+         {
+            result.add(parseTypeArgument());
+            skipWhitespace();
+         }
+         while (consume(','));
+         expect('>');
+         return Collections.unmodifiableList(result);
+      }
+
+      /**
+       * A type, optionally bounded if it is a wildcard or type variable, e.g. {@code E extends Enum<E>}.
+       */
+      private TypeName parseTypeArgument()
+      {
+         TypeName type = parseType();
+         BoundKind boundKind;
+         if (consumeKeyword("extends"))
+         {
+            boundKind = BoundKind.EXTENDS;
+         }
+         else if (consumeKeyword("super"))
+         {
+            boundKind = BoundKind.SUPER;
+         }
+         else
+         {
+            return type;
+         }
+         if (type.isArray() || type.isParameterized())
+         {
+            throw invalid();
+         }
+         List<TypeName> bounds = new ArrayList<TypeName>(1);
+         do
+         {
+            bounds.add(parseType());
+            skipWhitespace();
+         }
+         while (consume('&'));
+         return new TypeName(type.qualifiedName, type.typeArguments, 0, boundKind,
+                  Collections.unmodifiableList(bounds));
+      }
+
+      private String parseQualifiedName()
+      {
+         int start = pos;
+         do
+         {
+            if (atEnd() || !Character.isJavaIdentifierStart(source.charAt(pos)))
+            {
+               throw invalid();
+            }
+            pos++;
+            while (!atEnd() && Character.isJavaIdentifierPart(source.charAt(pos)))
+            {
+               pos++;
+            }
+         }
+         while (consume('.'));
+         return source.substring(start, pos);
+      }
+
+      private boolean consumeKeyword(String keyword)
+      {
+         skipWhitespace();
+         int end = pos + keyword.length();
+         if (source.startsWith(keyword, pos) && (end == source.length()
+                  || !Character.isJavaIdentifierPart(source.charAt(end))))
+         {
+            pos = end;
+            return true;
+         }
+         return false;
+      }
+
+      private boolean consume(char c)
+      {
+         if (peek() == c)
+         {
+            pos++;
+            return true;
+         }
+         return false;
+      }
+
+      private void expect(char c)
+      {
+         if (!consume(c))
+         {
+            throw invalid();
+         }
+      }
+
+      private char peek()
+      {
+         return atEnd() ? 0 : source.charAt(pos);
+      }
+
+      void skipWhitespace()
+      {
+         while (!atEnd() && Character.isWhitespace(source.charAt(pos)))
+         {
+            pos++;
+         }
+      }
+
+      boolean atEnd()
+      {
+         return pos >= source.length();
+      }
+
+      IllegalArgumentException invalid()
+      {
+         return new IllegalArgumentException("Not a valid type name [" + source + "] at position " + pos);
+      }
+   }
+}
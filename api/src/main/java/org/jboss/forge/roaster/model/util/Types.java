@@ -7,11 +7,9 @@
 
 package org.jboss.forge.roaster.model.util;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Types utilities
@@ -21,21 +19,7 @@ import java.util.regex.Pattern;
  */
 public class Types
 {
-   // [B=byte,
-   // [F=float,
-   // [C=char,
-   // [D=double,
-   // [I=int,
-   // [J=long,
-   // [S=short,
-   // [Z=boolean
-   private static final Pattern CLASS_ARRAY_PATTERN = Pattern.compile("\\[+(B|F|C|D|I|J|S|Z|L)([0-9a-zA-Z\\.\\$]*);?");
-   private static final Pattern SIMPLE_ARRAY_PATTERN = Pattern
-            .compile("((?:[0-9a-zA-Z\\$]+)(?:\\<[^\\.^\\[]+)?(?:\\.(?:[0-9a-zA-Z\\$]+)(?:\\<[^\\.^\\[]+)?)*)(\\[\\])+");
-   private static final Pattern GENERIC_PATTERN = Pattern.compile(".*<.*>$");
-   private static final Pattern WILDCARD_AWARE_TYPE_PATTERN = Pattern.compile("^\\s*(\\?\\s+(?:extends|super)\\s+)?([A-Za-z$_]\\S*)\\s*$");
-
-   private static final List<String> LANG_TYPES = Arrays.asList(
+   private static final Set<String> LANG_TYPES = new HashSet<String>(Arrays.asList(
             // Interfaces
             "Appendable",
             "AutoCloseable",
@@ -136,7 +120,13 @@ public class Types
             "Override",
             "SafeVarargs",
             "SuppressWarnings"
-            );
+            ));
+
+   private static final Set<String> PRIMITIVE_TYPES = new HashSet<String>(Arrays.asList("byte", "short", "int",
+            "long", "float", "double", "boolean", "char"));
+
+   private static final Set<String> BASIC_TYPES = new HashSet<String>(Arrays.asList("Boolean", "Byte", "Double",
+            "Float", "Integer", "Long", "Short", "String"));
 
    public static boolean areEquivalent(String left, String right)
    {
@@ -174,38 +164,21 @@ public class Types
       {
          return null;
       }
-      String result = type;
-
-      if (isGeneric(type))
+      if (TypeName.isPlainName(type))
       {
-         result = stripGenerics(result);
+         return type.substring(type.lastIndexOf('.') + 1);
       }
-      String[] tokens = tokenizeClassName(result);
-      if (tokens != null)
+      TypeName typeName = parse(type);
+      if (typeName != null)
       {
-         result = tokens[tokens.length - 1];
+         return typeName.toSimpleString();
       }
       if (isGeneric(type))
       {
-         final List<String> simpleParameters = new ArrayList<String>();
-         for (String typeParameter : getGenericsTypeParameter(type).split(", "))
-         {
-            final Matcher matcher = WILDCARD_AWARE_TYPE_PATTERN.matcher(typeParameter);
-            if (!matcher.matches())
-            {
-               throw new IllegalArgumentException("Cannot parse type parameter " + typeParameter);
-            }
-            String simpleType = toSimpleName(matcher.group(2));
-            if (matcher.start(1) >= 0)
-            {
-               simpleType = new StringBuilder(matcher.group(1)).append(' ').append(simpleType).toString()
-                        .replaceAll("\\s{2,}?", " ");
-            }
-            simpleParameters.add(simpleType);
-         }
-         result += new StringBuilder("<>").insert(1, Strings.join(simpleParameters, ", ")).toString();
+         throw new IllegalArgumentException("Cannot parse type " + type);
       }
-      return result;
+      String[] tokens = tokenizeClassName(type);
+      return tokens.length == 0 ? type : tokens[tokens.length - 1];
    }
 
    public static String[] tokenizeClassName(final String className)
@@ -220,22 +193,49 @@ public class Types
 
    public static boolean isQualified(final String className)
    {
-      String[] tokens = tokenizeClassName(className);
-      return (tokens != null) && (tokens.length > 1);
+      if (className != null)
+      {
+         // a dot followed by anything but dots
+         for (int i = className.indexOf('.') + 1; i > 0 && i < className.length(); i++)
+         {
+            if (className.charAt(i) != '.')
+            {
+               return true;
+            }
+         }
+      }
+      return false;
    }
 
    public static String getPackage(final String className)
    {
-      if (className.indexOf(".") > -1)
+      if (className.indexOf('<') >= 0 || className.indexOf('[') >= 0)
       {
-         return className.substring(0, className.lastIndexOf("."));
+         TypeName typeName = parse(className);
+         if (typeName != null)
+         {
+            return typeName.getPackage();
+         }
       }
-      return "";
+      int lastDot = className.lastIndexOf('.');
+      return lastDot < 0 ? "" : className.substring(0, lastDot);
    }
 
    public static boolean isSimpleName(final String name)
    {
-      return (name != null) && name.matches("(?i)(?![0-9])[a-z0-9$_]+");
+      if (name == null || name.isEmpty() || (name.charAt(0) >= '0' && name.charAt(0) <= '9'))
+      {
+         return false;
+      }
+      for (int i = 0; i < name.length(); i++)
+      {
+         char c = name.charAt(i);
+         if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '$' || c == '_'))
+         {
+            return false;
+         }
+      }
+      return true;
    }
 
    public static boolean isJavaLang(final String type)
@@ -256,40 +256,27 @@ public class Types
 
    public static boolean isBasicType(String idType)
    {
-      return isPrimitive(idType)
-               || Arrays.asList("Boolean", "Byte", "Double", "Float", "Integer", "Long", "Short", "String").contains(
-                        idType);
+      return isPrimitive(idType) || BASIC_TYPES.contains(idType);
    }
 
    public static boolean isGeneric(final String type)
    {
-      return (type != null) && GENERIC_PATTERN.matcher(type).matches();
+      return (type != null) && type.endsWith(">") && type.indexOf('<') >= 0;
    }
 
    public static String stripGenerics(final String type)
    {
-      final String componentType;
-      final int arrayDimensions;
-      if (isArray(type))
+      if (type == null || (type.indexOf('<') < 0 && !type.startsWith("[")))
       {
-         arrayDimensions = getArrayDimension(type);
-         componentType = stripArray(type);
+         return type;
       }
-      else
-      {
-         arrayDimensions = 0;
-         componentType = type;
-      }
-      final StringBuilder result = new StringBuilder();
-      if (isGeneric(componentType))
-      {
-         result.append(componentType.replaceFirst("^([^<]*)<.*?>$", "$1"));
-      }
-      else
+      TypeName typeName = parse(type);
+      if (typeName == null)
       {
-         result.append(componentType);
+         return isGeneric(type) ? type.substring(0, type.indexOf('<')) : type;
       }
-      for (int i = 0; i < arrayDimensions; i++)
+      final StringBuilder result = new StringBuilder(typeName.getQualifiedName());
+      for (int i = 0; i < typeName.getArrayDimensions(); i++)
       {
          result.append("[]");
       }
@@ -300,7 +287,7 @@ public class Types
    {
       if (isGeneric(type))
       {
-         return new StringBuilder("<>").insert(1, getGenericsTypeParameter(type)).toString();
+         return type.substring(type.indexOf('<'));
       }
       return "";
    }
@@ -309,7 +296,7 @@ public class Types
    {
       if (isGeneric(type))
       {
-         return type.replaceFirst("^[^<]*<(.*?)>$", "$1");
+         return type.substring(type.indexOf('<') + 1, type.length() - 1);
       }
       return "";
    }
@@ -318,67 +305,42 @@ public class Types
    // [Ljava.util.Vector;
    public static boolean isArray(final String type)
    {
-      return (type != null)
-               && (SIMPLE_ARRAY_PATTERN.matcher(type).matches() || CLASS_ARRAY_PATTERN.matcher(type).matches());
+      if (type == null || type.indexOf('[') < 0)
+      {
+         return false;
+      }
+      TypeName typeName = parse(type);
+      return typeName != null && typeName.isArray();
    }
 
    public static String stripArray(final String type)
    {
-      String result = type;
-      if (isArray(type))
+      if (type == null || type.indexOf('[') < 0)
       {
-         Matcher matcher;
-         matcher = SIMPLE_ARRAY_PATTERN.matcher(type);
-         if (matcher.find())
-         {
-            result = matcher.group(1);
-         }
-         else
-         {
-            matcher = CLASS_ARRAY_PATTERN.matcher(type);
-            if (matcher.find())
-            {
-               switch (matcher.group(1).charAt(0))
-               {
-               case 'B':
-                  result = "byte";
-                  break;
-               case 'F':
-                  result = "float";
-                  break;
-               case 'C':
-                  result = "char";
-                  break;
-               case 'D':
-                  result = "double";
-                  break;
-               case 'I':
-                  result = "int";
-                  break;
-               case 'J':
-                  result = "long";
-                  break;
-               case 'S':
-                  result = "short";
-                  break;
-               case 'Z':
-                  result = "boolean";
-                  break;
-               case 'L':
-                  result = matcher.group(2);
-                  break;
-               default:
-                  throw new IllegalArgumentException("Invalid array format " + type);
-               }
-            }
-         }
+         return type;
       }
-      return result;
+      TypeName typeName = parse(type);
+      if (typeName == null || !typeName.isArray())
+      {
+         return type;
+      }
+      if (type.startsWith("["))
+      {
+         return typeName.getQualifiedName();
+      }
+      // keep the component type as written
+      int end = type.length();
+      while (end > 0 && (type.charAt(end - 1) == '[' || type.charAt(end - 1) == ']'
+               || Character.isWhitespace(type.charAt(end - 1))))
+      {
+         end--;
+      }
+      return type.substring(0, end);
    }
 
    public static boolean isPrimitive(final String result)
    {
-      return Arrays.asList("byte", "short", "int", "long", "float", "double", "boolean", "char").contains(result);
+      return PRIMITIVE_TYPES.contains(result);
    }
 
    /**
@@ -394,9 +356,9 @@ public class Types
       int count = 0;
       if (name != null)
       {
-         for (char c : name.toCharArray())
+         for (int i = 0; i < name.length(); i++)
          {
-            if (c == '[')
+            if (name.charAt(i) == '[')
             {
                count++;
             }
@@ -405,4 +367,18 @@ public class Types
       return count;
    }
 
-}
\ No newline at end of file
+   /**
+    * Parse the given type name, {@code null} if it is not a valid {@link TypeName}.
+    */
+   private static TypeName parse(final String type)
+   {
+      try
+      {
+         return TypeName.parse(type);
+      }
+      catch (IllegalArgumentException e)
+      {
+         return null;
+      }
+   }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.scan;
+
+/**
+ * Receives the declarations of a Java source as it is scanned by <code>Roaster.scan(...)</code>, without building a
+ * {@link org.jboss.forge.roaster.model.source.JavaSource} model. Events are reported in source order: the package,
+ * each import, then each type with its annotations, fields, methods and nested types. The annotations of a type or
+ * member are reported right after the type or member itself.
+ * <p>
+ * The views passed to each callback are reused by the scanner, and are only valid during that callback. Copy any
+ * value that should outlive it. All methods do nothing by default.
+ */
+public abstract class RoasterVisitor
+{
+   /**
+    * Visit the package declaration of the source.
+    */
+   public void visitPackage(String name)
+   {
+   }
+
+   /**
+    * Visit an import of the source.
+    * 
+    * @param name the imported name, without any trailing <code>.*</code>
+    * @param isStatic whether this is a static import
+    * @param isWildcard whether this is a wild-card/on-demand import
+    */
+   public void visitImport(String name, boolean isStatic, boolean isWildcard)
+   {
+   }
+
+   /**
+    * Visit a top-level or nested type. {@link #endVisitType(ScannedType)} is called once its annotations, members and
+    * nested types have been visited.
+    * 
+    * @return whether to visit the annotations, members and nested types of the given type
+    */
+   public boolean visitType(ScannedType type)
+   {
+      return true;
+   }
+
+   /**
+    * Visit an annotation of the type or member last visited.
+    */
+   public void visitAnnotation(ScannedAnnotation annotation)
+   {
+   }
+
+   /**
+    * Visit a field or enum constant of the current type.
+    */
+   public void visitField(ScannedField field)
+   {
+   }
+
+   /**
+    * Visit a method, constructor or annotation element of the current type.
+    */
+   public void visitMethod(ScannedMethod method)
+   {
+   }
+
+   /**
+    * End the visit of the given type.
+    */
+   public void endVisitType(ScannedType type)
+   {
+   }
+}
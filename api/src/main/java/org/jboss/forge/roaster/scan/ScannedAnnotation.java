@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.scan;
+
+/**
+ * An annotation reported to {@link RoasterVisitor#visitAnnotation(ScannedAnnotation)}. Only valid during the callback
+ * it was passed to.
+ */
+public interface ScannedAnnotation
+{
+   /**
+    * The name of this annotation as written in source.
+    */
+   String getName();
+
+   /**
+    * The qualified name of this annotation, resolved as {@link ScannedField#getQualifiedType()}.
+    */
+   String getQualifiedName();
+
+   /**
+    * The value of this single value annotation as written in source, <code>null</code> if not a single value
+    * annotation.
+    */
+   String getLiteralValue();
+
+   /**
+    * The value of the given member of this annotation as written in source, <code>null</code> if not specified.
+    */
+   String getLiteralValue(String name);
+
+   /**
+    * The annotated type or member.
+    */
+   ScannedElement getTarget();
+}
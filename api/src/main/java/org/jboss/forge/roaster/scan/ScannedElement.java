@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.scan;
+
+/**
+ * A declaration reported to a {@link RoasterVisitor}. Only valid during the callback it was passed to.
+ */
+public interface ScannedElement
+{
+   /**
+    * The simple name of this declaration.
+    */
+   String getName();
+
+   boolean isPublic();
+
+   boolean isProtected();
+
+   boolean isPrivate();
+
+   boolean isPackagePrivate();
+
+   boolean isStatic();
+
+   boolean isFinal();
+
+   boolean isAbstract();
+
+   /**
+    * Whether this declaration is annotated with the given annotation type, given by simple or qualified name.
+    */
+   boolean hasAnnotation(String type);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.scan;
+
+/**
+ * A field or enum constant reported to {@link RoasterVisitor#visitField(ScannedField)}. Only valid during the
+ * callback it was passed to.
+ */
+public interface ScannedField extends ScannedElement
+{
+   /**
+    * The type of this field as written in source, e.g. <code>List&lt;String&gt;</code>.
+    */
+   String getType();
+
+   /**
+    * The qualified name of the type of this field, without type arguments, e.g. <code>java.util.List</code> or
+    * <code>java.lang.String[]</code>. Simple names are resolved against the
+    * single-type imports, <code>java.lang</code> and the package of the source; a name that may only be resolved
+    * through a wild-card import is returned as written.
+    */
+   String getQualifiedType();
+
+   boolean isEnumConstant();
+
+   ScannedType getDeclaringType();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.scan;
+
+/**
+ * A method, constructor or annotation element reported to {@link RoasterVisitor#visitMethod(ScannedMethod)}. Only
+ * valid during the callback it was passed to.
+ */
+public interface ScannedMethod extends ScannedElement
+{
+   boolean isConstructor();
+
+   /**
+    * The return type of this method as written in source, <code>null</code> for a constructor.
+    */
+   String getReturnType();
+
+   /**
+    * The qualified name of the return type of this method, resolved as {@link ScannedField#getQualifiedType()}.
+    */
+   String getQualifiedReturnType();
+
+   int getParameterCount();
+
+   String getParameterName(int index);
+
+   /**
+    * The type of the parameter at the given index as written in source, e.g. <code>String...</code>.
+    */
+   String getParameterType(int index);
+
+   /**
+    * The qualified name of the type of the parameter at the given index, resolved as
+    * {@link ScannedField#getQualifiedType()}.
+    */
+   String getQualifiedParameterType(int index);
+
+   ScannedType getDeclaringType();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.scan;
+
+/**
+ * A type reported to {@link RoasterVisitor#visitType(ScannedType)}. Only valid during the callback it was passed to.
+ */
+public interface ScannedType extends ScannedElement
+{
+   /**
+    * The kind of a scanned type.
+    */
+   enum Kind
+   {
+      CLASS, INTERFACE, ENUM, ANNOTATION;
+   }
+
+   Kind getKind();
+
+   /**
+    * The qualified name of this type, e.g. <code>com.example.Outer.Inner</code> for a nested type.
+    */
+   String getQualifiedName();
+
+   /**
+    * The qualified name of the super class of this class, <code>null</code> if none is declared.
+    */
+   String getSuperType();
+
+   /**
+    * The type enclosing this nested type, <code>null</code> for a top-level type.
+    */
+   ScannedType getEnclosingType();
+}
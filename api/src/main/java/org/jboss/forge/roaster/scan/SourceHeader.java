@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.scan;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The header of a Java source, as read by <code>Roaster.peek(...)</code>: its package, its imports, and the kind,
+ * name and annotations of its first top-level type.
+ */
+public final class SourceHeader
+{
+   private final String packageName;
+   private final List<String> imports;
+   private final List<String> staticImports;
+   private final ScannedType.Kind kind;
+   private final String typeName;
+   private final List<String> annotations;
+
+   /**
+    * Create a new {@link SourceHeader}; for use by {@link org.jboss.forge.roaster.spi.JavaParser} implementations.
+    */
+   public SourceHeader(String packageName, List<String> imports, List<String> staticImports, ScannedType.Kind kind,
+            String typeName, List<String> annotations)
+   {
+      this.packageName = packageName;
+      this.imports = Collections.unmodifiableList(imports);
+      this.staticImports = Collections.unmodifiableList(staticImports);
+      this.kind = kind;
+      this.typeName = typeName;
+      this.annotations = Collections.unmodifiableList(annotations);
+   }
+
+   /**
+    * The declared package, <code>null</code> for the default package.
+    */
+   public String getPackage()
+   {
+      return packageName;
+   }
+
+   /**
+    * The names imported by single-type and on-demand imports, the latter ending with <code>.*</code>.
+    */
+   public List<String> getImports()
+   {
+      return imports;
+   }
+
+   /**
+    * The names imported by static imports, on-demand static imports ending with <code>.*</code>.
+    */
+   public List<String> getStaticImports()
+   {
+      return staticImports;
+   }
+
+   /**
+    * The kind of the first top-level type, <code>null</code> if the source declares no type, as
+    * <code>package-info.java</code>.
+    */
+   public ScannedType.Kind getKind()
+   {
+      return kind;
+   }
+
+   /**
+    * The simple name of the first top-level type, <code>null</code> if the source declares no type.
+    */
+   public String getName()
+   {
+      return typeName;
+   }
+
+   /**
+    * The qualified name of the first top-level type, <code>null</code> if the source declares no type.
+    */
+   public String getQualifiedName()
+   {
+      if (typeName == null || packageName == null)
+      {
+         return typeName;
+      }
+      return packageName + "." + typeName;
+   }
+
+   /**
+    * The annotations of the first top-level type, as written in source, e.g. <code>Entity</code>.
+    */
+   public List<String> getAnnotations()
+   {
+      return annotations;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "SourceHeader [package=" + packageName + ", imports=" + imports + ", staticImports=" + staticImports
+               + ", kind=" + kind + ", name=" + typeName + ", annotations=" + annotations + "]";
+   }
+}
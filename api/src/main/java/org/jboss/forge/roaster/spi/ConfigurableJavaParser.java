@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import java.io.InputStream;
+
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.model.JavaType;
+
+/**
+ * Optional capability of a {@link JavaParser}: parsing with {@link ParseOptions}. A {@link JavaParser} without it is
+ * only used to parse with {@link ParseOptions#DEFAULT}.
+ */
+public interface ConfigurableJavaParser
+{
+   /**
+    * Read the given {@link InputStream} and parse the data into a new {@link JavaType} instance, using the given
+    * {@link ParseOptions}.
+    * 
+    * @param data to parse
+    * @param options controlling the parse
+    * @return {@link JavaType}, {@code null} if the data format is not recognized by this parser.
+    */
+   JavaType<?> parse(final InputStream data, final ParseOptions options);
+}
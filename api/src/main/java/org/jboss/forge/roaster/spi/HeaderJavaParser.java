@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import java.io.InputStream;
+
+import org.jboss.forge.roaster.scan.SourceHeader;
+
+/**
+ * Optional capability of a {@link JavaParser}: reading only the {@link SourceHeader} of a source.
+ */
+public interface HeaderJavaParser
+{
+   /**
+    * Read only the header of the Java source in the given {@link InputStream}: its package, imports and the header of
+    * its first top-level type, without parsing the rest.
+    * 
+    * @param data to read
+    * @return {@link SourceHeader}, {@code null} if the data format is not recognized by this parser.
+    */
+   SourceHeader peek(final InputStream data);
+
+   /**
+    * Read only the header of the Java source in the given character array. See {@link #peek(InputStream)}.
+    * 
+    * @param data to read
+    * @return {@link SourceHeader}, {@code null} if the data format is not recognized by this parser.
+    */
+   SourceHeader peek(final char[] data);
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link RoasterMetrics} keeping an in-memory histogram of durations per {@link Phase} and {@link Caller}. Enable it by
+ * listing this class in {@code META-INF/services/org.jboss.forge.roaster.spi.RoasterMetrics}, and read it with
+ * {@link #getHistogram(Phase, Caller)}.
+ * <p>
+ * The histograms are shared by all instances. Durations are counted in power of two buckets, so percentiles are
+ * accurate to within a factor of two.
+ */
+public class HistogramRoasterMetrics implements RoasterMetrics
+{
+   private static final AtomicReferenceArray<Recorder> RECORDERS = new AtomicReferenceArray<Recorder>(
+            Phase.values().length * Caller.values().length);
+
+   static
+   {
+      reset();
+   }
+
+   @Override
+   public void record(Phase phase, Caller caller, long durationNanos, int sourceLength)
+   {
+      RECORDERS.get(index(phase, caller)).record(durationNanos, sourceLength);
+   }
+
+   /**
+    * Get a snapshot of the {@link Histogram} of the given {@link Phase} caused by the given {@link Caller}.
+    */
+   public static Histogram getHistogram(Phase phase, Caller caller)
+   {
+      return RECORDERS.get(index(phase, caller)).snapshot();
+   }
+
+   /**
+    * Discard everything recorded so far.
+    */
+   public static void reset()
+   {
+      for (int i = 0; i < RECORDERS.length(); i++)
+      {
+         RECORDERS.set(i, new Recorder());
+      }
+   }
+
+   private static int index(Phase phase, Caller caller)
+   {
+      return phase.ordinal() * Caller.values().length + caller.ordinal();
+   }
+
+   private static class Recorder
+   {
+      private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+      private final AtomicLong count = new AtomicLong();
+      private final AtomicLong totalNanos = new AtomicLong();
+      private final AtomicLong maxNanos = new AtomicLong();
+      private final AtomicLong totalSourceLength = new AtomicLong();
+
+      void record(long durationNanos, int sourceLength)
+      {
+         long duration = Math.max(0L, durationNanos);
+         buckets.incrementAndGet(Long.SIZE - 1 - Long.numberOfLeadingZeros(duration | 1L));
+         count.incrementAndGet();
+         totalNanos.addAndGet(duration);
+         totalSourceLength.addAndGet(sourceLength);
+         for (long max = maxNanos.get(); duration > max && !maxNanos.compareAndSet(max, duration); max = maxNanos
+                  .get())
+         {
+            // retry
+         }
+      }
+
+      Histogram snapshot()
+      {
+         long[] counts = new long[buckets.length()];
+         for (int i = 0; i < counts.length; i++)
+         {
+            counts[i] = buckets.get(i);
+         }
+         return new Histogram(counts, count.get(), totalNanos.get(), maxNanos.get(), totalSourceLength.get());
+      }
+   }
+
+   /**
+    * An immutable snapshot of the durations recorded for a {@link Phase} and {@link Caller}.
+    */
+   public static class Histogram
+   {
+      private final long[] buckets;
+      private final long count;
+      private final long totalNanos;
+      private final long maxNanos;
+      private final long totalSourceLength;
+
+      Histogram(long[] buckets, long count, long totalNanos, long maxNanos, long totalSourceLength)
+      {
+         this.buckets = buckets;
+         this.count = count;
+         this.totalNanos = totalNanos;
+         this.maxNanos = maxNanos;
+         this.totalSourceLength = totalSourceLength;
+      }
+
+      /**
+       * Number of recorded executions.
+       */
+      public long getCount()
+      {
+         return count;
+      }
+
+      /**
+       * Sum of the recorded durations, in nanoseconds.
+       */
+      public long getTotalNanos()
+      {
+         return totalNanos;
+      }
+
+      /**
+       * Longest recorded duration, in nanoseconds.
+       */
+      public long getMaxNanos()
+      {
+         return maxNanos;
+      }
+
+      /**
+       * Mean recorded duration, in nanoseconds.
+       */
+      public double getMeanNanos()
+      {
+         return count == 0 ? 0 : (double) totalNanos / count;
+      }
+
+      /**
+       * Sum of the lengths of the processed sources, in characters.
+       */
+      public long getTotalSourceLength()
+      {
+         return totalSourceLength;
+      }
+
+      /**
+       * Upper bound of the duration, in nanoseconds, below which the given percentage of the executions completed.
+       * 
+       * @param percentile between 0 and 100
+       */
+      public long getPercentileNanos(double percentile)
+      {
+         if (percentile < 0 || percentile > 100)
+         {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, was [" + percentile + "]");
+         }
+         long total = 0;
+         for (long bucketCount : buckets)
+         {
+            total += bucketCount;
+         }
+         long threshold = (long) Math.ceil(total * percentile / 100);
+         long seen = 0;
+         for (int i = 0; i < buckets.length; i++)
+         {
+            seen += buckets[i];
+            if (seen > 0 && seen >= threshold)
+            {
+               // bucket i holds durations from 2^i to 2^(i+1) - 1
+               return Math.min(maxNanos, (2L << i) - 1);
+            }
+         }
+         return 0;
+      }
+
+      @Override
+      public String toString()
+      {
+         return "Histogram [count=" + count + ", mean=" + (long) getMeanNanos() + "ns, p50="
+                  + getPercentileNanos(50) + "ns, p99=" + getPercentileNanos(99) + "ns, max=" + maxNanos + "ns]";
+      }
+   }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Source checked once by a {@link JavaParser}, from which any number of independent {@link JavaSource} instances with
+ * the same contents can be created. Each is what parsing the source would return.
+ */
+public interface JavaSourcePrototype
+{
+   /**
+    * Create a new {@link JavaSource} instance with the contents of this prototype. Modifications of the returned
+    * instance affect neither this prototype nor other instances created from it.
+    */
+   JavaSource<?> create();
+
+   /**
+    * Estimated number of bytes retained by this prototype.
+    */
+   long getRetainedSize();
+}
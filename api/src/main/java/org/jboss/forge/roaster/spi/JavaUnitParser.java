@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import java.io.InputStream;
+
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.model.source.JavaUnit;
+
+/**
+ * Optional capability of a {@link JavaParser}: parsing all top-level types of a file into a {@link JavaUnit}.
+ */
+public interface JavaUnitParser
+{
+   /**
+    * Read the given {@link InputStream} and parse the data into a new {@link JavaUnit} exposing all of its top-level
+    * types, using the given {@link ParseOptions}.
+    * 
+    * @param data to parse
+    * @param options controlling the parse
+    * @return {@link JavaUnit}, {@code null} if the data format is not recognized by this parser.
+    */
+   JavaUnit parseUnit(final InputStream data, final ParseOptions options);
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import org.jboss.forge.roaster.model.source.MemberTemplate;
+
+/**
+ * Optional capability of a {@link JavaParser}: parsing member declarations into {@link MemberTemplate}s.
+ */
+public interface MemberJavaParser
+{
+   /**
+    * Parse the given declaration of a single method or field once, into a {@link MemberTemplate} that can be added to
+    * any number of sources.
+    * 
+    * @param declaration to parse
+    * @return {@link MemberTemplate}, {@code null} if member declarations are not supported by this parser.
+    */
+   MemberTemplate parseMember(final String declaration);
+}
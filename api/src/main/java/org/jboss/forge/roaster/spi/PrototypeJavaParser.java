@@ -0,0 +1,24 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Optional capability of a {@link JavaParser}: parsing source once into a {@link JavaSourcePrototype}.
+ */
+public interface PrototypeJavaParser
+{
+   /**
+    * Parse the given {@link JavaSource} data once, into a {@link JavaSourcePrototype} for new {@link JavaSource}
+    * instances with the same contents.
+    * 
+    * @param data to parse
+    * @return {@link JavaSourcePrototype}, {@code null} if the data format is not recognized by this parser.
+    */
+   JavaSourcePrototype prototype(final String data);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+/**
+ * Listener for the timings of the expensive phases of Roaster: parsing, rewriting and formatting source code.
+ * Implementations are discovered with {@link java.util.ServiceLoader} when Roaster is first used, or added at runtime
+ * through <code>org.jboss.forge.roaster.model.util.Instrumentation</code> of roaster-jdt; when there are none, nothing
+ * is measured.
+ * <p>
+ * Listeners are called synchronously on the thread that performed the work, so they must be thread-safe and should
+ * return quickly.
+ * 
+ * @see HistogramRoasterMetrics
+ */
+public interface RoasterMetrics
+{
+   /**
+    * A measured phase.
+    */
+   enum Phase
+   {
+      /**
+       * Parsing of a compilation unit or source fragment.
+       */
+      PARSE,
+      /**
+       * Rewriting of a modified compilation unit into its source.
+       */
+      REWRITE,
+      /**
+       * Formatting of source code.
+       */
+      FORMAT;
+   }
+
+   /**
+    * Who caused the work of a {@link Phase}.
+    */
+   enum Caller
+   {
+      /**
+       * A direct request of the user, e.g. {@code Roaster.parse} or {@code JavaSource.toString()}.
+       */
+      USER,
+      /**
+       * Roaster itself, e.g. parsing a stub to create a member from a source fragment.
+       */
+      INTERNAL;
+   }
+
+   /**
+    * Record one execution of the given {@link Phase}.
+    * 
+    * @param phase the measured phase
+    * @param caller who caused the work
+    * @param durationNanos duration in nanoseconds
+    * @param sourceLength length, in characters, of the source that was processed
+    */
+   void record(Phase phase, Caller caller, long durationNanos, int sourceLength);
+}
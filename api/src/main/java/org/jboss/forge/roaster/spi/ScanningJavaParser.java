@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import java.io.InputStream;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.scan.RoasterVisitor;
+
+/**
+ * Optional capability of a {@link JavaParser}: reporting declarations to a {@link RoasterVisitor}.
+ */
+public interface ScanningJavaParser
+{
+   /**
+    * Read the given {@link InputStream} and report its declarations to the given {@link RoasterVisitor}, without
+    * creating a {@link JavaType} instance.
+    * 
+    * @param data to scan
+    * @param visitor to report to
+    * @return whether the data format is recognized by this parser.
+    */
+   boolean scan(final InputStream data, final RoasterVisitor visitor);
+}
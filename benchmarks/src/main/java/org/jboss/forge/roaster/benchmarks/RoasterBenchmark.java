@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.MethodHolderSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.jboss.forge.roaster.model.source.PropertyHolderSource;
+import org.jboss.forge.roaster.model.source.PropertySource;
+import org.jboss.forge.roaster.scan.RoasterVisitor;
+import org.jboss.forge.roaster.scan.ScannedField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the parse, mutate, serialize and format paths of Roaster, over sources of increasing size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoasterBenchmark
+{
+   /**
+    * The number of members of a generated class, or the class path resource of an existing source.
+    */
+   @Param({ "10", "100", "1000", "10000", SourceGenerator.BIG_INTERFACE })
+   public String source;
+
+   private String data;
+   private JavaSource<?> parsed;
+
+   @Setup
+   public void setup() throws Exception
+   {
+      data = SourceGenerator.getSource(source);
+      parsed = Roaster.parse(JavaSource.class, data);
+   }
+
+   @Benchmark
+   public JavaType<?> parse()
+   {
+      return Roaster.parse(data);
+   }
+
+   @Benchmark
+   public int scan()
+   {
+      final int[] fields = new int[1];
+      Roaster.scan(data, new RoasterVisitor()
+      {
+         @Override
+         public void visitField(ScannedField field)
+         {
+            fields[0] += field.getQualifiedType().length();
+         }
+      });
+      return fields[0];
+   }
+
+   @Benchmark
+   public String toUnformattedString()
+   {
+      return parsed.toUnformattedString();
+   }
+
+   @Benchmark
+   public String toFormattedString()
+   {
+      return parsed.toString();
+   }
+
+   @Benchmark
+   public String format()
+   {
+      return Roaster.format(data);
+   }
+
+   /**
+    * Adds a method to the shared source and removes it again, so that the source keeps its size across invocations.
+    */
+   @Benchmark
+   public Object addMethod()
+   {
+      return addAndRemoveMethod((MethodHolderSource<?>) parsed);
+   }
+
+   @Benchmark
+   public String resolveType()
+   {
+      parsed.resolveType("List");
+      parsed.resolveType("Serializable");
+      parsed.resolveType("ConcurrentMap");
+      return parsed.resolveType("Integer");
+   }
+
+   @Benchmark
+   public List<? extends PropertySource<?>> getProperties()
+   {
+      return ((PropertyHolderSource<?>) parsed).getProperties();
+   }
+
+   private static <O extends JavaSource<O>> O addAndRemoveMethod(MethodHolderSource<O> holder)
+   {
+      MethodSource<O> method = holder.addMethod("public String benchmark(int count) { return String.valueOf(count); }");
+      return holder.removeMethod(method);
+   }
+}
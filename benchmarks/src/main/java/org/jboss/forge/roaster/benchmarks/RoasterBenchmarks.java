@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the usual JMH command line options, defaulting to the allocation rates reported by the
+ * {@link GCProfiler} and to JSON results in {@code roaster-benchmarks.json}, so that releases can be compared.
+ */
+public final class RoasterBenchmarks
+{
+   private RoasterBenchmarks()
+   {
+   }
+
+   public static void main(String[] args) throws Exception
+   {
+      CommandLineOptions commandLine = new CommandLineOptions(args);
+      ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+      if (commandLine.getIncludes().isEmpty())
+      {
+         options.include(RoasterBenchmark.class.getSimpleName());
+      }
+      if (commandLine.getProfilers().isEmpty())
+      {
+         options.addProfiler(GCProfiler.class);
+      }
+      if (!commandLine.getResultFormat().hasValue())
+      {
+         options.resultFormat(ResultFormatType.JSON);
+      }
+      if (!commandLine.getResult().hasValue())
+      {
+         options.result("roaster-benchmarks.json");
+      }
+      new Runner(options.build()).run();
+   }
+}
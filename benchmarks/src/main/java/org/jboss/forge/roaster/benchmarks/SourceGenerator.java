@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+/**
+ * Provides the sources benchmarked by {@link RoasterBenchmark}: either generated classes of a given size, or a source
+ * loaded from the class path.
+ */
+public final class SourceGenerator
+{
+   /**
+    * Class path resource of the large interface also used by the parser tests.
+    */
+   public static final String BIG_INTERFACE = "org/jboss/forge/grammar/java/BigInterface.java";
+
+   private static final String[] TYPES = { "String", "int", "List<String>", "Map<String, Long>",
+            "ConcurrentMap<String, Object>", "Serializable" };
+
+   private SourceGenerator()
+   {
+   }
+
+   /**
+    * Get the source described by the given benchmark parameter: a number of members to generate a class with, or the
+    * name of a class path resource.
+    */
+   public static String getSource(String param) throws IOException
+   {
+      if (param.matches("\\d+"))
+      {
+         return generateClass(Integer.parseInt(param));
+      }
+      return load(param);
+   }
+
+   /**
+    * Generate a class with the given number of members: fields with a getter and setter each, and a few methods with
+    * bodies, all using imported types so that their resolution is exercised.
+    */
+   public static String generateClass(int members)
+   {
+      StringBuilder sb = new StringBuilder(members * 120);
+      sb.append("package org.example.generated;\n\n");
+      sb.append("import java.io.Serializable;\n");
+      sb.append("import java.util.List;\n");
+      sb.append("import java.util.Map;\n");
+      sb.append("import java.util.concurrent.*;\n\n");
+      sb.append("/**\n * Generated with ").append(members).append(" members.\n */\n");
+      sb.append("public class Generated").append(members).append(" implements Serializable\n{\n");
+      sb.append("   private static final long serialVersionUID = 1L;\n");
+
+      int i = 0;
+      for (int n = 1; n < members; i++)
+      {
+         String type = TYPES[i % TYPES.length];
+         String property = "property" + i;
+         String accessor = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+         sb.append("\n   private ").append(type).append(' ').append(property).append(";\n");
+         n++;
+         if (i % 10 == 9 && n < members)
+         {
+            sb.append("\n   /**\n    * Computes a value from {@link #").append(property).append("}.\n    */\n");
+            sb.append("   public int compute").append(accessor).append("(int seed)\n   {\n");
+            sb.append("      int result = seed;\n");
+            sb.append("      for (int j = 0; j < ").append(i).append("; j++)\n      {\n");
+            sb.append("         result = 31 * result + j;\n      }\n");
+            sb.append("      return result;\n   }\n");
+            n++;
+         }
+         if (n < members)
+         {
+            sb.append("\n   public ").append(type).append(" get").append(accessor).append("()\n   {\n");
+            sb.append("      return ").append(property).append(";\n   }\n");
+            n++;
+         }
+         if (n < members)
+         {
+            sb.append("\n   public void set").append(accessor).append("(final ").append(type).append(' ')
+                     .append(property).append(")\n   {\n");
+            sb.append("      this.").append(property).append(" = ").append(property).append(";\n   }\n");
+            n++;
+         }
+      }
+      sb.append("}\n");
+      return sb.toString();
+   }
+
+   private static String load(String resource) throws IOException
+   {
+      InputStream stream = SourceGenerator.class.getClassLoader().getResourceAsStream(resource);
+      if (stream == null)
+      {
+         throw new IllegalArgumentException("Source [" + resource + "] not found on the class path");
+      }
+      try
+      {
+         Reader reader = new InputStreamReader(stream, "UTF-8");
+         StringBuilder sb = new StringBuilder();
+         char[] buf = new char[8192];
+         for (int read; (read = reader.read(buf)) >= 0;)
+         {
+            sb.append(buf, 0, read);
+         }
+         return sb.toString();
+      }
+      finally
+      {
+         stream.close();
+      }
+   }
+}
@@ -55,7 +55,21 @@ public class AnnotationAccessor<O extends JavaSource<O>, T>
       }
       AnnotationSource<O> annotation = new AnnotationImpl<O, T>(target);
       iter.add((IExtendedModifier) annotation.getInternal());
-      return annotation;
+      return NodeCache.put(annotation.getInternal(), target, AnnotationImpl.class, annotation);
+   }
+
+   /**
+    * Get the wrapper of the given annotation node, cached on the node for the given target.
+    */
+   @SuppressWarnings("unchecked")
+   private AnnotationSource<O> annotation(final AnnotationTargetSource<O, T> target, final Object internal)
+   {
+      AnnotationSource<O> result = NodeCache.get(internal, target, AnnotationImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(internal, target, AnnotationImpl.class, new AnnotationImpl<O, T>(target, internal));
+      }
+      return result;
    }
 
    public AnnotationSource<O> addAnnotation(final AnnotationTargetSource<O, T> target, final ASTNode body,
@@ -113,7 +127,7 @@ public class AnnotationAccessor<O extends JavaSource<O>, T>
       {
          if (object instanceof org.eclipse.jdt.core.dom.Annotation)
          {
-            AnnotationSource<O> annotation = new AnnotationImpl<O, T>(target, object);
+            AnnotationSource<O> annotation = annotation(target, object);
             result.add(annotation);
          }
       }
@@ -168,7 +182,7 @@ public class AnnotationAccessor<O extends JavaSource<O>, T>
       {
          if (object instanceof org.eclipse.jdt.core.dom.Annotation)
          {
-            AnnotationSource<O> annotation = new AnnotationImpl<O, T>(target, object);
+            AnnotationSource<O> annotation = annotation(target, object);
             String annotationType = annotation.getName();
             if (Types.areEquivalent(type, annotationType))
             {
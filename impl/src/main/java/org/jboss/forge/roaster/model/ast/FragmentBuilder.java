@@ -0,0 +1,450 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PrimitiveType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.WildcardType;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.jboss.forge.roaster.model.util.Instrumentation;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Caller;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
+
+/**
+ * Creates JDT nodes for source fragments (types, parameters, statements, expressions and member declarations) directly
+ * in a target {@link AST}, without parsing a throwaway compilation unit.
+ * <p>
+ * Type names and simple parameter lists are handled by a hand-written parser; everything else is parsed with the
+ * matching {@link ASTParser} kind and copied into the target {@link AST}.
+ */
+public class FragmentBuilder
+{
+   private static final Map<?, ?> OPTIONS;
+
+   static
+   {
+      @SuppressWarnings("unchecked")
+      Map<Object, Object> options = JavaCore.getOptions();
+      options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_8);
+      options.put(CompilerOptions.OPTION_Encoding, "UTF-8");
+      OPTIONS = Collections.unmodifiableMap(options);
+   }
+
+   /**
+    * Create a {@link Type} in the given {@link AST} for the given type name, e.g. {@code int[]},
+    * {@code java.util.Map<String, ? extends Number>}.
+    */
+   public static Type newType(final AST ast, final String typeName)
+   {
+      Type result = null;
+      try
+      {
+         TypeNameParser parser = new TypeNameParser(ast, typeName);
+         result = parser.parseType();
+         if (!parser.atEnd())
+         {
+            result = null;
+         }
+      }
+      catch (IllegalArgumentException e)
+      {
+         // not a name the hand-written parser understands, e.g. annotated types or keywords
+         result = null;
+      }
+      if (result == null)
+      {
+         List<BodyDeclaration> declarations = newBodyDeclarations(ast, typeName + " field;");
+         if (declarations.isEmpty() || !(declarations.get(0) instanceof FieldDeclaration))
+         {
+            throw new IllegalArgumentException("Not a valid type name [" + typeName + "]");
+         }
+         FieldDeclaration field = (FieldDeclaration) declarations.get(0);
+         result = field.getType();
+         field.setType(ast.newPrimitiveType(PrimitiveType.INT));
+      }
+      return result;
+   }
+
+   /**
+    * Create the {@link SingleVariableDeclaration} list for the given parameter list, e.g.
+    * {@code final int foo, String... bar}.
+    */
+   public static List<SingleVariableDeclaration> newParameters(final AST ast, final String parameters)
+   {
+      List<SingleVariableDeclaration> result = new ArrayList<SingleVariableDeclaration>();
+      if (parameters == null || parameters.trim().isEmpty())
+      {
+         return result;
+      }
+      try
+      {
+         for (String parameter : splitTopLevel(parameters))
+         {
+            SingleVariableDeclaration declaration = newParameter(ast, parameter.trim());
+            if (declaration == null)
+            {
+               result = null;
+               break;
+            }
+            result.add(declaration);
+         }
+      }
+      catch (IllegalArgumentException e)
+      {
+         result = null;
+      }
+      if (result == null)
+      {
+         result = new ArrayList<SingleVariableDeclaration>();
+         List<BodyDeclaration> declarations = newBodyDeclarations(ast, "void method(" + parameters + ") {}");
+         if (declarations.isEmpty() || !(declarations.get(0) instanceof MethodDeclaration))
+         {
+            throw new IllegalArgumentException("Not a valid parameter list [" + parameters + "]");
+         }
+         MethodDeclaration method = (MethodDeclaration) declarations.get(0);
+         @SuppressWarnings("unchecked")
+         List<SingleVariableDeclaration> parsed = method.parameters();
+         result.addAll(parsed);
+         parsed.clear();
+      }
+      return result;
+   }
+
+   /**
+    * Create a {@link Block} containing the given statements.
+    */
+   public static Block newBlock(final AST ast, final String statements)
+   {
+      return (Block) ASTNode.copySubtree(ast, parse(ASTParser.K_STATEMENTS, statements));
+   }
+
+   /**
+    * Create an {@link Expression} for the given source. A trailing statement terminator is ignored.
+    */
+   public static Expression newExpression(final AST ast, final String expression)
+   {
+      String source = expression.trim();
+      while (source.endsWith(";"))
+      {
+         source = source.substring(0, source.length() - 1).trim();
+      }
+      ASTNode result = parse(ASTParser.K_EXPRESSION, source);
+      if (!(result instanceof Expression))
+      {
+         throw new IllegalArgumentException("Not a valid expression [" + expression + "]");
+      }
+      return (Expression) ASTNode.copySubtree(ast, result);
+   }
+
+   /**
+    * Create the {@link BodyDeclaration}s (fields, methods, nested types) declared by the given source.
+    */
+   @SuppressWarnings("unchecked")
+   public static List<BodyDeclaration> newBodyDeclarations(final AST ast, final String declarations)
+   {
+      ASTNode result = parse(ASTParser.K_CLASS_BODY_DECLARATIONS, declarations);
+      if (!(result instanceof TypeDeclaration))
+      {
+         throw new IllegalArgumentException("Not a valid member declaration [" + declarations + "]");
+      }
+      return ASTNode.copySubtrees(ast, ((TypeDeclaration) result).bodyDeclarations());
+   }
+
+   private static ASTNode parse(final int kind, final String source)
+   {
+      long start = Instrumentation.start();
+      ASTParser parser = ASTParser.newParser(AST.JLS8);
+      parser.setCompilerOptions(OPTIONS);
+      parser.setKind(kind);
+      parser.setStatementsRecovery(true);
+      parser.setSource(source.toCharArray());
+      ASTNode result = parser.createAST(null);
+      Instrumentation.record(Phase.PARSE, Caller.INTERNAL, start, source.length());
+      return result;
+   }
+
+   @SuppressWarnings("unchecked")
+   private static SingleVariableDeclaration newParameter(final AST ast, final String parameter)
+   {
+      String remaining = parameter;
+      boolean fin = false;
+      while (remaining.startsWith("final") && remaining.length() > 5
+               && Character.isWhitespace(remaining.charAt(5)))
+      {
+         fin = true;
+         remaining = remaining.substring(5).trim();
+      }
+      if (remaining.isEmpty() || remaining.charAt(0) == '@' || !Character.isJavaIdentifierPart(lastChar(remaining)))
+      {
+         // annotations and C-style array declarators are left to the JDT parser
+         return null;
+      }
+      int nameStart = remaining.length();
+      while (nameStart > 0 && Character.isJavaIdentifierPart(remaining.charAt(nameStart - 1)))
+      {
+         nameStart--;
+      }
+      String name = remaining.substring(nameStart);
+      String typeName = remaining.substring(0, nameStart).trim();
+      boolean varargs = typeName.endsWith("...");
+      if (varargs)
+      {
+         typeName = typeName.substring(0, typeName.length() - 3).trim();
+      }
+      if (typeName.isEmpty())
+      {
+         return null;
+      }
+      TypeNameParser parser = new TypeNameParser(ast, typeName);
+      Type type = parser.parseType();
+      if (type == null || !parser.atEnd())
+      {
+         return null;
+      }
+
+      SingleVariableDeclaration result = ast.newSingleVariableDeclaration();
+      if (fin)
+      {
+         result.modifiers().add(ast.newModifier(ModifierKeyword.FINAL_KEYWORD));
+      }
+      result.setType(type);
+      result.setVarargs(varargs);
+      result.setName(ast.newSimpleName(name));
+      return result;
+   }
+
+   private static char lastChar(final String value)
+   {
+      return value.charAt(value.length() - 1);
+   }
+
+   private static List<String> splitTopLevel(final String value)
+   {
+      List<String> result = new ArrayList<String>();
+      int depth = 0;
+      int start = 0;
+      for (int i = 0; i < value.length(); i++)
+      {
+         char c = value.charAt(i);
+         if (c == '<' || c == '(' || c == '[')
+         {
+            depth++;
+         }
+         else if (c == '>' || c == ')' || c == ']')
+         {
+            depth--;
+         }
+         else if (c == ',' && depth == 0)
+         {
+            result.add(value.substring(start, i));
+            start = i + 1;
+         }
+      }
+      result.add(value.substring(start));
+      return result;
+   }
+
+   /**
+    * Single-pass recursive descent parser for Java type names. Returns {@code null} (rather than failing) for any input
+    * it does not understand, so that callers can fall back to the JDT parser.
+    */
+   private static class TypeNameParser
+   {
+      private final AST ast;
+      private final String source;
+      private int pos;
+
+      TypeNameParser(final AST ast, final String source)
+      {
+         this.ast = ast;
+         this.source = source;
+      }
+
+      boolean atEnd()
+      {
+         skipWhitespace();
+         return pos == source.length();
+      }
+
+      @SuppressWarnings("unchecked")
+      Type parseType()
+      {
+         skipWhitespace();
+         if (peek() == '?')
+         {
+            pos++;
+            WildcardType wildcard = ast.newWildcardType();
+            String keyword = peekIdentifier();
+            if ("extends".equals(keyword) || "super".equals(keyword))
+            {
+               readIdentifier();
+               Type bound = parseType();
+               if (bound == null)
+               {
+                  return null;
+               }
+               wildcard.setBound(bound, "extends".equals(keyword));
+            }
+            return wildcard;
+         }
+
+         String identifier = readIdentifier();
+         if (identifier == null)
+         {
+            return null;
+         }
+         Type result;
+         PrimitiveType.Code primitive = PrimitiveType.toCode(identifier);
+         if (primitive != null)
+         {
+            result = ast.newPrimitiveType(primitive);
+         }
+         else
+         {
+            Name name = ast.newSimpleName(identifier);
+            result = null;
+            while (true)
+            {
+               skipWhitespace();
+               if (peek() == '<')
+               {
+                  pos++;
+                  ParameterizedType parameterized = ast.newParameterizedType(result == null ? ast.newSimpleType(name)
+                           : result);
+                  skipWhitespace();
+                  if (peek() != '>')
+                  {
+                     do
+                     {
+                        Type argument = parseType();
+                        if (argument == null)
+                        {
+                           return null;
+                        }
+                        parameterized.typeArguments().add(argument);
+                        skipWhitespace();
+                     }
+                     while (consume(','));
+                  }
+                  if (!consume('>'))
+                  {
+                     return null;
+                  }
+                  result = parameterized;
+                  name = null;
+               }
+               else if (peek() == '.' && !source.startsWith("...", pos))
+               {
+                  pos++;
+                  String segment = readIdentifier();
+                  if (segment == null)
+                  {
+                     return null;
+                  }
+                  if (name != null)
+                  {
+                     name = ast.newQualifiedName(name, ast.newSimpleName(segment));
+                  }
+                  else
+                  {
+                     result = ast.newQualifiedType(result, ast.newSimpleName(segment));
+                  }
+               }
+               else
+               {
+                  break;
+               }
+            }
+            if (name != null)
+            {
+               result = result == null ? ast.newSimpleType(name) : result;
+            }
+         }
+
+         int dimensions = 0;
+         skipWhitespace();
+         while (peek() == '[')
+         {
+            pos++;
+            skipWhitespace();
+            if (!consume(']'))
+            {
+               return null;
+            }
+            dimensions++;
+            skipWhitespace();
+         }
+         return dimensions == 0 ? result : ast.newArrayType(result, dimensions);
+      }
+
+      private boolean consume(final char c)
+      {
+         skipWhitespace();
+         if (peek() == c)
+         {
+            pos++;
+            return true;
+         }
+         return false;
+      }
+
+      private char peek()
+      {
+         return pos < source.length() ? source.charAt(pos) : 0;
+      }
+
+      private String peekIdentifier()
+      {
+         int mark = pos;
+         String result = readIdentifier();
+         pos = mark;
+         return result;
+      }
+
+      private String readIdentifier()
+      {
+         skipWhitespace();
+         if (pos >= source.length() || !Character.isJavaIdentifierStart(source.charAt(pos)))
+         {
+            return null;
+         }
+         int start = pos++;
+         while (pos < source.length() && Character.isJavaIdentifierPart(source.charAt(pos)))
+         {
+            pos++;
+         }
+         return source.substring(start, pos);
+      }
+
+      private void skipWhitespace()
+      {
+         while (pos < source.length() && Character.isWhitespace(source.charAt(pos)))
+         {
+            pos++;
+         }
+      }
+   }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.jboss.forge.roaster.scan.ScannedType;
+import org.jboss.forge.roaster.scan.SourceHeader;
+
+/**
+ * Reads the {@link SourceHeader} of a Java source from the token stream of the JDT {@link Scanner}, stopping at the
+ * name of the first top-level type. No AST is built.
+ */
+public class HeaderScanner
+{
+   private final Scanner scanner;
+   private int pushedBack = -1;
+
+   private String packageName;
+   private final List<String> imports = new ArrayList<String>();
+   private final List<String> staticImports = new ArrayList<String>();
+   private final List<String> annotations = new ArrayList<String>();
+
+   private HeaderScanner(char[] source, int length)
+   {
+      scanner = new Scanner(false, false, false, ClassFileConstants.JDK1_8, null, null, false);
+      scanner.setSource(source);
+      scanner.resetTo(0, length - 1);
+   }
+
+   /**
+    * Read the header of the given source.
+    * 
+    * @return {@link SourceHeader}, with no type if the source is malformed before the name of its first type
+    */
+   public static SourceHeader scan(char[] source)
+   {
+      return scan(source, source.length);
+   }
+
+   /**
+    * Read the header of the source held by the first <code>length</code> characters of the given array.
+    * 
+    * @return {@link SourceHeader}, with no type if the source is malformed before the name of its first type
+    */
+   public static SourceHeader scan(char[] source, int length)
+   {
+      return new HeaderScanner(source, length).scan();
+   }
+
+   /**
+    * Read the header of a source of which only the first <code>length</code> characters of the given array are
+    * available so far.
+    * 
+    * @return {@link SourceHeader}, or {@code null} if the header might continue past the available characters
+    */
+   public static SourceHeader scanPrefix(char[] source, int length)
+   {
+      HeaderScanner headerScanner = new HeaderScanner(source, length);
+      SourceHeader result = headerScanner.scan();
+      // tokens ending at the last available character may be cut short
+      return headerScanner.scanner.currentPosition < length ? result : null;
+   }
+
+   private SourceHeader scan()
+   {
+      ScannedType.Kind kind = null;
+      String typeName = null;
+      try
+      {
+         int token = next();
+         // annotations preceding the package declaration, as in package-info.java
+         List<String> packageAnnotations = new ArrayList<String>();
+         token = annotations(token, packageAnnotations);
+         if (token == TerminalTokens.TokenNamepackage)
+         {
+            packageName = qualifiedName(next(), false);
+            token = next();
+         }
+         else
+         {
+            annotations.addAll(packageAnnotations);
+         }
+         while (token == TerminalTokens.TokenNameimport || token == TerminalTokens.TokenNameSEMICOLON)
+         {
+            if (token == TerminalTokens.TokenNameimport)
+            {
+               token = next();
+               if (token == TerminalTokens.TokenNamestatic)
+               {
+                  staticImports.add(qualifiedName(next(), true));
+               }
+               else
+               {
+                  imports.add(qualifiedName(token, true));
+               }
+            }
+            token = next();
+         }
+         while (true)
+         {
+            token = annotations(token, annotations);
+            if (!isModifier(token))
+            {
+               break;
+            }
+            token = next();
+         }
+         switch (token)
+         {
+         case TerminalTokens.TokenNameclass:
+            kind = ScannedType.Kind.CLASS;
+            break;
+         case TerminalTokens.TokenNameinterface:
+            kind = ScannedType.Kind.INTERFACE;
+            break;
+         case TerminalTokens.TokenNameenum:
+            kind = ScannedType.Kind.ENUM;
+            break;
+         case TerminalTokens.TokenNameAT:
+            if (next() == TerminalTokens.TokenNameinterface)
+            {
+               kind = ScannedType.Kind.ANNOTATION;
+            }
+            break;
+         default:
+            break;
+         }
+         if (kind != null)
+         {
+            if (next() == TerminalTokens.TokenNameIdentifier)
+            {
+               typeName = new String(scanner.getCurrentIdentifierSource());
+            }
+            else
+            {
+               kind = null;
+            }
+         }
+      }
+      catch (InvalidInputException e)
+      {
+         kind = null;
+         typeName = null;
+      }
+      if (kind == null)
+      {
+         annotations.clear();
+      }
+      return new SourceHeader(packageName, imports, staticImports, kind, typeName, annotations);
+   }
+
+   /**
+    * Read any annotations starting at the given token into <code>names</code>, skipping their arguments.
+    * 
+    * @return the first token following the annotations
+    */
+   private int annotations(int token, List<String> names) throws InvalidInputException
+   {
+      while (token == TerminalTokens.TokenNameAT)
+      {
+         token = next();
+         if (token != TerminalTokens.TokenNameIdentifier)
+         {
+            // @interface
+            pushBack(token);
+            return TerminalTokens.TokenNameAT;
+         }
+         names.add(qualifiedName(token, false));
+         token = next();
+         if (token == TerminalTokens.TokenNameLPAREN)
+         {
+            for (int depth = 1; depth > 0;)
+            {
+               token = next();
+               if (token == TerminalTokens.TokenNameLPAREN)
+               {
+                  depth++;
+               }
+               else if (token == TerminalTokens.TokenNameRPAREN)
+               {
+                  depth--;
+               }
+               else if (token == TerminalTokens.TokenNameEOF)
+               {
+                  return token;
+               }
+            }
+            token = next();
+         }
+      }
+      return token;
+   }
+
+   /**
+    * Read a dotted name starting at the given identifier token, leaving the token following it pushed back.
+    */
+   private String qualifiedName(int token, boolean allowWildcard) throws InvalidInputException
+   {
+      StringBuilder result = new StringBuilder();
+      while (token == TerminalTokens.TokenNameIdentifier)
+      {
+         result.append(scanner.getCurrentIdentifierSource());
+         token = next();
+         if (token != TerminalTokens.TokenNameDOT)
+         {
+            break;
+         }
+         result.append('.');
+         token = next();
+         if (allowWildcard && token == TerminalTokens.TokenNameMULTIPLY)
+         {
+            result.append('*');
+            token = next();
+            break;
+         }
+      }
+      pushBack(token);
+      return result.toString();
+   }
+
+   private static boolean isModifier(int token)
+   {
+      switch (token)
+      {
+      case TerminalTokens.TokenNamepublic:
+      case TerminalTokens.TokenNameprotected:
+      case TerminalTokens.TokenNameprivate:
+      case TerminalTokens.TokenNameabstract:
+      case TerminalTokens.TokenNamefinal:
+      case TerminalTokens.TokenNamestatic:
+      case TerminalTokens.TokenNamestrictfp:
+         return true;
+      default:
+         return false;
+      }
+   }
+
+   private int next() throws InvalidInputException
+   {
+      if (pushedBack >= 0)
+      {
+         int result = pushedBack;
+         pushedBack = -1;
+         return result;
+      }
+      return scanner.getNextToken();
+   }
+
+   private void pushBack(int token)
+   {
+      pushedBack = token;
+   }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+/**
+ * Supports ASTs parsed with method bodies ignored: such bodies are left empty and are parsed from the original source
+ * only when requested. Unmodified empty bodies are written back from the original source on rewrite, so they survive
+ * {@link Object#toString()} untouched.
+ */
+public class MethodBodies
+{
+   /**
+    * Property of an ignored {@link Block}, holding the complete source it was parsed from.
+    */
+   private static final String SOURCE = MethodBodies.class.getName() + ".source";
+
+   /**
+    * Property of an ignored {@link Block}, caching its parsed counterpart.
+    */
+   private static final String PARSED = MethodBodies.class.getName() + ".parsed";
+
+   private MethodBodies()
+   {
+   }
+
+   /**
+    * Mark the (empty) method bodies of the given node, parsed from the given source with method bodies ignored, so
+    * they can be parsed on demand.
+    */
+   public static void markIgnored(ASTNode node, final String source)
+   {
+      node.accept(new ASTVisitor()
+      {
+         @Override
+         public boolean visit(MethodDeclaration method)
+         {
+            if (method.getBody() != null)
+            {
+               method.getBody().setProperty(SOURCE, source);
+            }
+            return true;
+         }
+      });
+   }
+
+   /**
+    * Return the body of the given method, parsing it from the original source if it was ignored. The returned
+    * {@link Block} of an ignored body is detached and must not be modified.
+    */
+   public static Block getBody(MethodDeclaration method)
+   {
+      Block body = method.getBody();
+      if (body == null || body.getProperty(SOURCE) == null)
+      {
+         return body;
+      }
+      Block result = (Block) body.getProperty(PARSED);
+      if (result == null)
+      {
+         result = FragmentBuilder.newBlock(body.getAST(), getSource(body));
+         body.setProperty(PARSED, result);
+      }
+      return result;
+   }
+
+   /**
+    * Copy the given node into the given {@link AST}, parsing the method bodies of the copy that were ignored in the
+    * node. The node itself is left untouched.
+    */
+   @SuppressWarnings("unchecked")
+   public static <T extends ASTNode> T copySubtree(AST ast, T node)
+   {
+      T copy = (T) ASTNode.copySubtree(ast, node);
+      copyMarks(node, copy);
+      loadAll(copy);
+      return copy;
+   }
+
+   /**
+    * Replace every ignored method body below the given node with its parsed counterpart.
+    */
+   private static void loadAll(ASTNode node)
+   {
+      final List<MethodDeclaration> methods = new ArrayList<MethodDeclaration>();
+      node.accept(new ASTVisitor()
+      {
+         @Override
+         public boolean visit(MethodDeclaration method)
+         {
+            if (method.getBody() != null && method.getBody().getProperty(SOURCE) != null)
+            {
+               methods.add(method);
+            }
+            return true;
+         }
+      });
+      for (MethodDeclaration method : methods)
+      {
+         method.setBody(FragmentBuilder.newBlock(method.getAST(), getSource(method.getBody())));
+      }
+   }
+
+   /**
+    * Mark the method bodies of the given copy that were ignored in the given node it was copied from, so they too can
+    * be parsed on demand.
+    */
+   public static void copyMarks(ASTNode node, ASTNode copy)
+   {
+      List<Block> bodies = getBodies(node);
+      List<Block> copies = getBodies(copy);
+      for (int i = 0; i < bodies.size(); i++)
+      {
+         Block body = bodies.get(i);
+         if (body != null && body.getProperty(SOURCE) != null)
+         {
+            copies.get(i).setProperty(SOURCE, body.getProperty(SOURCE));
+         }
+      }
+   }
+
+   private static List<Block> getBodies(ASTNode node)
+   {
+      final List<Block> result = new ArrayList<Block>();
+      node.accept(new ASTVisitor()
+      {
+         @Override
+         public boolean visit(MethodDeclaration method)
+         {
+            result.add(method.getBody());
+            return true;
+         }
+      });
+      return result;
+   }
+
+   /**
+    * Return the statements between the braces of the given ignored {@link Block}.
+    */
+   private static String getSource(Block body)
+   {
+      String source = (String) body.getProperty(SOURCE);
+      return source.substring(body.getStartPosition() + 1, body.getStartPosition() + body.getLength() - 1);
+   }
+}
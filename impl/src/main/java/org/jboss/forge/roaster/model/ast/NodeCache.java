@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.ast;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+
+/**
+ * Caches the model wrapper of an {@link ASTNode} as a property of the node, so that repeated accessor calls return the
+ * same instance. A wrapper is only returned to the owner it was cached for; node properties do not count as AST
+ * modifications and are not copied with the node.
+ */
+public final class NodeCache
+{
+   private NodeCache()
+   {
+   }
+
+   /**
+    * Get the wrapper of the given type cached on the given node for the given owner, <code>null</code> if there is
+    * none.
+    */
+   public static <W> W get(Object node, Object owner, Class<W> type)
+   {
+      if (node instanceof ASTNode)
+      {
+         Object entry = ((ASTNode) node).getProperty(type.getName());
+         if (entry instanceof Entry && ((Entry) entry).owner == owner)
+         {
+            return type.cast(((Entry) entry).wrapper);
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Cache the given wrapper of the given type on the given node for the given owner, replacing any wrapper of the
+    * same type cached for another owner.
+    *
+    * @return the wrapper
+    */
+   public static <W> W put(Object node, Object owner, Class<?> type, W wrapper)
+   {
+      if (node instanceof ASTNode)
+      {
+         ((ASTNode) node).setProperty(type.getName(), new Entry(owner, wrapper));
+      }
+      return wrapper;
+   }
+
+   private static class Entry
+   {
+      final Object owner;
+      final Object wrapper;
+
+      Entry(Object owner, Object wrapper)
+      {
+         this.owner = owner;
+         this.wrapper = wrapper;
+      }
+   }
+}
@@ -0,0 +1,672 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.ast;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnnotationTypeMemberDeclaration;
+import org.eclipse.jdt.core.dom.ArrayType;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MarkerAnnotation;
+import org.eclipse.jdt.core.dom.MemberValuePair;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.NormalAnnotation;
+import org.eclipse.jdt.core.dom.PackageDeclaration;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PrimitiveType;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleMemberAnnotation;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.jboss.forge.roaster.model.util.Types;
+import org.jboss.forge.roaster.scan.RoasterVisitor;
+import org.jboss.forge.roaster.scan.ScannedAnnotation;
+import org.jboss.forge.roaster.scan.ScannedElement;
+import org.jboss.forge.roaster.scan.ScannedField;
+import org.jboss.forge.roaster.scan.ScannedMethod;
+import org.jboss.forge.roaster.scan.ScannedType;
+
+/**
+ * Reports the declarations of a {@link org.eclipse.jdt.core.dom.CompilationUnit} to a {@link RoasterVisitor} through
+ * flyweight views, which are repointed at each declaration instead of being allocated for it. Type names are resolved
+ * against the imports seen so far, without consulting any
+ * {@link org.jboss.forge.roaster.spi.WildcardImportResolver}.
+ */
+public class ScanningVisitor extends ASTVisitor
+{
+   private final RoasterVisitor visitor;
+
+   private String packageName;
+   private final Map<String, String> imports = new HashMap<String, String>();
+   private boolean wildcardImports;
+   private final Map<String, String> resolved = new HashMap<String, String>();
+
+   /**
+    * One view per nesting depth, so that the views of enclosing types stay valid while nested types are visited.
+    */
+   private final List<TypeView> types = new ArrayList<TypeView>();
+   private int depth;
+   private final FieldView field = new FieldView();
+   private final MethodView method = new MethodView();
+   private final AnnotationView annotation = new AnnotationView();
+
+   public ScanningVisitor(RoasterVisitor visitor)
+   {
+      this.visitor = visitor;
+   }
+
+   @Override
+   public boolean visit(PackageDeclaration node)
+   {
+      packageName = node.getName().getFullyQualifiedName();
+      visitor.visitPackage(packageName);
+      return false;
+   }
+
+   @Override
+   public boolean visit(ImportDeclaration node)
+   {
+      String name = node.getName().getFullyQualifiedName();
+      if (node.isOnDemand())
+      {
+         wildcardImports |= !node.isStatic();
+      }
+      else if (!node.isStatic())
+      {
+         imports.put(Types.toSimpleName(name), name);
+      }
+      visitor.visitImport(name, node.isStatic(), node.isOnDemand());
+      return false;
+   }
+
+   @Override
+   public boolean visit(TypeDeclaration node)
+   {
+      return visitType(node, node.isInterface() ? ScannedType.Kind.INTERFACE : ScannedType.Kind.CLASS,
+               node.getSuperclassType());
+   }
+
+   @Override
+   public boolean visit(EnumDeclaration node)
+   {
+      return visitType(node, ScannedType.Kind.ENUM, null);
+   }
+
+   @Override
+   public boolean visit(AnnotationTypeDeclaration node)
+   {
+      return visitType(node, ScannedType.Kind.ANNOTATION, null);
+   }
+
+   @Override
+   public void endVisit(TypeDeclaration node)
+   {
+      endVisitType();
+   }
+
+   @Override
+   public void endVisit(EnumDeclaration node)
+   {
+      endVisitType();
+   }
+
+   @Override
+   public void endVisit(AnnotationTypeDeclaration node)
+   {
+      endVisitType();
+   }
+
+   @Override
+   public boolean visit(FieldDeclaration node)
+   {
+      for (Object fragment : node.fragments())
+      {
+         field.set(node, (VariableDeclarationFragment) fragment);
+         visitor.visitField(field);
+         visitAnnotations(field, node.modifiers());
+      }
+      return false;
+   }
+
+   @Override
+   public boolean visit(EnumConstantDeclaration node)
+   {
+      field.set(node);
+      visitor.visitField(field);
+      visitAnnotations(field, node.modifiers());
+      return false;
+   }
+
+   @Override
+   public boolean visit(MethodDeclaration node)
+   {
+      method.set(node);
+      visitor.visitMethod(method);
+      visitAnnotations(method, node.modifiers());
+      return false;
+   }
+
+   @Override
+   public boolean visit(AnnotationTypeMemberDeclaration node)
+   {
+      method.set(node);
+      visitor.visitMethod(method);
+      visitAnnotations(method, node.modifiers());
+      return false;
+   }
+
+   @Override
+   public boolean visit(Initializer node)
+   {
+      return false;
+   }
+
+   /*
+    * Annotations are reported with the declaration they modify.
+    */
+
+   @Override
+   public boolean visit(MarkerAnnotation node)
+   {
+      return false;
+   }
+
+   @Override
+   public boolean visit(NormalAnnotation node)
+   {
+      return false;
+   }
+
+   @Override
+   public boolean visit(SingleMemberAnnotation node)
+   {
+      return false;
+   }
+
+   private boolean visitType(AbstractTypeDeclaration node, ScannedType.Kind kind, Type superType)
+   {
+      if (types.size() == depth)
+      {
+         types.add(new TypeView());
+      }
+      TypeView type = types.get(depth);
+      type.set(node, kind, superType, depth == 0 ? null : types.get(depth - 1));
+      depth++;
+      if (visitor.visitType(type))
+      {
+         visitAnnotations(type, node.modifiers());
+         return true;
+      }
+      return false;
+   }
+
+   private void endVisitType()
+   {
+      depth--;
+      visitor.endVisitType(types.get(depth));
+   }
+
+   private void visitAnnotations(ScannedElement target, List<?> modifiers)
+   {
+      for (Object modifier : modifiers)
+      {
+         if (modifier instanceof Annotation)
+         {
+            annotation.set((Annotation) modifier, target);
+            visitor.visitAnnotation(annotation);
+         }
+      }
+   }
+
+   private ScannedType currentType()
+   {
+      return types.get(depth - 1);
+   }
+
+   private static String getTypeName(Type type, int extraDimensions)
+   {
+      if (type == null)
+      {
+         return null;
+      }
+      String result = type.toString();
+      for (int i = 0; i < extraDimensions; i++)
+      {
+         result += "[]";
+      }
+      return result;
+   }
+
+   /**
+    * The qualified name of the given type without type arguments, keeping any array dimensions.
+    */
+   private String resolve(Type type, int extraDimensions)
+   {
+      if (type == null)
+      {
+         return null;
+      }
+      int dimensions = extraDimensions;
+      if (type.isArrayType())
+      {
+         dimensions += ((ArrayType) type).getDimensions();
+         type = ((ArrayType) type).getElementType();
+      }
+      if (type.isParameterizedType())
+      {
+         type = ((ParameterizedType) type).getType();
+      }
+      String result;
+      if (type.isPrimitiveType())
+      {
+         result = ((PrimitiveType) type).getPrimitiveTypeCode().toString();
+      }
+      else if (type.isSimpleType())
+      {
+         result = resolve(((SimpleType) type).getName().getFullyQualifiedName());
+      }
+      else
+      {
+         result = resolve(type.toString());
+      }
+      for (int i = 0; i < dimensions; i++)
+      {
+         result += "[]";
+      }
+      return result;
+   }
+
+   private String resolve(String name)
+   {
+      String result = resolved.get(name);
+      if (result == null)
+      {
+         int dot = name.indexOf('.');
+         String first = dot < 0 ? name : name.substring(0, dot);
+         String imported = imports.get(first);
+         if (imported != null)
+         {
+            result = dot < 0 ? imported : imported + name.substring(dot);
+         }
+         else if (dot >= 0 || Types.isPrimitive(name))
+         {
+            result = name;
+         }
+         else if (Types.isJavaLang(name))
+         {
+            result = "java.lang." + name;
+         }
+         else if (wildcardImports || packageName == null)
+         {
+            result = name;
+         }
+         else
+         {
+            result = packageName + "." + name;
+         }
+         resolved.put(name, result);
+      }
+      return result;
+   }
+
+   private abstract class ElementView implements ScannedElement
+   {
+      BodyDeclaration node;
+
+      @Override
+      public boolean isPublic()
+      {
+         return Modifier.isPublic(getModifiers());
+      }
+
+      @Override
+      public boolean isProtected()
+      {
+         return Modifier.isProtected(getModifiers());
+      }
+
+      @Override
+      public boolean isPrivate()
+      {
+         return Modifier.isPrivate(getModifiers());
+      }
+
+      @Override
+      public boolean isPackagePrivate()
+      {
+         return (getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE)) == 0;
+      }
+
+      @Override
+      public boolean isStatic()
+      {
+         return Modifier.isStatic(getModifiers());
+      }
+
+      @Override
+      public boolean isFinal()
+      {
+         return Modifier.isFinal(getModifiers());
+      }
+
+      @Override
+      public boolean isAbstract()
+      {
+         return Modifier.isAbstract(getModifiers());
+      }
+
+      int getModifiers()
+      {
+         return node.getModifiers();
+      }
+
+      @Override
+      public boolean hasAnnotation(String type)
+      {
+         for (Object modifier : node.modifiers())
+         {
+            if (modifier instanceof Annotation
+                     && Types.areEquivalent(type, resolve(((Annotation) modifier).getTypeName().getFullyQualifiedName())))
+            {
+               return true;
+            }
+         }
+         return false;
+      }
+
+      @Override
+      public String toString()
+      {
+         return getName();
+      }
+   }
+
+   private class TypeView extends ElementView implements ScannedType
+   {
+      private Kind kind;
+      private Type superType;
+      private TypeView enclosingType;
+      private String qualifiedName;
+
+      void set(AbstractTypeDeclaration node, Kind kind, Type superType, TypeView enclosingType)
+      {
+         this.node = node;
+         this.kind = kind;
+         this.superType = superType;
+         this.enclosingType = enclosingType;
+         this.qualifiedName = null;
+      }
+
+      @Override
+      public String getName()
+      {
+         return ((AbstractTypeDeclaration) node).getName().getIdentifier();
+      }
+
+      @Override
+      public Kind getKind()
+      {
+         return kind;
+      }
+
+      @Override
+      public String getQualifiedName()
+      {
+         if (qualifiedName == null)
+         {
+            if (enclosingType != null)
+               qualifiedName = enclosingType.getQualifiedName() + "." + getName();
+            else if (packageName != null)
+               qualifiedName = packageName + "." + getName();
+            else
+               qualifiedName = getName();
+         }
+         return qualifiedName;
+      }
+
+      @Override
+      public String getSuperType()
+      {
+         return resolve(superType, 0);
+      }
+
+      @Override
+      public ScannedType getEnclosingType()
+      {
+         return enclosingType;
+      }
+   }
+
+   private class FieldView extends ElementView implements ScannedField
+   {
+      private VariableDeclarationFragment fragment;
+      private ScannedType declaringType;
+
+      void set(FieldDeclaration node, VariableDeclarationFragment fragment)
+      {
+         this.node = node;
+         this.fragment = fragment;
+         this.declaringType = currentType();
+      }
+
+      void set(EnumConstantDeclaration node)
+      {
+         this.node = node;
+         this.fragment = null;
+         this.declaringType = currentType();
+      }
+
+      @Override
+      public String getName()
+      {
+         return isEnumConstant() ? ((EnumConstantDeclaration) node).getName().getIdentifier() : fragment.getName()
+                  .getIdentifier();
+      }
+
+      @Override
+      public String getType()
+      {
+         return isEnumConstant() ? declaringType.getName() : getTypeName(((FieldDeclaration) node).getType(),
+                  fragment.getExtraDimensions());
+      }
+
+      @Override
+      public String getQualifiedType()
+      {
+         return isEnumConstant() ? declaringType.getQualifiedName() : resolve(((FieldDeclaration) node).getType(),
+                  fragment.getExtraDimensions());
+      }
+
+      @Override
+      public boolean isEnumConstant()
+      {
+         return fragment == null;
+      }
+
+      @Override
+      int getModifiers()
+      {
+         return isEnumConstant() ? Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL : super.getModifiers();
+      }
+
+      @Override
+      public ScannedType getDeclaringType()
+      {
+         return declaringType;
+      }
+   }
+
+   private class MethodView extends ElementView implements ScannedMethod
+   {
+      private ScannedType declaringType;
+
+      void set(BodyDeclaration node)
+      {
+         this.node = node;
+         this.declaringType = currentType();
+      }
+
+      @Override
+      public String getName()
+      {
+         if (node instanceof AnnotationTypeMemberDeclaration)
+         {
+            return ((AnnotationTypeMemberDeclaration) node).getName().getIdentifier();
+         }
+         return ((MethodDeclaration) node).getName().getIdentifier();
+      }
+
+      @Override
+      public boolean isConstructor()
+      {
+         return node instanceof MethodDeclaration && ((MethodDeclaration) node).isConstructor();
+      }
+
+      @Override
+      public String getReturnType()
+      {
+         if (node instanceof AnnotationTypeMemberDeclaration)
+         {
+            return getTypeName(((AnnotationTypeMemberDeclaration) node).getType(), 0);
+         }
+         MethodDeclaration method = (MethodDeclaration) node;
+         return getTypeName(method.getReturnType2(), method.getExtraDimensions());
+      }
+
+      @Override
+      public String getQualifiedReturnType()
+      {
+         if (node instanceof AnnotationTypeMemberDeclaration)
+         {
+            return resolve(((AnnotationTypeMemberDeclaration) node).getType(), 0);
+         }
+         MethodDeclaration method = (MethodDeclaration) node;
+         return resolve(method.getReturnType2(), method.getExtraDimensions());
+      }
+
+      @Override
+      public int getParameterCount()
+      {
+         return node instanceof MethodDeclaration ? ((MethodDeclaration) node).parameters().size() : 0;
+      }
+
+      @Override
+      public String getParameterName(int index)
+      {
+         return getParameter(index).getName().getIdentifier();
+      }
+
+      @Override
+      public String getParameterType(int index)
+      {
+         SingleVariableDeclaration parameter = getParameter(index);
+         String result = getTypeName(parameter.getType(), parameter.getExtraDimensions());
+         return parameter.isVarargs() ? result + "..." : result;
+      }
+
+      @Override
+      public String getQualifiedParameterType(int index)
+      {
+         SingleVariableDeclaration parameter = getParameter(index);
+         String result = resolve(parameter.getType(), parameter.getExtraDimensions());
+         return parameter.isVarargs() ? result + "[]" : result;
+      }
+
+      private SingleVariableDeclaration getParameter(int index)
+      {
+         if (node instanceof MethodDeclaration)
+         {
+            return (SingleVariableDeclaration) ((MethodDeclaration) node).parameters().get(index);
+         }
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+      }
+
+      @Override
+      public ScannedType getDeclaringType()
+      {
+         return declaringType;
+      }
+   }
+
+   private class AnnotationView implements ScannedAnnotation
+   {
+      private Annotation node;
+      private ScannedElement target;
+
+      void set(Annotation node, ScannedElement target)
+      {
+         this.node = node;
+         this.target = target;
+      }
+
+      @Override
+      public String getName()
+      {
+         return node.getTypeName().getFullyQualifiedName();
+      }
+
+      @Override
+      public String getQualifiedName()
+      {
+         return resolve(getName());
+      }
+
+      @Override
+      public String getLiteralValue()
+      {
+         return node.isSingleMemberAnnotation() ? ((SingleMemberAnnotation) node).getValue().toString() : null;
+      }
+
+      @Override
+      public String getLiteralValue(String name)
+      {
+         if (node.isSingleMemberAnnotation())
+         {
+            return "value".equals(name) ? getLiteralValue() : null;
+         }
+         if (node.isNormalAnnotation())
+         {
+            for (Object value : ((NormalAnnotation) node).values())
+            {
+               MemberValuePair pair = (MemberValuePair) value;
+               if (pair.getName().getIdentifier().equals(name))
+               {
+                  return pair.getValue().toString();
+               }
+            }
+         }
+         return null;
+      }
+
+      @Override
+      public ScannedElement getTarget()
+      {
+         return target;
+      }
+
+      @Override
+      public String toString()
+      {
+         return "@" + getName();
+      }
+   }
+}
@@ -17,6 +17,7 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.TypeParameter;
 import org.eclipse.jface.text.Document;
 import org.jboss.forge.roaster.model.TypeVariable;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.GenericCapableSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.PropertyHolderSource;
@@ -48,7 +49,7 @@ public abstract class AbstractGenericCapableJavaSource<O extends JavaSource<O> &
       List<TypeVariableSource<O>> result = new ArrayList<TypeVariableSource<O>>();
       for (TypeParameter typeParameter : typeParameters)
       {
-         result.add(new TypeVariableImpl<O>((O) this, typeParameter));
+         result.add(typeVariable(typeParameter));
       }
       return Collections.unmodifiableList(result);
    }
@@ -62,7 +63,7 @@ public abstract class AbstractGenericCapableJavaSource<O extends JavaSource<O> &
       {
          if (Strings.areEqual(name, typeParameter.getName().getIdentifier()))
          {
-            return new TypeVariableImpl<O>((O) this, typeParameter);
+            return typeVariable(typeParameter);
          }
       }
       return null;
@@ -74,7 +75,18 @@ public abstract class AbstractGenericCapableJavaSource<O extends JavaSource<O> &
       TypeDeclaration type = (TypeDeclaration) body;
       TypeParameter tp2 = unit.getAST().newTypeParameter();
       type.typeParameters().add(tp2);
-      return new TypeVariableImpl<O>((O) this, tp2);
+      return typeVariable(tp2);
+   }
+
+   private TypeVariableSource<O> typeVariable(TypeParameter typeParameter)
+   {
+      TypeVariableSource<O> result = NodeCache.get(typeParameter, this, TypeVariableImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(typeParameter, this, TypeVariableImpl.class,
+                  new TypeVariableImpl<O>((O) this, typeParameter));
+      }
+      return result;
    }
 
    @Override
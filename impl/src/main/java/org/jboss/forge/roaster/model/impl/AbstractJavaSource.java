@@ -7,27 +7,23 @@
 package org.jboss.forge.roaster.model.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.compiler.IProblem;
-import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.PackageDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jface.text.Document;
-import org.eclipse.text.edits.TextEdit;
 import org.jboss.forge.roaster.ParserException;
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
@@ -35,15 +31,18 @@ import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.SyntaxError;
 import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
+import org.jboss.forge.roaster.model.ast.MethodBodies;
 import org.jboss.forge.roaster.model.ast.ModifierAccessor;
-import org.jboss.forge.roaster.model.ast.TypeDeclarationFinderVisitor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
+import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.JavaDocSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.SourceFormatting;
 import org.jboss.forge.roaster.model.source.TypeHolderSource;
-import org.jboss.forge.roaster.model.util.Formatter;
 import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.model.util.Symbols;
 import org.jboss.forge.roaster.model.util.Types;
 import org.jboss.forge.roaster.spi.JavaParserImpl;
 import org.jboss.forge.roaster.spi.WildcardImportResolver;
@@ -66,6 +65,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    protected final JavaSource<?> enclosingType;
 
    private static List<WildcardImportResolver> resolvers;
+   private ImportIndex importIndex;
 
    protected AbstractJavaSource(JavaSource<?> enclosingType, final Document document, final CompilationUnit unit,
             BodyDeclaration body)
@@ -191,15 +191,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public Import getImport(final String className)
    {
-      List<Import> imports = getImports();
-      for (Import imprt : imports)
-      {
-         if (imprt.getQualifiedName().equals(className) || imprt.getSimpleName().equals(className))
-         {
-            return imprt;
-         }
-      }
-      return null;
+      return getImportIndex().getImport(className);
    }
 
    @Override
@@ -223,14 +215,20 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public List<Import> getImports()
    {
-      List<Import> results = new ArrayList<Import>();
+      return getImportIndex().getImports();
+   }
 
-      for (ImportDeclaration i : (List<ImportDeclaration>) unit.imports())
+   /**
+    * Return the {@link ImportIndex} for the current state of the AST, rebuilding it if the AST has been modified since
+    * it was last built.
+    */
+   private ImportIndex getImportIndex()
+   {
+      if (importIndex == null || !importIndex.isCurrent())
       {
-         results.add(new ImportImpl(this, i));
+         importIndex = new ImportIndex(this, unit);
       }
-
-      return Collections.unmodifiableList(results);
+      return importIndex;
    }
 
    @Override
@@ -328,13 +326,10 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
 
          if (result.equals(original))
          {
-            for (Import imprt : getImports())
+            Import imprt = getImportIndex().getImportBySimpleName(result);
+            if (imprt != null)
             {
-               if (Types.areEquivalent(result, imprt.getQualifiedName()))
-               {
-                  result = imprt.getQualifiedName();
-                  break;
-               }
+               result = imprt.getQualifiedName();
             }
          }
       }
@@ -342,18 +337,16 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       // If we didn't match any imports directly, we might have a wild-card/on-demand import.
       if (Types.isSimpleName(result))
       {
-         for (Import imprt : getImports())
+         // resolvers consider every wild-card import themselves, so consult them only once
+         if (!getImportIndex().getWildcards().isEmpty())
          {
-            if (imprt.isWildcard())
+            // TODO warn if no wild-card resolvers are configured
+            // TODO Test wild-card/on-demand import resolving
+            for (WildcardImportResolver r : getImportResolvers())
             {
-               // TODO warn if no wild-card resolvers are configured
-               // TODO Test wild-card/on-demand import resolving
-               for (WildcardImportResolver r : getImportResolvers())
-               {
-                  result = r.resolve(this, result);
-                  if (Types.isQualified(result))
-                     break;
-               }
+               result = r.resolve(this, result);
+               if (Types.isQualified(result))
+                  break;
             }
          }
       }
@@ -394,13 +387,10 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public O removeImport(final String name)
    {
-      for (Import i : getImports())
+      Import imprt = getImportIndex().getImportByQualifiedName(name);
+      if (imprt != null)
       {
-         if (i.getQualifiedName().equals(name))
-         {
-            removeImport(i);
-            break;
-         }
+         removeImport(imprt);
       }
       return (O) this;
    }
@@ -454,22 +444,30 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public String getCanonicalName()
    {
-      String result = getName();
-
-      JavaType<?> enclosingType = this;
-      while (enclosingType != enclosingType.getEnclosingType())
+      if (enclosingType != this)
       {
-         enclosingType = getEnclosingType();
-         result = enclosingType.getEnclosingType().getName() + "." + result;
-         enclosingType = enclosingType.getEnclosingType();
+         return getNamingType().getCanonicalName() + "." + getName();
       }
-
+      String result = getName();
       if (!Strings.isNullOrEmpty(getPackage()))
          result = getPackage() + "." + result;
 
       return result;
    }
 
+   /**
+    * Return the type whose name qualifies the name of this nested type: the enclosing type, or the enum of an enclosing
+    * enum constant body, which is anonymous.
+    */
+   private JavaSource<?> getNamingType()
+   {
+      if (enclosingType instanceof EnumConstantSource.Body)
+      {
+         return enclosingType.getEnclosingType();
+      }
+      return enclosingType;
+   }
+
    /**
     * Call-back to allow updating of any necessary internal names with the given name.
     */
@@ -478,16 +476,11 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public String getQualifiedName()
    {
-      String result = getName();
-
-      JavaType<?> enclosingType = this;
-      while (enclosingType != enclosingType.getEnclosingType())
+      if (enclosingType != this)
       {
-         enclosingType = getEnclosingType();
-         result = enclosingType.getEnclosingType().getName() + "$" + result;
-         enclosingType = enclosingType.getEnclosingType();
+         return getNamingType().getQualifiedName() + "$" + getName();
       }
-
+      String result = getName();
       if (!Strings.isNullOrEmpty(getPackage()))
          result = getPackage() + "." + result;
 
@@ -503,7 +496,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       PackageDeclaration pkg = unit.getPackage();
       if (pkg != null)
       {
-         return pkg.getName().getFullyQualifiedName();
+         return Symbols.intern(pkg.getName().getFullyQualifiedName());
       }
       else
       {
@@ -614,23 +607,29 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public String toString()
    {
-      Document document = new Document(this.document.get());
+      return toString(SourceFormatting.FULL);
+   }
 
-      try
-      {
-         @SuppressWarnings("rawtypes")
-         Map options = JavaCore.getOptions();
-         options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_7);
-         options.put(CompilerOptions.OPTION_Encoding, "UTF-8");
-         TextEdit edit = unit.rewrite(document, options);
-         edit.apply(document);
-      }
-      catch (Exception e)
-      {
-         throw new ParserException("Could not modify source: " + unit.toString(), e);
-      }
+   @Override
+   public String toUnformattedString()
+   {
+      return toString(SourceFormatting.NONE);
+   }
 
-      return Formatter.format(document.get());
+   @Override
+   @SuppressWarnings({ "rawtypes", "unchecked" })
+   public String toString(SourceFormatting formatting)
+   {
+      Map options = JavaCore.getOptions();
+      options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_7);
+      options.put(CompilerOptions.OPTION_Encoding, "UTF-8");
+      return SourceWriter.write(unit, document, options, formatting);
+   }
+
+   @Override
+   public O copy()
+   {
+      return (O) SourceCopier.copy(this);
    }
 
    @Override
@@ -758,14 +757,15 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public List<JavaSource<?>> getNestedTypes()
    {
-      List<AbstractTypeDeclaration> declarations = getNestedDeclarations(body);
+      return getTypeTree().getNestedTypes(this, body);
+   }
 
-      List<JavaSource<?>> result = new ArrayList<JavaSource<?>>();
-      for (AbstractTypeDeclaration declaration : declarations)
-      {
-         result.add(JavaParserImpl.getJavaSource(this, document, unit, declaration));
-      }
-      return result;
+   /**
+    * Return the {@link TypeTree} shared by all sources of this {@link CompilationUnit}.
+    */
+   TypeTree getTypeTree()
+   {
+      return TypeTree.of(unit, document);
    }
 
    @Override
@@ -785,14 +785,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public boolean hasNestedType(String name)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (Strings.areEqual(nested.getName(), name) || Strings.areEqual(nested.getQualifiedName(), name))
-         {
-            return true;
-         }
-      }
-      return false;
+      return getNestedType(name) != null;
    }
 
    @Override
@@ -812,14 +805,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public JavaSource<?> getNestedType(String name)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (Strings.areEqual(nested.getName(), name) || Strings.areEqual(nested.getQualifiedName(), name))
-         {
-            return nested;
-         }
-      }
-      return null;
+      return getTypeTree().getNestedType(this, body, name);
    }
 
    @Override
@@ -827,15 +813,14 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    {
       if (type instanceof AbstractJavaSource)
       {
-         List<Object> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
          BodyDeclaration nestedBody = ((AbstractJavaSource<?>) type).body;
-         bodyDeclarations.add(ASTNode.copySubtree(unit.getAST(), nestedBody));
+         AbstractTypeDeclaration copy = (AbstractTypeDeclaration) MethodBodies.copySubtree(unit.getAST(), nestedBody);
+         return (NESTED_TYPE) getTypeTree().add(this, getBodyDeclaration(), copy);
       }
       else
       {
          throw new IllegalArgumentException("type must be an AbstractJavaSource instance");
       }
-      return (NESTED_TYPE) getNestedType(type.getName());
    }
 
    @Override
@@ -843,9 +828,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    {
       if (type instanceof AbstractJavaSource)
       {
-         BodyDeclaration bodyDeclaration = ((AbstractJavaSource<?>) type).body;
-         List<Object> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
-         bodyDeclarations.remove(bodyDeclaration);
+         getTypeTree().remove(getBodyDeclaration(), ((AbstractJavaSource<?>) type).body);
       }
       return (O) this;
    }
@@ -860,7 +843,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public <NESTED_TYPE extends JavaSource<?>> NESTED_TYPE addNestedType(String declaration)
    {
-      JavaSource<?> nestedType = Roaster.parse(JavaSource.class, declaration);
+      JavaSource<?> nestedType = Stubs.parse(JavaSource.class, declaration);
       return (NESTED_TYPE) addNestedType(nestedType);
    }
 
@@ -879,7 +862,12 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
          javadoc = body.getAST().newJavadoc();
          body.setJavadoc(javadoc);
       }
-      return new JavaDocImpl<O>((O) this, javadoc);
+      JavaDocSource<O> result = NodeCache.get(javadoc, this, JavaDocImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(javadoc, this, JavaDocImpl.class, new JavaDocImpl<O>((O) this, javadoc));
+      }
+      return result;
    }
 
    @Override
@@ -895,24 +883,4 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       return body.getJavadoc() != null;
    }
 
-   private List<AbstractTypeDeclaration> getNestedDeclarations(BodyDeclaration body)
-   {
-      TypeDeclarationFinderVisitor typeDeclarationFinder = new TypeDeclarationFinderVisitor();
-      body.accept(typeDeclarationFinder);
-      List<AbstractTypeDeclaration> declarations = typeDeclarationFinder.getTypeDeclarations();
-
-      List<AbstractTypeDeclaration> result = new ArrayList<AbstractTypeDeclaration>(declarations);
-      if (!declarations.isEmpty())
-      {
-         // We don't want to return the current class' declaration.
-         result.remove(declarations.remove(0));
-         for (AbstractTypeDeclaration declaration : declarations)
-         {
-            result.removeAll(getNestedDeclarations(declaration));
-         }
-      }
-
-      return result;
-   }
-
 }
\ No newline at end of file
@@ -9,8 +9,10 @@ package org.jboss.forge.roaster.model.impl;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -21,24 +23,27 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jface.text.Document;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Field;
 import org.jboss.forge.roaster.model.JavaInterface;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Method;
 import org.jboss.forge.roaster.model.Parameter;
 import org.jboss.forge.roaster.model.Property;
+import org.jboss.forge.roaster.model.ast.FragmentBuilder;
 import org.jboss.forge.roaster.model.ast.MethodFinderVisitor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.FieldTemplate;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.InterfaceCapableSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.MemberSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
+import org.jboss.forge.roaster.model.source.MethodTemplate;
 import org.jboss.forge.roaster.model.source.ParameterSource;
 import org.jboss.forge.roaster.model.source.PropertyHolderSource;
 import org.jboss.forge.roaster.model.source.PropertySource;
+import org.jboss.forge.roaster.model.source.SourceEdit;
 import org.jboss.forge.roaster.model.util.Assert;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
@@ -50,12 +55,31 @@ import org.jboss.forge.roaster.model.util.Types;
 public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & PropertyHolderSource<O>> extends AbstractJavaSource<O>
          implements InterfaceCapableSource<O>, PropertyHolderSource<O>
 {
+   /**
+    * Lazily built index of the fields and methods of this type, valid only while the AST is unmodified.
+    */
+   private MemberIndex memberIndex;
+
    protected AbstractJavaSourceMemberHolder(JavaSource<?> enclosingType, final Document document,
             final CompilationUnit unit, BodyDeclaration declaration)
    {
       super(enclosingType, document, unit, declaration);
    }
 
+   /**
+    * Return the {@link MemberIndex} for the current state of the AST, rebuilding it if the AST has been modified since
+    * it was last built.
+    */
+   private MemberIndex getMemberIndex()
+   {
+      long modificationCount = body.getAST().modificationCount();
+      if (memberIndex == null || memberIndex.modificationCount != modificationCount)
+      {
+         memberIndex = new MemberIndex(modificationCount);
+      }
+      return memberIndex;
+   }
+
    /*
     * Field & Method modifiers
     */
@@ -72,14 +96,42 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @SuppressWarnings("unchecked")
    public FieldSource<O> addField(final String declaration)
    {
-      String stub = "public class Stub { " + declaration + " }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<FieldSource<JavaClassSource>> fields = temp.getFields();
       FieldSource<O> result = null;
-      for (FieldSource<JavaClassSource> stubField : fields)
+      for (BodyDeclaration bodyDeclaration : FragmentBuilder.newBodyDeclarations(
+               ((ASTNode) getInternal()).getAST(), declaration))
+      {
+         if (bodyDeclaration instanceof FieldDeclaration)
+         {
+            for (Object fragment : ((FieldDeclaration) bodyDeclaration).fragments())
+            {
+               FieldSource<O> field = new FieldImpl<O>((O) this, fragment, true);
+               addField(field);
+               if (result == null)
+               {
+                  result = field;
+               }
+            }
+         }
+      }
+      return result;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public FieldSource<O> addField(final FieldTemplate template)
+   {
+      return addField(template, null);
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public FieldSource<O> addField(final FieldTemplate template, final Map<String, String> placeholders)
+   {
+      FieldSource<O> result = null;
+      for (BodyDeclaration bodyDeclaration : ((MemberTemplateImpl) template).copy(
+               ((ASTNode) getInternal()).getAST(), placeholders))
       {
-         Object variableDeclaration = stubField.getInternal();
-         FieldSource<O> field = new FieldImpl<O>((O) this, variableDeclaration, true);
+         FieldSource<O> field = new FieldImpl<O>((O) this, ((FieldDeclaration) bodyDeclaration).fragments().get(0));
          addField(field);
          if (result == null)
          {
@@ -103,6 +155,15 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
          idx++;
       }
       bodyDeclarations.add(idx, ((VariableDeclarationFragment) field.getInternal()).getParent());
+      NodeCache.put(field.getInternal(), this, FieldImpl.class, field);
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public O edit(final SourceEdit<O> edit)
+   {
+      return EditTransactionImpl.edit(edit, (O) this, this, (List<Object>) getBodyDeclaration().bodyDeclarations(),
+               true);
    }
 
    @Override
@@ -117,52 +178,21 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    }
 
    @Override
-   @SuppressWarnings("unchecked")
    public List<FieldSource<O>> getFields()
    {
-      List<FieldSource<O>> result = new ArrayList<FieldSource<O>>();
-
-      List<BodyDeclaration> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
-      for (BodyDeclaration bodyDeclaration : bodyDeclarations)
-      {
-         if (bodyDeclaration instanceof FieldDeclaration)
-         {
-            FieldDeclaration fieldDeclaration = (FieldDeclaration) bodyDeclaration;
-            List<VariableDeclarationFragment> fragments = fieldDeclaration.fragments();
-            for (VariableDeclarationFragment fragment : fragments)
-            {
-               result.add(new FieldImpl<O>((O) this, fragment));
-            }
-         }
-      }
-
-      return Collections.unmodifiableList(result);
+      return getMemberIndex().fields;
    }
 
    @Override
    public FieldSource<O> getField(final String name)
    {
-      for (FieldSource<O> field : getFields())
-      {
-         if (field.getName().equals(name))
-         {
-            return field;
-         }
-      }
-      return null;
+      return getMemberIndex().fieldsByName.get(name);
    }
 
    @Override
    public boolean hasField(final String name)
    {
-      for (FieldSource<O> field : getFields())
-      {
-         if (field.getName().equals(name))
-         {
-            return true;
-         }
-      }
-      return false;
+      return getMemberIndex().fieldsByName.containsKey(name);
    }
 
    @Override
@@ -242,9 +272,9 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public MethodSource<O> getMethod(final String name)
    {
-      for (MethodSource<O> method : getMethods())
+      for (MethodSource<O> method : getMethods(name))
       {
-         if (method.getName().equals(name) && (method.getParameters().size() == 0))
+         if (method.getParameters().size() == 0)
          {
             return method;
          }
@@ -255,28 +285,25 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public MethodSource<O> getMethod(final String name, final String... paramTypes)
    {
-      for (MethodSource<O> local : getMethods())
+      for (MethodSource<O> local : getMethods(name))
       {
-         if (local.getName().equals(name))
+         List<ParameterSource<O>> localParams = local.getParameters();
+         if (paramTypes != null)
          {
-            List<ParameterSource<O>> localParams = local.getParameters();
-            if (paramTypes != null)
+            if (localParams.isEmpty() || (localParams.size() == paramTypes.length))
             {
-               if (localParams.isEmpty() || (localParams.size() == paramTypes.length))
+               boolean matches = true;
+               for (int i = 0; i < localParams.size(); i++)
                {
-                  boolean matches = true;
-                  for (int i = 0; i < localParams.size(); i++)
+                  ParameterSource<O> localParam = localParams.get(i);
+                  String type = paramTypes[i];
+                  if (!Types.areEquivalent(localParam.getType().getName(), type))
                   {
-                     ParameterSource<O> localParam = localParams.get(i);
-                     String type = paramTypes[i];
-                     if (!Types.areEquivalent(localParam.getType().getName(), type))
-                     {
-                        matches = false;
-                     }
+                     matches = false;
                   }
-                  if (matches)
-                     return local;
                }
+               if (matches)
+                  return local;
             }
          }
       }
@@ -303,22 +330,19 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public boolean hasMethodSignature(final Method<?, ?> method)
    {
-      for (MethodSource<O> local : getMethods())
+      for (MethodSource<O> local : getMethods(method.getName()))
       {
-         if (local.getName().equals(method.getName()))
+         Iterator<ParameterSource<O>> localParams = local.getParameters().iterator();
+         for (Parameter<? extends JavaType<?>> methodParam : method.getParameters())
          {
-            Iterator<ParameterSource<O>> localParams = local.getParameters().iterator();
-            for (Parameter<? extends JavaType<?>> methodParam : method.getParameters())
+            if (localParams.hasNext()
+                     && Strings.areEqual(localParams.next().getType().getName(), methodParam.getType().getName()))
             {
-               if (localParams.hasNext()
-                        && Strings.areEqual(localParams.next().getType().getName(), methodParam.getType().getName()))
-               {
-                  continue;
-               }
-               return false;
+               continue;
             }
-            return !localParams.hasNext();
+            return false;
          }
+         return !localParams.hasNext();
       }
       return false;
    }
@@ -337,7 +361,7 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    {
       MethodSource<O> m = new MethodImpl<O>((O) this);
       getBodyDeclaration().bodyDeclarations().add(m.getInternal());
-      return m;
+      return NodeCache.put(m.getInternal(), this, MethodImpl.class, m);
    }
 
    @Override
@@ -346,24 +370,43 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    {
       MethodSource<O> m = new MethodImpl<O>((O) this, method);
       getBodyDeclaration().bodyDeclarations().add(m.getInternal());
-      return m;
+      return NodeCache.put(m.getInternal(), this, MethodImpl.class, m);
    }
 
    @Override
    @SuppressWarnings("unchecked")
-   public List<MethodSource<O>> getMethods()
+   public MethodSource<O> addMethod(final MethodTemplate template)
    {
-      List<MethodSource<O>> result = new ArrayList<MethodSource<O>>();
+      return addMethod(template, null);
+   }
 
-      MethodFinderVisitor methodFinderVisitor = new MethodFinderVisitor();
-      body.accept(methodFinderVisitor);
+   @Override
+   @SuppressWarnings("unchecked")
+   public MethodSource<O> addMethod(final MethodTemplate template, final Map<String, String> placeholders)
+   {
+      MethodSource<O> m = new MethodImpl<O>((O) this, ((MemberTemplateImpl) template).copy(
+               ((ASTNode) getInternal()).getAST(), placeholders).get(0));
+      getBodyDeclaration().bodyDeclarations().add(m.getInternal());
+      return NodeCache.put(m.getInternal(), this, MethodImpl.class, m);
+   }
+
+   @Override
+   public List<MethodSource<O>> getMethods()
+   {
+      return getMemberIndex().methods;
+   }
 
-      List<MethodDeclaration> methods = methodFinderVisitor.getMethods();
-      for (MethodDeclaration methodDeclaration : methods)
+   /**
+    * Return the methods with the given name, in declaration order.
+    */
+   List<MethodSource<O>> getMethods(final String name)
+   {
+      List<MethodSource<O>> result = getMemberIndex().methodsByName.get(name);
+      if (result == null)
       {
-         result.add(new MethodImpl<O>((O) this, methodDeclaration));
+         return Collections.emptyList();
       }
-      return Collections.unmodifiableList(result);
+      return result;
    }
 
    @Override
@@ -395,13 +438,13 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
       if (!this.hasInterface(type))
       {
          Type interfaceType = JDTHelper.getInterfaces(
-                  Roaster.parse(JavaInterfaceImpl.class,
+                  Stubs.parse(JavaInterfaceImpl.class,
                            "public interface Mock extends " + Types.toSimpleName(type)
                                     + " {}").getBodyDeclaration()).get(0);
 
          if (this.hasInterface(Types.toSimpleName(type)) || this.hasImport(Types.toSimpleName(type)))
          {
-            interfaceType = JDTHelper.getInterfaces(Roaster.parse(JavaInterfaceImpl.class,
+            interfaceType = JDTHelper.getInterfaces(Stubs.parse(JavaInterfaceImpl.class,
                      "public interface Mock extends " + type + " {}").getBodyDeclaration()).get(0);
          }
 
@@ -590,4 +633,72 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
       }
       return null;
    }
+
+   /**
+    * Fields and methods of this type, by name.
+    */
+   private class MemberIndex
+   {
+      private final long modificationCount;
+      private final List<FieldSource<O>> fields;
+      private final Map<String, FieldSource<O>> fieldsByName = new HashMap<String, FieldSource<O>>();
+      private final List<MethodSource<O>> methods;
+      private final Map<String, List<MethodSource<O>>> methodsByName = new HashMap<String, List<MethodSource<O>>>();
+
+      @SuppressWarnings("unchecked")
+      MemberIndex(long modificationCount)
+      {
+         this.modificationCount = modificationCount;
+
+         List<FieldSource<O>> fields = new ArrayList<FieldSource<O>>();
+         List<BodyDeclaration> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
+         for (BodyDeclaration bodyDeclaration : bodyDeclarations)
+         {
+            if (bodyDeclaration instanceof FieldDeclaration)
+            {
+               FieldDeclaration fieldDeclaration = (FieldDeclaration) bodyDeclaration;
+               List<VariableDeclarationFragment> fragments = fieldDeclaration.fragments();
+               for (VariableDeclarationFragment fragment : fragments)
+               {
+                  FieldSource<O> field = NodeCache.get(fragment, AbstractJavaSourceMemberHolder.this,
+                           FieldImpl.class);
+                  if (field == null)
+                  {
+                     field = NodeCache.put(fragment, AbstractJavaSourceMemberHolder.this, FieldImpl.class,
+                              new FieldImpl<O>((O) AbstractJavaSourceMemberHolder.this, fragment));
+                  }
+                  fields.add(field);
+                  if (!fieldsByName.containsKey(field.getName()))
+                  {
+                     fieldsByName.put(field.getName(), field);
+                  }
+               }
+            }
+         }
+         this.fields = Collections.unmodifiableList(fields);
+
+         List<MethodSource<O>> methods = new ArrayList<MethodSource<O>>();
+         MethodFinderVisitor methodFinderVisitor = new MethodFinderVisitor();
+         body.accept(methodFinderVisitor);
+         for (MethodDeclaration methodDeclaration : methodFinderVisitor.getMethods())
+         {
+            MethodSource<O> method = NodeCache.get(methodDeclaration, AbstractJavaSourceMemberHolder.this,
+                     MethodImpl.class);
+            if (method == null)
+            {
+               method = NodeCache.put(methodDeclaration, AbstractJavaSourceMemberHolder.this, MethodImpl.class,
+                        new MethodImpl<O>((O) AbstractJavaSourceMemberHolder.this, methodDeclaration));
+            }
+            methods.add(method);
+            List<MethodSource<O>> overloads = methodsByName.get(method.getName());
+            if (overloads == null)
+            {
+               overloads = new ArrayList<MethodSource<O>>(1);
+               methodsByName.put(method.getName(), overloads);
+            }
+            overloads.add(method);
+         }
+         this.methods = Collections.unmodifiableList(methods);
+      }
+   }
 }
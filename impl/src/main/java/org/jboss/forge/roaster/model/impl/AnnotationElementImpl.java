@@ -20,7 +20,6 @@ import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.PrimitiveType;
 import org.eclipse.jdt.core.dom.PrimitiveType.Code;
 import org.eclipse.jdt.core.dom.TypeLiteral;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
@@ -101,7 +100,7 @@ public class AnnotationElementImpl implements AnnotationElementSource
          else
          {
             String stub = "public @interface Stub { String stub() default " + value + "; }";
-            JavaAnnotationSource temp = (JavaAnnotationSource) Roaster.parse(stub);
+            JavaAnnotationSource temp = (JavaAnnotationSource) Stubs.parse(JavaType.class, stub);
             AnnotationTypeMemberDeclaration internal = (AnnotationTypeMemberDeclaration) temp.getAnnotationElements()
                      .get(0).getInternal();
             member.setDefault((Expression) ASTNode.copySubtree(ast, internal.getDefault()));
@@ -317,7 +316,7 @@ public class AnnotationElementImpl implements AnnotationElementSource
          declaration = declaration + ";";
       }
       String stub = "public @interface Stub { " + declaration + " }";
-      JavaAnnotationSource temp = (JavaAnnotationSource) Roaster.parse(stub);
+      JavaAnnotationSource temp = (JavaAnnotationSource) Stubs.parse(JavaType.class, stub);
       List<AnnotationElementSource> fields = temp.getAnnotationElements();
       AnnotationTypeMemberDeclaration newField = (AnnotationTypeMemberDeclaration) fields.get(0).getInternal();
       return (AnnotationTypeMemberDeclaration) ASTNode.copySubtree(((ASTNode) parent.getInternal()).getAST(), newField);
@@ -26,11 +26,11 @@ import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.SingleMemberAnnotation;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.TypeLiteral;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.JavaClass;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.ValuePair;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.AnnotationTargetSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
@@ -300,7 +300,7 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
          SingleMemberAnnotation sa = (SingleMemberAnnotation) annotation;
 
          String stub = "@" + getName() + "(" + value + ") public class Stub { }";
-         JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
+         JavaClass<?> temp = Stubs.parse(JavaClass.class, stub);
 
          SingleMemberAnnotation anno = (SingleMemberAnnotation) temp.getAnnotations().get(0).getInternal();
 
@@ -337,7 +337,7 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
       NormalAnnotation na = (NormalAnnotation) annotation;
 
       String stub = "@" + getName() + "(" + name + "=" + value + " ) public class Stub { }";
-      JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
+      JavaClass<?> temp = Stubs.parse(JavaClass.class, stub);
 
       NormalAnnotation anno = (NormalAnnotation) temp.getAnnotations().get(0).getInternal();
       MemberValuePair mvp = (MemberValuePair) anno.values().get(0);
@@ -494,6 +494,7 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
          na.setName(getName());
          replace(annotation, na.annotation);
          annotation = na.annotation;
+         NodeCache.put(annotation, parent, AnnotationImpl.class, this);
 
          if (AnnotationType.MARKER != type && (value != null))
          {
@@ -572,7 +573,7 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
       AnnotationSource<O> result = new Nested(this);
 
       String stub = "@" + getName() + "(" + name + "= 0 ) public class Stub { }";
-      JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
+      JavaClass<?> temp = Stubs.parse(JavaClass.class, stub);
 
       NormalAnnotation anno = (NormalAnnotation) temp.getAnnotations().get(0).getInternal();
       MemberValuePair mvp = (MemberValuePair) anno.values().get(0);
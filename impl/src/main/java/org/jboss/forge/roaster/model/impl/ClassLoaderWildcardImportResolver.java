@@ -7,44 +7,160 @@
 
 package org.jboss.forge.roaster.model.impl;
 
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.Importer;
 import org.jboss.forge.roaster.spi.WildcardImportResolver;
 
 /**
- * Tries to resolve based on the current classloader
+ * Tries to resolve based on the current classloader.
+ * <p>
+ * The classes visible to each {@link ClassLoader} are indexed once, by listing its class path and the JDK modules,
+ * without loading any class. Set the system property {@value #LOAD_CLASS_FALLBACK_PROPERTY} to {@code true} to also
+ * look up types missing from the index, e.g. those of class loaders whose class path cannot be listed, with
+ * {@link Class#forName(String, boolean, ClassLoader)} and without initialization. The answers of these lookups are
+ * cached.
  * 
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
 public class ClassLoaderWildcardImportResolver implements WildcardImportResolver
 {
+   public static final String LOAD_CLASS_FALLBACK_PROPERTY = "org.jboss.forge.roaster.wildcardImports.loadClass";
+
+   /**
+    * Maximum number of class loading answers cached per {@link ClassLoader}.
+    */
+   private static final int MAX_CACHED_ANSWERS = 4096;
+
+   private static final Map<ClassLoader, Resolver> RESOLVERS = new WeakHashMap<ClassLoader, Resolver>();
+
    @Override
    public String resolve(JavaType<?> source, String type)
    {
       if (source instanceof Importer)
       {
-         ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
          Importer<?> importer = (Importer<?>) source;
+         Resolver resolver = null;
          for (Import importDeclaration : importer.getImports())
          {
             if (importDeclaration.isWildcard())
             {
-               String resolvedClass = importDeclaration.getQualifiedName() + "." + type;
-               try
+               if (resolver == null)
                {
-                  contextClassLoader.loadClass(resolvedClass);
-                  return resolvedClass;
+                  resolver = getResolver();
                }
-               catch (ClassNotFoundException e)
+               if (resolver.exists(importDeclaration.getQualifiedName(), type))
                {
-                  // Class doesn't exist
+                  return importDeclaration.getQualifiedName() + "." + type;
                }
             }
          }
-
       }
       return type;
    }
 
+   private static Resolver getResolver()
+   {
+      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      if (classLoader == null)
+      {
+         classLoader = ClassLoaderWildcardImportResolver.class.getClassLoader();
+      }
+      synchronized (RESOLVERS)
+      {
+         Resolver result = RESOLVERS.get(classLoader);
+         if (result == null)
+         {
+            result = new Resolver(classLoader);
+            RESOLVERS.put(classLoader, result);
+         }
+         return result;
+      }
+   }
+
+   /**
+    * Answers whether types exist for a single {@link ClassLoader}. Holds its {@link ClassLoader} only weakly, as it is
+    * the value of a {@link WeakHashMap} keyed by that {@link ClassLoader}.
+    */
+   private static class Resolver
+   {
+      private final WeakReference<ClassLoader> classLoader;
+      private final ClassPathIndex index;
+      private final Map<String, Boolean> answers = new LinkedHashMap<String, Boolean>(16, 0.75f, true)
+      {
+         private static final long serialVersionUID = 1L;
+
+         @Override
+         protected boolean removeEldestEntry(Entry<String, Boolean> eldest)
+         {
+            return size() > MAX_CACHED_ANSWERS;
+         }
+      };
+
+      Resolver(ClassLoader classLoader)
+      {
+         this.classLoader = new WeakReference<ClassLoader>(classLoader);
+         this.index = new ClassPathIndex(classLoader);
+      }
+
+      boolean exists(String packageOrType, String simpleName)
+      {
+         if (index.contains(packageOrType, simpleName))
+         {
+            return true;
+         }
+         return Boolean.getBoolean(LOAD_CLASS_FALLBACK_PROPERTY) && load(packageOrType, simpleName);
+      }
+
+      /**
+       * Look up the given type, by its binary name if it is a nested type, and remember the answer.
+       */
+      private synchronized boolean load(String packageOrType, String simpleName)
+      {
+         String typeName = packageOrType + "." + simpleName;
+         Boolean answer = answers.get(typeName);
+         if (answer == null)
+         {
+            ClassLoader loader = classLoader.get();
+            if (loader == null)
+            {
+               return false;
+            }
+            answer = exists(loader, typeName);
+            // nested types of a type, e.g. for java.util.Map.*, have '$' separated binary names
+            String nestedName = simpleName;
+            for (int dot = packageOrType.lastIndexOf('.'); !answer && dot > 0; dot = packageOrType.lastIndexOf('.',
+                     dot - 1))
+            {
+               nestedName = packageOrType.substring(dot + 1) + "$" + nestedName;
+               answer = exists(loader, packageOrType.substring(0, dot) + "." + nestedName);
+            }
+            answers.put(typeName, answer);
+         }
+         return answer;
+      }
+
+      private static boolean exists(ClassLoader loader, String className)
+      {
+         try
+         {
+            Class.forName(className, false, loader);
+            return true;
+         }
+         catch (ClassNotFoundException e)
+         {
+            return false;
+         }
+         catch (LinkageError e)
+         {
+            return false;
+         }
+      }
+   }
 }
@@ -0,0 +1,355 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.impl;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * Index of the class names visible to a {@link ClassLoader}, by package, built by listing the jar and directory
+ * entries of its class path and the JDK modules without loading any class.
+ * <p>
+ * The index is built once. Class path directories are checked again for types missing from it, as classes may be
+ * compiled into them later. A type missing from both may still exist when the class path of a {@link ClassLoader}
+ * cannot be listed, as it is neither a {@link URLClassLoader} nor the system class loader.
+ */
+class ClassPathIndex
+{
+   /**
+    * Binary class names (nested classes separated by '$'), by package name.
+    */
+   private final Map<String, Set<String>> packages = new HashMap<String, Set<String>>();
+   private final Set<File> visited = new HashSet<File>();
+   private final List<File> directories = new ArrayList<File>();
+
+   ClassPathIndex(ClassLoader classLoader)
+   {
+      for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent())
+      {
+         if (loader instanceof URLClassLoader)
+         {
+            for (URL url : ((URLClassLoader) loader).getURLs())
+            {
+               addURL(url);
+            }
+         }
+         else if (loader == ClassLoader.getSystemClassLoader())
+         {
+            addPath(System.getProperty("java.class.path"));
+         }
+      }
+      // the bootstrap class path only exists up to Java 8; later versions use modules
+      String bootClassPath = System.getProperty("sun.boot.class.path");
+      if (bootClassPath != null)
+      {
+         addPath(bootClassPath);
+      }
+      else
+      {
+         addModules();
+      }
+   }
+
+   /**
+    * Whether the given package, or type for nested types, is known to contain a type of the given simple name.
+    */
+   boolean contains(String packageOrType, String simpleName)
+   {
+      if (containsBinaryName(packageOrType, simpleName))
+      {
+         return true;
+      }
+      // nested types of a type, e.g. for java.util.Map.*
+      String nestedName = simpleName;
+      for (int dot = packageOrType.lastIndexOf('.'); dot > 0; dot = packageOrType.lastIndexOf('.', dot - 1))
+      {
+         nestedName = packageOrType.substring(dot + 1) + "$" + nestedName;
+         if (containsBinaryName(packageOrType.substring(0, dot), nestedName))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private boolean containsBinaryName(String pkg, String binaryName)
+   {
+      Set<String> names = packages.get(pkg);
+      if (names != null && names.contains(binaryName))
+      {
+         return true;
+      }
+      String fileName = pkg.replace('.', File.separatorChar) + File.separator + binaryName + ".class";
+      for (File directory : directories)
+      {
+         if (new File(directory, fileName).isFile())
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private void addPath(String path)
+   {
+      if (path != null)
+      {
+         StringTokenizer tokenizer = new StringTokenizer(path, File.pathSeparator);
+         while (tokenizer.hasMoreTokens())
+         {
+            addFile(new File(tokenizer.nextToken()));
+         }
+      }
+   }
+
+   private void addURL(URL url)
+   {
+      if (!"file".equals(url.getProtocol()))
+      {
+         return;
+      }
+      try
+      {
+         addFile(new File(url.toURI()));
+      }
+      catch (URISyntaxException e)
+      {
+         addFile(new File(url.getPath()));
+      }
+      catch (IllegalArgumentException e)
+      {
+         // not a hierarchical file URL; leave it to the class loading fallback
+      }
+   }
+
+   private void addFile(File file)
+   {
+      file = file.getAbsoluteFile();
+      if (!visited.add(file))
+      {
+         return;
+      }
+      if (file.isDirectory())
+      {
+         directories.add(file);
+         addDirectory(file, "");
+      }
+      else if (file.isFile())
+      {
+         addJar(file);
+      }
+   }
+
+   private void addDirectory(File directory, String pkg)
+   {
+      File[] files = directory.listFiles();
+      if (files == null)
+      {
+         return;
+      }
+      for (File file : files)
+      {
+         if (file.isDirectory())
+         {
+            addDirectory(file, pkg.isEmpty() ? file.getName() : pkg + "." + file.getName());
+         }
+         else
+         {
+            addClass(pkg, file.getName());
+         }
+      }
+   }
+
+   private void addJar(File file)
+   {
+      JarFile jar = null;
+      try
+      {
+         jar = new JarFile(file);
+         Enumeration<JarEntry> entries = jar.entries();
+         while (entries.hasMoreElements())
+         {
+            String name = entries.nextElement().getName();
+            int slash = name.lastIndexOf('/');
+            addClass(slash < 0 ? "" : name.substring(0, slash).replace('/', '.'), name.substring(slash + 1));
+         }
+         // manifest-only jars, as used by some launchers, reference the real class path
+         Manifest manifest = jar.getManifest();
+         String classPath = manifest == null ? null : manifest.getMainAttributes().getValue(
+                  Attributes.Name.CLASS_PATH);
+         if (classPath != null)
+         {
+            URI base = file.toURI();
+            StringTokenizer tokenizer = new StringTokenizer(classPath);
+            while (tokenizer.hasMoreTokens())
+            {
+               try
+               {
+                  addURL(base.resolve(tokenizer.nextToken()).toURL());
+               }
+               catch (Exception e)
+               {
+                  // unusable entry; leave it to the class loading fallback
+               }
+            }
+         }
+      }
+      catch (IOException e)
+      {
+         // unreadable jar; leave it to the class loading fallback
+      }
+      finally
+      {
+         if (jar != null)
+         {
+            try
+            {
+               jar.close();
+            }
+            catch (IOException ignored)
+            {
+            }
+         }
+      }
+   }
+
+   /**
+    * Add the classes of the JDK modules, which the jrt file system lists from Java 9 on. As Roaster targets Java 6,
+    * java.nio.file is only used through reflection.
+    */
+   private void addModules()
+   {
+      try
+      {
+         Class<?> files = Class.forName("java.nio.file.Files");
+         Class<?> path = Class.forName("java.nio.file.Path");
+         Object noLinkOptions = Array.newInstance(Class.forName("java.nio.file.LinkOption"), 0);
+         Class<?> fileSystem = Class.forName("java.nio.file.FileSystem");
+         Object jrt = Class.forName("java.nio.file.FileSystems").getMethod("getFileSystem", URI.class)
+                  .invoke(null, URI.create("jrt:/"));
+         Object modules = fileSystem.getMethod("getPath", String.class, String[].class).invoke(jrt, "/modules",
+                  new String[0]);
+         ModuleFiles moduleFiles = new ModuleFiles(files.getMethod("newDirectoryStream", path), files.getMethod(
+                  "isDirectory", path, noLinkOptions.getClass()), path.getMethod("getFileName"), noLinkOptions);
+         for (Object module : moduleFiles.list(modules))
+         {
+            addModuleDirectory(moduleFiles, module, "");
+         }
+      }
+      catch (Exception e)
+      {
+         // no jrt file system before Java 9; leave the JDK classes to the class loading fallback
+      }
+   }
+
+   private void addModuleDirectory(ModuleFiles moduleFiles, Object directory, String pkg) throws Exception
+   {
+      for (Object file : moduleFiles.list(directory))
+      {
+         String name = moduleFiles.getName(file);
+         if (moduleFiles.isDirectory(file))
+         {
+            addModuleDirectory(moduleFiles, file, pkg.isEmpty() ? name : pkg + "." + name);
+         }
+         else
+         {
+            addClass(pkg, name);
+         }
+      }
+   }
+
+   private void addClass(String pkg, String fileName)
+   {
+      if (!fileName.endsWith(".class"))
+      {
+         return;
+      }
+      String binaryName = fileName.substring(0, fileName.length() - ".class".length());
+      int dollar = binaryName.lastIndexOf('$');
+      // skip anonymous and local classes, which can never be referenced by name
+      if (dollar >= 0 && dollar + 1 < binaryName.length() && Character.isDigit(binaryName.charAt(dollar + 1)))
+      {
+         return;
+      }
+      Set<String> names = packages.get(pkg);
+      if (names == null)
+      {
+         names = new HashSet<String>();
+         packages.put(pkg, names);
+      }
+      names.add(binaryName);
+   }
+
+   /**
+    * The java.nio.file methods listing the jrt file system.
+    */
+   private static class ModuleFiles
+   {
+      private final Method newDirectoryStream;
+      private final Method isDirectory;
+      private final Method getFileName;
+      private final Object noLinkOptions;
+
+      ModuleFiles(Method newDirectoryStream, Method isDirectory, Method getFileName, Object noLinkOptions)
+      {
+         this.newDirectoryStream = newDirectoryStream;
+         this.isDirectory = isDirectory;
+         this.getFileName = getFileName;
+         this.noLinkOptions = noLinkOptions;
+      }
+
+      List<Object> list(Object directory) throws Exception
+      {
+         List<Object> result = new ArrayList<Object>();
+         Object stream = newDirectoryStream.invoke(null, directory);
+         try
+         {
+            for (Object file : (Iterable<?>) stream)
+            {
+               result.add(file);
+            }
+         }
+         finally
+         {
+            ((Closeable) stream).close();
+         }
+         return result;
+      }
+
+      boolean isDirectory(Object file) throws Exception
+      {
+         return (Boolean) isDirectory.invoke(null, file, noLinkOptions);
+      }
+
+      String getName(Object file) throws Exception
+      {
+         String name = getFileName.invoke(file).toString();
+         // directory names of the jrt file system may end with a slash
+         return name.endsWith("/") ? name.substring(0, name.length() - 1) : name;
+      }
+   }
+}
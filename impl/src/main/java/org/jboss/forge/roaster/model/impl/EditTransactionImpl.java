@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.jboss.forge.roaster.model.ast.FragmentBuilder;
+import org.jboss.forge.roaster.model.source.EditTransaction;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.SourceEdit;
+import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * Records the modifications of a {@link SourceEdit}, and applies them to the AST in one pass once it completes.
+ */
+class EditTransactionImpl<O extends JavaSource<O>> implements EditTransaction<O>
+{
+   private final O source;
+   private final JavaSource<?> importer;
+   private final List<Object> bodyDeclarations;
+   private final boolean annotatable;
+
+   private final Set<String> imports = new LinkedHashSet<String>();
+   private final Set<String> annotations = new LinkedHashSet<String>();
+   private final StringBuilder declarations = new StringBuilder();
+   private final List<Member> members = new ArrayList<Member>();
+
+   /**
+    * @param source the edited source
+    * @param importer the top-level source owning the {@link CompilationUnit}
+    * @param bodyDeclarations the body declarations of the edited type
+    * @param annotatable whether the edited source supports annotations
+    */
+   EditTransactionImpl(O source, JavaSource<?> importer, List<Object> bodyDeclarations, boolean annotatable)
+   {
+      this.source = source;
+      this.importer = importer;
+      this.bodyDeclarations = bodyDeclarations;
+      this.annotatable = annotatable;
+   }
+
+   /**
+    * Apply the given {@link SourceEdit} to the given source.
+    */
+   static <O extends JavaSource<O>> O edit(SourceEdit<O> edit, O source, JavaSource<?> importer,
+            List<Object> bodyDeclarations, boolean annotatable)
+   {
+      EditTransactionImpl<O> tx = new EditTransactionImpl<O>(source, importer, bodyDeclarations, annotatable);
+      edit.apply(tx);
+      tx.commit();
+      return source;
+   }
+
+   @Override
+   public O getSource()
+   {
+      return source;
+   }
+
+   @Override
+   public EditTransaction<O> addImport(String className)
+   {
+      String strippedClassName = Types.stripGenerics(Types.stripArray(className));
+      if (Strings.isNullOrEmpty(strippedClassName) || Types.isPrimitive(strippedClassName))
+      {
+         throw new IllegalArgumentException("Attempted to import the illegal type [" + strippedClassName + "]");
+      }
+      if (Types.isSimpleName(strippedClassName))
+      {
+         if (!importer.hasImport(strippedClassName))
+         {
+            throw new IllegalArgumentException("Cannot import class without a package [" + strippedClassName + "]");
+         }
+      }
+      else
+      {
+         imports.add(strippedClassName);
+      }
+      return this;
+   }
+
+   @Override
+   public EditTransaction<O> addImport(Class<?> type)
+   {
+      return addImport(type.getCanonicalName());
+   }
+
+   @Override
+   public EditTransaction<O> addAnnotation(String className)
+   {
+      if (!annotatable)
+      {
+         throw new UnsupportedOperationException();
+      }
+      if (Types.isQualified(className))
+      {
+         addImport(className);
+      }
+      annotations.add(Types.toSimpleName(className));
+      return this;
+   }
+
+   @Override
+   public EditTransaction<O> addAnnotation(Class<? extends java.lang.annotation.Annotation> type)
+   {
+      return addAnnotation(type.getName());
+   }
+
+   @Override
+   public EditTransaction<O> addField(String declaration)
+   {
+      return addMember(FieldDeclaration.class, "field", declaration);
+   }
+
+   @Override
+   public EditTransaction<O> addMethod(String declaration)
+   {
+      return addMember(MethodDeclaration.class, "method", declaration);
+   }
+
+   private EditTransaction<O> addMember(Class<? extends BodyDeclaration> kind, String description, String declaration)
+   {
+      int start = declarations.length();
+      declarations.append(declaration).append('\n');
+      members.add(new Member(kind, description, declaration, start, declarations.length()));
+      return this;
+   }
+
+   /**
+    * Parse all recorded member declarations at once, check that each recorded declaration yielded exactly one member of
+    * the expected kind, then add the new imports, members and annotations.
+    */
+   @SuppressWarnings("unchecked")
+   void commit()
+   {
+      CompilationUnit unit = (CompilationUnit) importer.getInternal();
+      List<BodyDeclaration> parsed = declarations.length() == 0 ? new ArrayList<BodyDeclaration>()
+               : FragmentBuilder.newBodyDeclarations(unit.getAST(), declarations.toString());
+      check(parsed);
+
+      if (!imports.isEmpty())
+      {
+         Set<String> existing = new HashSet<String>();
+         for (Import imprt : importer.getImports())
+         {
+            existing.add(imprt.isWildcard() ? imprt.getQualifiedName() + ".*" : imprt.getQualifiedName());
+         }
+         List<Object> added = new ArrayList<Object>();
+         for (String name : imports)
+         {
+            if (existing.add(name))
+            {
+               added.add(new ImportImpl(importer).setName(name).getInternal());
+            }
+         }
+         unit.imports().addAll(added);
+      }
+
+      int fieldIndex = 0;
+      while (fieldIndex < bodyDeclarations.size() && bodyDeclarations.get(fieldIndex) instanceof FieldDeclaration)
+      {
+         fieldIndex++;
+      }
+      for (BodyDeclaration member : parsed)
+      {
+         if (member instanceof FieldDeclaration)
+         {
+            // like addField(String), declare each variable separately
+            FieldDeclaration field = (FieldDeclaration) member;
+            if (field.fragments().size() == 1)
+            {
+               bodyDeclarations.add(fieldIndex++, field);
+            }
+            else
+            {
+               for (Object fragment : field.fragments())
+               {
+                  ASTNode internal = (ASTNode) new FieldImpl<O>(source, fragment, true).getInternal();
+                  bodyDeclarations.add(fieldIndex++, internal.getParent());
+               }
+            }
+         }
+         else
+         {
+            bodyDeclarations.add(member);
+         }
+      }
+
+      for (String annotation : annotations)
+      {
+         source.addAnnotation(annotation);
+      }
+   }
+
+   /**
+    * Match the parsed declarations to the recorded ones by their position in the parsed source.
+    */
+   private void check(List<BodyDeclaration> parsed)
+   {
+      int next = 0;
+      for (Member member : members)
+      {
+         List<BodyDeclaration> matched = new ArrayList<BodyDeclaration>();
+         while (next < parsed.size() && parsed.get(next).getStartPosition() < member.end)
+         {
+            matched.add(parsed.get(next++));
+         }
+         if (matched.size() != 1 || !member.kind.isInstance(matched.get(0))
+                  || matched.get(0).getStartPosition() < member.start
+                  || matched.get(0).getStartPosition() + matched.get(0).getLength() > member.end)
+         {
+            throw new IllegalArgumentException("Not a single " + member.description + " declaration ["
+                     + member.declaration + "]");
+         }
+      }
+   }
+
+   /**
+    * A member declaration recorded by {@link EditTransactionImpl#addField(String)} or
+    * {@link EditTransactionImpl#addMethod(String)}, and its range in the parsed source.
+    */
+   private static class Member
+   {
+      final Class<? extends BodyDeclaration> kind;
+      final String description;
+      final String declaration;
+      final int start;
+      final int end;
+
+      Member(Class<? extends BodyDeclaration> kind, String description, String declaration, int start, int end)
+      {
+         this.kind = kind;
+         this.description = description;
+         this.declaration = declaration;
+         this.start = start;
+         this.end = end;
+      }
+   }
+}
@@ -10,19 +10,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
-import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jface.text.Document;
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.Field;
@@ -31,12 +30,15 @@ import org.jboss.forge.roaster.model.Method;
 import org.jboss.forge.roaster.model.Parameter;
 import org.jboss.forge.roaster.model.SyntaxError;
 import org.jboss.forge.roaster.model.Visibility;
+import org.jboss.forge.roaster.model.ast.FragmentBuilder;
+import org.jboss.forge.roaster.model.ast.MethodBodies;
 import org.jboss.forge.roaster.model.ast.MethodFinderVisitor;
-import org.jboss.forge.roaster.model.ast.TypeDeclarationFinderVisitor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.EnumConstantSource.Body;
 import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.FieldTemplate;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaDocSource;
@@ -44,10 +46,12 @@ import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.MemberSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
+import org.jboss.forge.roaster.model.source.MethodTemplate;
 import org.jboss.forge.roaster.model.source.ParameterSource;
+import org.jboss.forge.roaster.model.source.SourceEdit;
+import org.jboss.forge.roaster.model.source.SourceFormatting;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
-import org.jboss.forge.roaster.spi.JavaParserImpl;
 
 @SuppressWarnings("unchecked")
 class EnumConstantBodyImpl implements EnumConstantSource.Body
@@ -409,6 +413,24 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
       return javaEnum.getInternal();
    }
 
+   @Override
+   public String toUnformattedString()
+   {
+      return javaEnum.toUnformattedString();
+   }
+
+   @Override
+   public String toString(SourceFormatting formatting)
+   {
+      return javaEnum.toString(formatting);
+   }
+
+   @Override
+   public Body copy()
+   {
+      return (Body) SourceCopier.copy(this);
+   }
+
    AnonymousClassDeclaration getBody()
    {
       final EnumConstantDeclaration enumConstantDeclaration = (EnumConstantDeclaration) enumConstant.getInternal();
@@ -418,7 +440,7 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
          if (result == null)
          {
             final String stub = "enum StubEnum { FOO() {}; }";
-            final JavaEnumSource temp = Roaster.parse(JavaEnumSource.class, stub);
+            final JavaEnumSource temp = Stubs.parse(JavaEnumSource.class, stub);
             final AnonymousClassDeclaration body = ((EnumConstantBodyImpl) temp.getEnumConstants().get(0).getBody())
                      .getBody();
             final AST ast = ((ASTNode) javaEnum.getInternal()).getAST();
@@ -444,6 +466,13 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
       return Collections.unmodifiableList(result);
    }
 
+   @Override
+   @SuppressWarnings("unchecked")
+   public Body edit(final SourceEdit<Body> edit)
+   {
+      return EditTransactionImpl.edit(edit, this, javaEnum, (List<Object>) getBody().bodyDeclarations(), false);
+   }
+
    @Override
    public FieldSource<Body> addField()
    {
@@ -455,14 +484,40 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    @Override
    public FieldSource<Body> addField(final String declaration)
    {
-      String stub = "public class Stub { " + declaration + " }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<FieldSource<JavaClassSource>> fields = temp.getFields();
       FieldSource<Body> result = null;
-      for (FieldSource<JavaClassSource> stubField : fields)
+      for (BodyDeclaration bodyDeclaration : FragmentBuilder.newBodyDeclarations(
+               ((ASTNode) getInternal()).getAST(), declaration))
       {
-         Object variableDeclaration = stubField.getInternal();
-         FieldSource<Body> field = new FieldImpl<Body>(this, variableDeclaration, true);
+         if (bodyDeclaration instanceof FieldDeclaration)
+         {
+            for (Object fragment : ((FieldDeclaration) bodyDeclaration).fragments())
+            {
+               FieldSource<Body> field = new FieldImpl<Body>(this, fragment, true);
+               addField(field);
+               if (result == null)
+               {
+                  result = field;
+               }
+            }
+         }
+      }
+      return result;
+   }
+
+   @Override
+   public FieldSource<Body> addField(final FieldTemplate template)
+   {
+      return addField(template, null);
+   }
+
+   @Override
+   public FieldSource<Body> addField(final FieldTemplate template, final Map<String, String> placeholders)
+   {
+      FieldSource<Body> result = null;
+      for (BodyDeclaration bodyDeclaration : ((MemberTemplateImpl) template).copy(
+               ((ASTNode) getInternal()).getAST(), placeholders))
+      {
+         FieldSource<Body> field = new FieldImpl<Body>(this, ((FieldDeclaration) bodyDeclaration).fragments().get(0));
          addField(field);
          if (result == null)
          {
@@ -485,6 +540,7 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
          idx++;
       }
       bodyDeclarations.add(idx, (BodyDeclaration) ((VariableDeclarationFragment) field.getInternal()).getParent());
+      NodeCache.put(field.getInternal(), this, FieldImpl.class, field);
    }
 
    @Override
@@ -501,7 +557,12 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
             List<VariableDeclarationFragment> fragments = fieldDeclaration.fragments();
             for (VariableDeclarationFragment fragment : fragments)
             {
-               result.add(new FieldImpl<Body>(this, fragment));
+               FieldSource<Body> field = NodeCache.get(fragment, this, FieldImpl.class);
+               if (field == null)
+               {
+                  field = NodeCache.put(fragment, this, FieldImpl.class, new FieldImpl<Body>(this, fragment));
+               }
+               result.add(field);
             }
          }
       }
@@ -693,7 +754,7 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    {
       final MethodSource<Body> m = new MethodImpl<Body>(this);
       getBody().bodyDeclarations().add(m.getInternal());
-      return m;
+      return NodeCache.put(m.getInternal(), this, MethodImpl.class, m);
    }
 
    @Override
@@ -701,7 +762,22 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    {
       final MethodSource<Body> m = new MethodImpl<Body>(this, method);
       getBody().bodyDeclarations().add(m.getInternal());
-      return m;
+      return NodeCache.put(m.getInternal(), this, MethodImpl.class, m);
+   }
+
+   @Override
+   public MethodSource<Body> addMethod(final MethodTemplate template)
+   {
+      return addMethod(template, null);
+   }
+
+   @Override
+   public MethodSource<Body> addMethod(final MethodTemplate template, final Map<String, String> placeholders)
+   {
+      final MethodSource<Body> m = new MethodImpl<Body>(this, ((MemberTemplateImpl) template).copy(
+               ((ASTNode) getInternal()).getAST(), placeholders).get(0));
+      getBody().bodyDeclarations().add(m.getInternal());
+      return NodeCache.put(m.getInternal(), this, MethodImpl.class, m);
    }
 
    @Override
@@ -714,7 +790,13 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
 
       for (MethodDeclaration methodDeclaration : methodFinderVisitor.getMethods())
       {
-         result.add(new MethodImpl<Body>(this, methodDeclaration));
+         MethodSource<Body> method = NodeCache.get(methodDeclaration, this, MethodImpl.class);
+         if (method == null)
+         {
+            method = NodeCache.put(methodDeclaration, this, MethodImpl.class,
+                     new MethodImpl<Body>(this, methodDeclaration));
+         }
+         result.add(method);
       }
       return Collections.unmodifiableList(result);
    }
@@ -728,55 +810,13 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    @Override
    public List<JavaSource<?>> getNestedTypes()
    {
-      final JavaEnumImpl parentImpl = (JavaEnumImpl) javaEnum;
-      Document document = parentImpl.document;
-      CompilationUnit unit = parentImpl.unit;
-
-      final List<JavaSource<?>> result = new ArrayList<JavaSource<?>>();
-
-      final List<BodyDeclaration> bodyDeclarations = getBody().bodyDeclarations();
-      for (BodyDeclaration body : bodyDeclarations)
-      {
-         final List<AbstractTypeDeclaration> declarations = getNestedDeclarations(body);
-         for (AbstractTypeDeclaration declaration : declarations)
-         {
-            result.add(JavaParserImpl.getJavaSource(this, document, unit, declaration));
-         }
-      }
-      return result;
-   }
-
-   private List<AbstractTypeDeclaration> getNestedDeclarations(BodyDeclaration body)
-   {
-      final TypeDeclarationFinderVisitor typeDeclarationFinder = new TypeDeclarationFinderVisitor();
-      body.accept(typeDeclarationFinder);
-      final List<AbstractTypeDeclaration> declarations = typeDeclarationFinder.getTypeDeclarations();
-
-      final List<AbstractTypeDeclaration> result = new ArrayList<AbstractTypeDeclaration>(declarations);
-      if (!declarations.isEmpty())
-      {
-         // We don't want to return the current enum constant body's declaration.
-         final AbstractTypeDeclaration first = declarations.remove(0);
-         result.remove(first);
-         for (AbstractTypeDeclaration declaration : declarations)
-         {
-            result.removeAll(getNestedDeclarations(declaration));
-         }
-      }
-      return result;
+      return ((JavaEnumImpl) javaEnum).getTypeTree().getNestedTypes(this, getBody());
    }
 
    @Override
    public boolean hasNestedType(String name)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (nested.getName().equals(name))
-         {
-            return true;
-         }
-      }
-      return false;
+      return getNestedType(name) != null;
    }
 
    @Override
@@ -800,14 +840,7 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    @Override
    public JavaSource<?> getNestedType(String name)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (Strings.areEqual(nested.getName(), name) || Strings.areEqual(nested.getQualifiedName(), name))
-         {
-            return nested;
-         }
-      }
-      return null;
+      return ((JavaEnumImpl) javaEnum).getTypeTree().getNestedType(this, getBody(), name);
    }
 
    @Override
@@ -838,12 +871,12 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    @Override
    public <NESTED_TYPE extends JavaSource<?>> NESTED_TYPE addNestedType(String declaration)
    {
-      JavaType<?> source = Roaster.parse(declaration);
+      JavaType<?> source = Stubs.parse(JavaType.class, declaration);
       if (!source.isClass())
       {
          throw new IllegalArgumentException("Enum constants body allow only classes to be added ");
       }
-      JavaSource<?> nestedType = Roaster.parse(JavaSource.class, declaration);
+      JavaSource<?> nestedType = Stubs.parse(JavaSource.class, declaration);
       return (NESTED_TYPE) addNestedType(nestedType);
    }
 
@@ -852,9 +885,7 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    {
       if (type instanceof AbstractJavaSource)
       {
-         BodyDeclaration bodyDeclaration = ((AbstractJavaSource<?>) type).body;
-         List<Object> bodyDeclarations = getBody().bodyDeclarations();
-         bodyDeclarations.remove(bodyDeclaration);
+         ((JavaEnumImpl) javaEnum).getTypeTree().remove(getBody(), ((AbstractJavaSource<?>) type).body);
       }
       return this;
    }
@@ -868,15 +899,14 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
       }
       if (type instanceof AbstractJavaSource)
       {
-         List<Object> bodyDeclarations = getBody().bodyDeclarations();
          BodyDeclaration nestedBody = ((AbstractJavaSource<?>) type).body;
-         bodyDeclarations.add(ASTNode.copySubtree(getBody().getAST(), nestedBody));
+         AbstractTypeDeclaration copy = (AbstractTypeDeclaration) MethodBodies.copySubtree(getBody().getAST(), nestedBody);
+         return (NESTED_TYPE) ((JavaEnumImpl) javaEnum).getTypeTree().add(this, getBody(), copy);
       }
       else
       {
          throw new IllegalArgumentException("type must be an AbstractJavaSource instance");
       }
-      return (NESTED_TYPE) getNestedType(type.getName());
    }
 
    @Override
@@ -895,7 +925,12 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
          javadoc = body.getAST().newJavadoc();
          body.setJavadoc(javadoc);
       }
-      return new JavaDocImpl<Body>(this, javadoc);
+      JavaDocSource<Body> result = NodeCache.get(javadoc, this, JavaDocImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(javadoc, this, JavaDocImpl.class, new JavaDocImpl<Body>(this, javadoc));
+      }
+      return result;
    }
 
    @Override
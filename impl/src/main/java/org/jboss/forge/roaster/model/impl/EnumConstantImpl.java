@@ -15,9 +15,10 @@ import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
 import org.eclipse.jdt.core.dom.Expression;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
+import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
@@ -46,7 +47,7 @@ public class EnumConstantImpl implements EnumConstantSource
       init(parent);
 
       String stub = "public enum Stub { " + declaration + " }";
-      JavaEnumSource temp = (JavaEnumSource) Roaster.parse(stub);
+      JavaEnumSource temp = (JavaEnumSource) Stubs.parse(JavaType.class, stub);
       List<EnumConstantSource> constants = temp.getEnumConstants();
       EnumConstantDeclaration newField = (EnumConstantDeclaration) constants.get(0).getInternal();
       EnumConstantDeclaration subtree = (EnumConstantDeclaration) ASTNode.copySubtree(ast, newField);
@@ -102,7 +103,7 @@ public class EnumConstantImpl implements EnumConstantSource
       if (literalArguments != null && literalArguments.length > 0)
       {
          final String stub = "public enum Stub { FOO(" + Strings.join(Arrays.asList(literalArguments), ", ") + "); }";
-         final JavaEnumSource temp = Roaster.parse(JavaEnumSource.class, stub);
+         final JavaEnumSource temp = Stubs.parse(JavaEnumSource.class, stub);
          final List<EnumConstantSource> constants = temp.getEnumConstants();
          final EnumConstantDeclaration newConstant = (EnumConstantDeclaration) constants.get(0).getInternal();
          final List<Expression> arguments = newConstant.arguments();
@@ -118,7 +119,12 @@ public class EnumConstantImpl implements EnumConstantSource
    @Override
    public Body getBody()
    {
-      return new EnumConstantBodyImpl(this);
+      Body result = NodeCache.get(enumConstant, this, EnumConstantBodyImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(enumConstant, this, EnumConstantBodyImpl.class, new EnumConstantBodyImpl(this));
+      }
+      return result;
    }
 
    @Override
@@ -17,17 +17,16 @@ import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
-import org.jboss.forge.roaster.model.JavaClass;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
+import org.jboss.forge.roaster.model.ast.FragmentBuilder;
 import org.jboss.forge.roaster.model.ast.ModifierAccessor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.FieldSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaDocSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.util.Strings;
@@ -309,7 +308,13 @@ public class FieldImpl<O extends JavaSource<O>> implements FieldSource<O>
    @Override
    public Type<O> getType()
    {
-      return new TypeImpl<O>(parent, field.getStructuralProperty(FieldDeclaration.TYPE_PROPERTY));
+      Object type = field.getStructuralProperty(FieldDeclaration.TYPE_PROPERTY);
+      Type<O> result = NodeCache.get(type, parent, TypeImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(type, parent, TypeImpl.class, new TypeImpl<O>(parent, type));
+      }
+      return result;
    }
 
    @Override
@@ -339,14 +344,7 @@ public class FieldImpl<O extends JavaSource<O>> implements FieldSource<O>
          origin.addImport(typeName);
       }
 
-      String stub = "public class Stub { " + simpleName + " field; }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<FieldSource<JavaClassSource>> fields = temp.getFields();
-      org.eclipse.jdt.core.dom.Type fieldType = ((FieldDeclaration) ((VariableDeclarationFragment) fields.get(0)
-               .getInternal()).getParent()).getType();
-
-      fieldType = (org.eclipse.jdt.core.dom.Type) ASTNode.copySubtree(field.getAST(), fieldType);
-      field.setType(fieldType);
+      field.setType(FragmentBuilder.newType(field.getAST(), simpleName));
 
       return this;
    }
@@ -368,10 +366,7 @@ public class FieldImpl<O extends JavaSource<O>> implements FieldSource<O>
    @Override
    public FieldSource<O> setLiteralInitializer(final String value)
    {
-      String stub = "public class Stub { private Object stub = " + value + " }";
-      JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
-      VariableDeclarationFragment tempFrag = (VariableDeclarationFragment) temp.getFields().get(0).getInternal();
-      fragment.setInitializer((Expression) ASTNode.copySubtree(ast, tempFrag.getInitializer()));
+      fragment.setInitializer(FragmentBuilder.newExpression(ast, value));
       return this;
    }
 
@@ -452,6 +447,11 @@ public class FieldImpl<O extends JavaSource<O>> implements FieldSource<O>
          javadoc = field.getAST().newJavadoc();
          field.setJavadoc(javadoc);
       }
-      return new JavaDocImpl<FieldSource<O>>(this, javadoc);
+      JavaDocSource<FieldSource<O>> result = NodeCache.get(javadoc, this, JavaDocImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(javadoc, this, JavaDocImpl.class, new JavaDocImpl<FieldSource<O>>(this, javadoc));
+      }
+      return result;
    }
 }
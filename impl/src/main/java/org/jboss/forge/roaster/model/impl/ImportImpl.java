@@ -11,6 +11,7 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.util.Symbols;
 import org.jboss.forge.roaster.model.util.Types;
 
 /**
@@ -49,7 +50,7 @@ public class ImportImpl implements Import
    @Override
    public String getQualifiedName()
    {
-      return imprt.getName().getFullyQualifiedName();
+      return Symbols.intern(imprt.getName().getFullyQualifiedName());
    }
 
    @Override
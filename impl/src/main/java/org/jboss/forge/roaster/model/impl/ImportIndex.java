@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.jboss.forge.roaster.model.ast.NodeCache;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Snapshot of the imports of a {@link CompilationUnit}, indexed by qualified and simple name. Valid only while the
+ * AST of the {@link CompilationUnit} is unmodified; see {@link #isCurrent()}.
+ */
+class ImportIndex
+{
+   private final CompilationUnit unit;
+   private final long modificationCount;
+   private final List<Import> imports;
+   private final List<Import> wildcards;
+   private final Map<String, Integer> qualifiedNames;
+   private final Map<String, Integer> simpleNames;
+
+   @SuppressWarnings("unchecked")
+   ImportIndex(JavaSource<?> source, CompilationUnit unit)
+   {
+      this.unit = unit;
+      this.modificationCount = unit.getAST().modificationCount();
+
+      List<ImportDeclaration> declarations = unit.imports();
+      List<Import> imports = new ArrayList<Import>(declarations.size());
+      List<Import> wildcards = new ArrayList<Import>();
+      qualifiedNames = new HashMap<String, Integer>(declarations.size() * 4 / 3 + 1);
+      simpleNames = new HashMap<String, Integer>(declarations.size() * 4 / 3 + 1);
+      for (ImportDeclaration declaration : declarations)
+      {
+         Import imprt = NodeCache.get(declaration, unit, ImportImpl.class);
+         if (imprt == null)
+         {
+            imprt = NodeCache.put(declaration, unit, ImportImpl.class, new ImportImpl(source, declaration));
+         }
+         Integer position = imports.size();
+         imports.add(imprt);
+         if (imprt.isWildcard())
+         {
+            wildcards.add(imprt);
+         }
+         if (!qualifiedNames.containsKey(imprt.getQualifiedName()))
+         {
+            qualifiedNames.put(imprt.getQualifiedName(), position);
+         }
+         if (!simpleNames.containsKey(imprt.getSimpleName()))
+         {
+            simpleNames.put(imprt.getSimpleName(), position);
+         }
+      }
+      this.imports = Collections.unmodifiableList(imports);
+      this.wildcards = Collections.unmodifiableList(wildcards);
+   }
+
+   /**
+    * Whether this index still reflects the imports of its {@link CompilationUnit}.
+    */
+   boolean isCurrent()
+   {
+      return unit.getAST().modificationCount() == modificationCount;
+   }
+
+   List<Import> getImports()
+   {
+      return imports;
+   }
+
+   /**
+    * Return the wildcard (on-demand) imports, in declaration order.
+    */
+   List<Import> getWildcards()
+   {
+      return wildcards;
+   }
+
+   /**
+    * Return the first import whose qualified or simple name is the given name.
+    */
+   Import getImport(String name)
+   {
+      Integer qualified = qualifiedNames.get(name);
+      Integer simple = simpleNames.get(name);
+      if (qualified == null && simple == null)
+      {
+         return null;
+      }
+      if (qualified == null || (simple != null && simple < qualified))
+      {
+         return imports.get(simple);
+      }
+      return imports.get(qualified);
+   }
+
+   /**
+    * Return the first import whose qualified name is the given name.
+    */
+   Import getImportByQualifiedName(String name)
+   {
+      Integer position = qualifiedNames.get(name);
+      return position == null ? null : imports.get(position);
+   }
+
+   /**
+    * Return the first import whose simple name is the given name.
+    */
+   Import getImportBySimpleName(String name)
+   {
+      Integer position = simpleNames.get(name);
+      return position == null ? null : imports.get(position);
+   }
+}
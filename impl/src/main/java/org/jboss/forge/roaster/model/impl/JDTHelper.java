@@ -19,6 +19,7 @@ import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.WildcardType;
+import org.jboss.forge.roaster.model.util.Symbols;
 
 /**
  * Help with Eclipse JDT common operations.
@@ -35,27 +36,27 @@ public class JDTHelper
    {
       if (type instanceof SimpleType)
       {
-         return ((SimpleType) type).getName().toString();
+         return Symbols.intern(((SimpleType) type).getName().getFullyQualifiedName());
       }
       else if (type instanceof ArrayType)
       {
-         return ((ArrayType) type).getStructuralProperty(ArrayType.ELEMENT_TYPE_PROPERTY).toString();
+         return Symbols.intern(((ArrayType) type).getStructuralProperty(ArrayType.ELEMENT_TYPE_PROPERTY).toString());
       }
       else if (type instanceof QualifiedType)
       {
-         return ((QualifiedType) type).toString();
+         return Symbols.intern(((QualifiedType) type).toString());
       }
       else if (type instanceof PrimitiveType)
       {
-         return ((PrimitiveType) type).toString();
+         return Symbols.intern(((PrimitiveType) type).getPrimitiveTypeCode().toString());
       }
       else if (type instanceof ParameterizedType)
       {
-         return ((ParameterizedType) type).getType().toString();
+         return Symbols.intern(((ParameterizedType) type).getType().toString());
       }
       else if (type instanceof WildcardType)
       {
-         return ((WildcardType) type).getBound().toString();
+         return Symbols.intern(((WildcardType) type).getBound().toString());
       }
 
       return null;
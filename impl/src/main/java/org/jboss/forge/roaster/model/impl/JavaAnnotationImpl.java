@@ -16,6 +16,7 @@ import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jface.text.Document;
 import org.jboss.forge.roaster.model.AnnotationElement;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationElementSource;
 import org.jboss.forge.roaster.model.source.JavaAnnotationSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
@@ -122,7 +123,13 @@ public class JavaAnnotationImpl extends AbstractJavaSource<JavaAnnotationSource>
       {
          if (bodyDeclaration instanceof AnnotationTypeMemberDeclaration)
          {
-            result.add(new AnnotationElementImpl(this, bodyDeclaration));
+            AnnotationElementSource element = NodeCache.get(bodyDeclaration, this, AnnotationElementImpl.class);
+            if (element == null)
+            {
+               element = NodeCache.put(bodyDeclaration, this, AnnotationElementImpl.class,
+                        new AnnotationElementImpl(this, bodyDeclaration));
+            }
+            result.add(element);
          }
       }
 
@@ -15,6 +15,7 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
@@ -40,7 +41,12 @@ public class JavaEnumImpl extends AbstractJavaSourceMemberHolder<JavaEnumSource>
       for (Object o : (((EnumDeclaration) getBodyDeclaration()).enumConstants()))
       {
          EnumConstantDeclaration constant = (EnumConstantDeclaration) o;
-         result.add(new EnumConstantImpl(this, constant));
+         EnumConstantSource enumConst = NodeCache.get(constant, this, EnumConstantImpl.class);
+         if (enumConst == null)
+         {
+            enumConst = NodeCache.put(constant, this, EnumConstantImpl.class, new EnumConstantImpl(this, constant));
+         }
+         result.add(enumConst);
       }
 
       return Collections.unmodifiableList(result);
@@ -55,7 +61,7 @@ public class JavaEnumImpl extends AbstractJavaSourceMemberHolder<JavaEnumSource>
       List<EnumConstantDeclaration> constants = enumDeclaration.enumConstants();
       constants.add((EnumConstantDeclaration) enumConst.getInternal());
 
-      return enumConst;
+      return NodeCache.put(enumConst.getInternal(), this, EnumConstantImpl.class, enumConst);
    }
 
    @Override
@@ -68,7 +74,7 @@ public class JavaEnumImpl extends AbstractJavaSourceMemberHolder<JavaEnumSource>
       List<EnumConstantDeclaration> constants = enumDeclaration.enumConstants();
       constants.add((EnumConstantDeclaration) enumConst.getInternal());
 
-      return enumConst;
+      return NodeCache.put(enumConst.getInternal(), this, EnumConstantImpl.class, enumConst);
    }
 
    @Override
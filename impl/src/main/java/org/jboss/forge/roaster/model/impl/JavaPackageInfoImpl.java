@@ -13,12 +13,10 @@ import java.util.ServiceLoader;
 
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.PackageDeclaration;
 import org.eclipse.jface.text.Document;
-import org.eclipse.text.edits.TextEdit;
 import org.jboss.forge.roaster.ParserException;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.JavaType;
@@ -26,13 +24,15 @@ import org.jboss.forge.roaster.model.SyntaxError;
 import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
 import org.jboss.forge.roaster.model.ast.ModifierAccessor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.JavaDocSource;
 import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
-import org.jboss.forge.roaster.model.util.Formatter;
+import org.jboss.forge.roaster.model.source.SourceFormatting;
 import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.model.util.Symbols;
 import org.jboss.forge.roaster.model.util.Types;
 import org.jboss.forge.roaster.spi.WildcardImportResolver;
 
@@ -47,6 +47,7 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    private final ModifierAccessor modifiers = new ModifierAccessor();
 
    private static List<WildcardImportResolver> resolvers;
+   private ImportIndex importIndex;
 
    public JavaPackageInfoImpl(JavaSource<?> enclosingType, Document document,
             CompilationUnit unit, PackageDeclaration pkg)
@@ -181,15 +182,7 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    @Override
    public Import getImport(final String className)
    {
-      List<Import> imports = getImports();
-      for (Import imprt : imports)
-      {
-         if (imprt.getQualifiedName().equals(className) || imprt.getSimpleName().equals(className))
-         {
-            return imprt;
-         }
-      }
-      return null;
+      return getImportIndex().getImport(className);
    }
 
    @Override
@@ -211,17 +204,22 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    }
 
    @Override
-   @SuppressWarnings("unchecked")
    public List<Import> getImports()
    {
-      List<Import> results = new ArrayList<Import>();
+      return getImportIndex().getImports();
+   }
 
-      for (ImportDeclaration i : (List<ImportDeclaration>) unit.imports())
+   /**
+    * Return the {@link ImportIndex} for the current state of the AST, rebuilding it if the AST has been modified since
+    * it was last built.
+    */
+   private ImportIndex getImportIndex()
+   {
+      if (importIndex == null || !importIndex.isCurrent())
       {
-         results.add(new ImportImpl(this, i));
+         importIndex = new ImportIndex(this, unit);
       }
-
-      return Collections.unmodifiableList(results);
+      return importIndex;
    }
 
    @Override
@@ -318,13 +316,10 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
 
          if (result.equals(original))
          {
-            for (Import imprt : getImports())
+            Import imprt = getImportIndex().getImportBySimpleName(result);
+            if (imprt != null)
             {
-               if (Types.areEquivalent(result, imprt.getQualifiedName()))
-               {
-                  result = imprt.getQualifiedName();
-                  break;
-               }
+               result = imprt.getQualifiedName();
             }
          }
       }
@@ -332,18 +327,16 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
       // If we didn't match any imports directly, we might have a wild-card/on-demand import.
       if (Types.isSimpleName(result))
       {
-         for (Import imprt : getImports())
+         // resolvers consider every wild-card import themselves, so consult them only once
+         if (!getImportIndex().getWildcards().isEmpty())
          {
-            if (imprt.isWildcard())
+            // TODO warn if no wild-card resolvers are configured
+            // TODO Test wild-card/on-demand import resolving
+            for (WildcardImportResolver r : getImportResolvers())
             {
-               // TODO warn if no wild-card resolvers are configured
-               // TODO Test wild-card/on-demand import resolving
-               for (WildcardImportResolver r : getImportResolvers())
-               {
-                  result = r.resolve(this, result);
-                  if (Types.isQualified(result))
-                     break;
-               }
+               result = r.resolve(this, result);
+               if (Types.isQualified(result))
+                  break;
             }
          }
       }
@@ -384,13 +377,10 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    @Override
    public JavaPackageInfoSource removeImport(final String name)
    {
-      for (Import i : getImports())
+      Import imprt = getImportIndex().getImportByQualifiedName(name);
+      if (imprt != null)
       {
-         if (i.getQualifiedName().equals(name))
-         {
-            removeImport(i);
-            break;
-         }
+         removeImport(imprt);
       }
       return this;
    }
@@ -478,7 +468,7 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
       PackageDeclaration pkg = unit.getPackage();
       if (pkg != null)
       {
-         return pkg.getName().getFullyQualifiedName();
+         return Symbols.intern(pkg.getName().getFullyQualifiedName());
       }
       else
       {
@@ -589,19 +579,25 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    @Override
    public String toString()
    {
-      Document document = new Document(this.document.get());
+      return toString(SourceFormatting.FULL);
+   }
 
-      try
-      {
-         TextEdit edit = unit.rewrite(document, null);
-         edit.apply(document);
-      }
-      catch (Exception e)
-      {
-         throw new ParserException("Could not modify source: " + unit.toString(), e);
-      }
+   @Override
+   public String toUnformattedString()
+   {
+      return toString(SourceFormatting.NONE);
+   }
 
-      return Formatter.format(document.get());
+   @Override
+   public String toString(SourceFormatting formatting)
+   {
+      return SourceWriter.write(unit, document, null, formatting);
+   }
+
+   @Override
+   public JavaPackageInfoSource copy()
+   {
+      return (JavaPackageInfoSource) SourceCopier.copy(this);
    }
 
    @Override
@@ -730,7 +726,12 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
          javadoc = pkg.getAST().newJavadoc();
          pkg.setJavadoc(javadoc);
       }
-      return new JavaDocImpl<JavaPackageInfoSource>(this, javadoc);
+      JavaDocSource<JavaPackageInfoSource> result = NodeCache.get(javadoc, this, JavaDocImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(javadoc, this, JavaDocImpl.class, new JavaDocImpl<JavaPackageInfoSource>(this, javadoc));
+      }
+      return result;
    }
 
    @Override
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.JavaUnit;
+import org.jboss.forge.roaster.model.source.SourceFormatting;
+
+/**
+ * {@link JavaUnit} over the top-level types of one parse. The types share a single {@link CompilationUnit} and
+ * {@link Document}, so any of them renders the whole unit.
+ */
+public class JavaUnitImpl implements JavaUnit
+{
+   private final List<JavaSource<?>> types;
+
+   public JavaUnitImpl(List<JavaSource<?>> types)
+   {
+      if (types.isEmpty())
+      {
+         throw new IllegalArgumentException("A JavaUnit requires at least one type");
+      }
+      this.types = Collections.unmodifiableList(types);
+   }
+
+   @Override
+   public String getPackage()
+   {
+      return types.get(0).getPackage();
+   }
+
+   @Override
+   public List<Import> getImports()
+   {
+      return types.get(0).getImports();
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public <T extends JavaSource<?>> T getGoverningType()
+   {
+      return (T) types.get(0);
+   }
+
+   @Override
+   public List<JavaSource<?>> getTopLevelTypes()
+   {
+      return types;
+   }
+
+   @Override
+   public JavaSource<?> getTopLevelType(String name)
+   {
+      for (JavaSource<?> type : types)
+      {
+         if (type.getName().equals(name))
+         {
+            return type;
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public String toUnformattedString()
+   {
+      return types.get(0).toUnformattedString();
+   }
+
+   @Override
+   public String toString(SourceFormatting formatting)
+   {
+      return types.get(0).toString(formatting);
+   }
+
+   @Override
+   public String toString()
+   {
+      return types.get(0).toString();
+   }
+}
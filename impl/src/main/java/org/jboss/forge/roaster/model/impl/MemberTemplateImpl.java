@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.TextElement;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.jboss.forge.roaster.model.ast.FragmentBuilder;
+import org.jboss.forge.roaster.model.source.FieldTemplate;
+import org.jboss.forge.roaster.model.source.MemberTemplate;
+import org.jboss.forge.roaster.model.source.MethodTemplate;
+
+/**
+ * Holds the declarations of a {@link MemberTemplate} in an {@link AST} of its own, from which they are copied into the
+ * {@link AST} of each source they are added to. Placeholders are not valid in Java names, so they are parsed in an
+ * encoded form, <code>$$name$$</code>, which is replaced in the names of each copy.
+ */
+public abstract class MemberTemplateImpl implements MemberTemplate
+{
+   private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([A-Za-z_][A-Za-z0-9_]*)\\}");
+   private static final Pattern ENCODED = Pattern.compile("\\$\\$([A-Za-z_][A-Za-z0-9_]*)\\$\\$");
+
+   private final String source;
+   private final List<BodyDeclaration> declarations;
+   private final Set<String> placeholders;
+
+   /**
+    * Parse the given declaration of a single method or field into a {@link MethodTemplate} or {@link FieldTemplate}.
+    */
+   public static MemberTemplate parse(final String source)
+   {
+      String encoded = PLACEHOLDER.matcher(source).replaceAll("\\$\\$$1\\$\\$");
+      List<BodyDeclaration> parsed = FragmentBuilder.newBodyDeclarations(AST.newAST(AST.JLS8), encoded);
+      if (parsed.size() == 1)
+      {
+         BodyDeclaration declaration = parsed.get(0);
+         if (declaration instanceof MethodDeclaration)
+         {
+            return new MethodTemplateImpl(source, Collections.singletonList(declaration));
+         }
+         if (declaration instanceof FieldDeclaration)
+         {
+            return new FieldTemplateImpl(source, split((FieldDeclaration) declaration));
+         }
+      }
+      throw new IllegalArgumentException("Not a valid method or field declaration [" + source + "]");
+   }
+
+   private MemberTemplateImpl(String source, List<BodyDeclaration> declarations)
+   {
+      this.source = source;
+      this.declarations = declarations;
+      final Set<String> names = new TreeSet<String>();
+      for (BodyDeclaration declaration : declarations)
+      {
+         declaration.accept(new ASTVisitor(true)
+         {
+            @Override
+            public boolean visit(SimpleName node)
+            {
+               Matcher matcher = ENCODED.matcher(node.getIdentifier());
+               while (matcher.find())
+               {
+                  names.add(matcher.group(1));
+               }
+               return false;
+            }
+
+            @Override
+            public boolean visit(StringLiteral node)
+            {
+               node.setEscapedValue(decode(node.getEscapedValue()));
+               return false;
+            }
+
+            @Override
+            public boolean visit(TextElement node)
+            {
+               node.setText(decode(node.getText()));
+               return false;
+            }
+         });
+      }
+      this.placeholders = Collections.unmodifiableSet(names);
+   }
+
+   @Override
+   public Set<String> getPlaceholders()
+   {
+      return placeholders;
+   }
+
+   @Override
+   public String toString()
+   {
+      return source;
+   }
+
+   /**
+    * Copy the declarations of this template into the given {@link AST}, replacing placeholders in their names with the
+    * given values. A placeholder mapped to {@code null} counts as missing.
+    */
+   List<BodyDeclaration> copy(final AST ast, final Map<String, String> values)
+   {
+      Set<String> missing = new LinkedHashSet<String>();
+      for (String placeholder : placeholders)
+      {
+         if (values == null || values.get(placeholder) == null)
+         {
+            missing.add(placeholder);
+         }
+      }
+      if (!missing.isEmpty())
+      {
+         throw new IllegalArgumentException("No values given for placeholders " + missing + " of [" + source + "]");
+      }
+      List<BodyDeclaration> result = new ArrayList<BodyDeclaration>(declarations.size());
+      synchronized (declarations)
+      {
+         for (BodyDeclaration declaration : declarations)
+         {
+            result.add((BodyDeclaration) ASTNode.copySubtree(ast, declaration));
+         }
+      }
+      if (!placeholders.isEmpty())
+      {
+         for (BodyDeclaration declaration : result)
+         {
+            declaration.accept(new ASTVisitor(true)
+            {
+               @Override
+               public boolean visit(SimpleName node)
+               {
+                  Matcher matcher = ENCODED.matcher(node.getIdentifier());
+                  if (matcher.find())
+                  {
+                     StringBuffer identifier = new StringBuffer();
+                     do
+                     {
+                        matcher.appendReplacement(identifier, Matcher.quoteReplacement(values.get(matcher.group(1))));
+                     }
+                     while (matcher.find());
+                     matcher.appendTail(identifier);
+                     node.setIdentifier(identifier.toString());
+                  }
+                  return false;
+               }
+            });
+         }
+      }
+      return result;
+   }
+
+   private static String decode(String text)
+   {
+      return ENCODED.matcher(text).replaceAll("\\$\\{$1\\}");
+   }
+
+   /**
+    * Split the given declaration of several fields into one declaration per field, as {@link FieldImpl} expects.
+    */
+   @SuppressWarnings("unchecked")
+   private static List<BodyDeclaration> split(FieldDeclaration declaration)
+   {
+      List<BodyDeclaration> result = new ArrayList<BodyDeclaration>();
+      List<VariableDeclarationFragment> fragments = declaration.fragments();
+      while (fragments.size() > 1)
+      {
+         FieldDeclaration single = (FieldDeclaration) ASTNode.copySubtree(declaration.getAST(), declaration);
+         single.fragments().subList(1, single.fragments().size()).clear();
+         result.add(single);
+         fragments.remove(0);
+      }
+      result.add(declaration);
+      return result;
+   }
+
+   private static class MethodTemplateImpl extends MemberTemplateImpl implements MethodTemplate
+   {
+      MethodTemplateImpl(String source, List<BodyDeclaration> declarations)
+      {
+         super(source, declarations);
+      }
+   }
+
+   private static class FieldTemplateImpl extends MemberTemplateImpl implements FieldTemplate
+   {
+      FieldTemplateImpl(String source, List<BodyDeclaration> declarations)
+      {
+         super(source, declarations);
+      }
+   }
+}
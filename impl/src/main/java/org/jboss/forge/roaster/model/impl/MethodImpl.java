@@ -12,8 +12,8 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -22,17 +22,17 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.Statement;
 import org.eclipse.jdt.core.dom.TypeParameter;
-import org.eclipse.jdt.core.dom.VariableDeclaration;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.TypeVariable;
 import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
+import org.jboss.forge.roaster.model.ast.FragmentBuilder;
+import org.jboss.forge.roaster.model.ast.MethodBodies;
 import org.jboss.forge.roaster.model.ast.ModifierAccessor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaDocSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
@@ -78,12 +78,20 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    {
       init(parent);
 
-      String stub = "public class Stub { " + method + " }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      MethodDeclaration newMethod = (MethodDeclaration) methods.get(0).getInternal();
-      MethodDeclaration subtree = (MethodDeclaration) ASTNode.copySubtree(cu.getAST(), newMethod);
-      this.method = subtree;
+      MethodDeclaration newMethod = null;
+      for (BodyDeclaration declaration : FragmentBuilder.newBodyDeclarations(ast, method))
+      {
+         if (declaration instanceof MethodDeclaration)
+         {
+            newMethod = (MethodDeclaration) declaration;
+            break;
+         }
+      }
+      if (newMethod == null)
+      {
+         throw new IllegalArgumentException("Not a valid method declaration [" + method + "]");
+      }
+      this.method = newMethod;
    }
 
    @Override
@@ -178,7 +186,8 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    public String getBody()
    {
       StringBuilder result = new StringBuilder();
-      List<Statement> statements = (List<Statement>) method.getBody().getStructuralProperty(Block.STATEMENTS_PROPERTY);
+      List<Statement> statements = (List<Statement>) MethodBodies.getBody(method).getStructuralProperty(
+               Block.STATEMENTS_PROPERTY);
       for (Statement statement : statements)
       {
          result.append(statement).append(" ");
@@ -190,12 +199,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    @Override
    public MethodSource<O> setBody(final String body)
    {
-      String stub = "public class Stub { public void method() {" + body + "} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      Block block = ((MethodDeclaration) methods.get(0).getInternal()).getBody();
-
-      block = (Block) ASTNode.copySubtree(method.getAST(), block);
+      Block block = FragmentBuilder.newBlock(method.getAST(), body);
       method.setBody(block);
 
       return this;
@@ -225,7 +229,13 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       {
          return null;
       }
-      return new TypeImpl<O>(parent, method.getReturnType2());
+      Type<O> result = NodeCache.get(method.getReturnType2(), parent, TypeImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(method.getReturnType2(), parent, TypeImpl.class,
+                  new TypeImpl<O>(parent, method.getReturnType2()));
+      }
+      return result;
    }
 
    @Override
@@ -257,13 +267,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       {
          origin.addImport(typeName);
       }
-      String stub = "public class Stub { public " + simpleName + " method() {} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      org.eclipse.jdt.core.dom.Type returnType = ((MethodDeclaration) methods.get(0).getInternal()).getReturnType2();
-
-      returnType = (org.eclipse.jdt.core.dom.Type) ASTNode.copySubtree(method.getAST(), returnType);
-      method.setReturnType2(returnType);
+      method.setReturnType2(FragmentBuilder.newType(method.getAST(), simpleName));
 
       return this;
    }
@@ -351,17 +355,8 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    @SuppressWarnings("unchecked")
    public MethodSource<O> setParameters(final String parameters)
    {
-      String stub = "public class Stub { public void method( " + parameters + " ) {} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      List<VariableDeclaration> astParameters = ((MethodDeclaration) methods.get(0).getInternal()).parameters();
-
       method.parameters().clear();
-      for (VariableDeclaration declaration : astParameters)
-      {
-         VariableDeclaration copy = (VariableDeclaration) ASTNode.copySubtree(method.getAST(), declaration);
-         method.parameters().add(copy);
-      }
+      method.parameters().addAll(FragmentBuilder.newParameters(method.getAST(), parameters));
 
       return this;
    }
@@ -374,7 +369,12 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       List<SingleVariableDeclaration> parameters = method.parameters();
       for (SingleVariableDeclaration param : parameters)
       {
-         results.add(new ParameterImpl<O>(parent, param));
+         ParameterSource<O> parameter = NodeCache.get(param, parent, ParameterImpl.class);
+         if (parameter == null)
+         {
+            parameter = NodeCache.put(param, parent, ParameterImpl.class, new ParameterImpl<O>(parent, param));
+         }
+         results.add(parameter);
       }
       return Collections.unmodifiableList(results);
    }
@@ -603,7 +603,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       {
          for (TypeParameter typeParameter : typeParameters)
          {
-            result.add(new TypeVariableImpl<O>(parent, typeParameter));
+            result.add(typeVariable(typeParameter));
          }
       }
       return Collections.unmodifiableList(result);
@@ -618,7 +618,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       {
          if (Strings.areEqual(name, typeParameter.getName().getIdentifier()))
          {
-            return (new TypeVariableImpl<O>(parent, typeParameter));
+            return typeVariable(typeParameter);
          }
       }
       return null;
@@ -630,7 +630,19 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    {
       TypeParameter tp2 = method.getAST().newTypeParameter();
       method.typeParameters().add(tp2);
-      return new TypeVariableImpl<O>(parent, tp2);
+      return typeVariable(tp2);
+   }
+
+   @SuppressWarnings("unchecked")
+   private TypeVariableSource<O> typeVariable(TypeParameter typeParameter)
+   {
+      TypeVariableSource<O> result = NodeCache.get(typeParameter, this, TypeVariableImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(typeParameter, this, TypeVariableImpl.class,
+                  new TypeVariableImpl<O>(parent, typeParameter));
+      }
+      return result;
    }
 
    @Override
@@ -681,18 +693,14 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       {
          getOrigin().addImport(type);
       }
-      String stub = "public class Stub { public void method( " + Types.toSimpleName(Types.stripGenerics(type)) + " "
-               + name + " ) {} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      List<VariableDeclaration> astParameters = ((MethodDeclaration) methods.get(0).getInternal()).parameters();
+      List<SingleVariableDeclaration> astParameters = FragmentBuilder.newParameters(method.getAST(),
+               Types.toSimpleName(Types.stripGenerics(type)) + " " + name);
 
       ParameterSource<O> param = null;
-      for (VariableDeclaration declaration : astParameters)
+      for (SingleVariableDeclaration declaration : astParameters)
       {
-         VariableDeclaration copy = (VariableDeclaration) ASTNode.copySubtree(method.getAST(), declaration);
-         method.parameters().add(copy);
-         param = new ParameterImpl<O>(parent, copy);
+         method.parameters().add(declaration);
+         param = NodeCache.put(declaration, parent, ParameterImpl.class, new ParameterImpl<O>(parent, declaration));
       }
       return param;
    }
@@ -783,6 +791,11 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
          javadoc = method.getAST().newJavadoc();
          method.setJavadoc(javadoc);
       }
-      return new JavaDocImpl<MethodSource<O>>(this, javadoc);
+      JavaDocSource<MethodSource<O>> result = NodeCache.get(javadoc, this, JavaDocImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(javadoc, this, JavaDocImpl.class, new JavaDocImpl<MethodSource<O>>(this, javadoc));
+      }
+      return result;
    }
 }
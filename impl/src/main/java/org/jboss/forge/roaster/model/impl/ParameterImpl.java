@@ -13,6 +13,7 @@ import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.ParameterSource;
@@ -54,7 +55,12 @@ public class ParameterImpl<O extends JavaSource<O>> implements ParameterSource<O
    @SuppressWarnings({ "rawtypes", "unchecked" })
    public Type<O> getType()
    {
-      return new TypeImpl(parent, param.getType());
+      Type<O> result = NodeCache.get(param.getType(), parent, TypeImpl.class);
+      if (result == null)
+      {
+         result = NodeCache.put(param.getType(), parent, TypeImpl.class, new TypeImpl(parent, param.getType()));
+      }
+      return result;
    }
 
    @Override
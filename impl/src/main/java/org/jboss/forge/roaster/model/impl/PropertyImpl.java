@@ -120,7 +120,20 @@ class PropertyImpl<O extends JavaSource<O> & PropertyHolderSource<O>> implements
    @Override
    public MethodSource<O> getAccessor()
    {
-      for (MethodSource<O> method : getOrigin().getMethods())
+      MethodSource<O> isAccessor = getAccessor(methodName("is", name));
+      MethodSource<O> getAccessor = getAccessor(methodName("get", name));
+      if (isAccessor == null || getAccessor == null)
+      {
+         return isAccessor == null ? getAccessor : isAccessor;
+      }
+      // both exist; the one declared first wins
+      List<MethodSource<O>> methods = getOrigin().getMethods();
+      return methods.indexOf(isAccessor) < methods.indexOf(getAccessor) ? isAccessor : getAccessor;
+   }
+
+   private MethodSource<O> getAccessor(String methodName)
+   {
+      for (MethodSource<O> method : getMethods(methodName))
       {
          if (isAccessor(method))
          {
@@ -147,7 +160,7 @@ class PropertyImpl<O extends JavaSource<O> & PropertyHolderSource<O>> implements
          type = null;
       }
 
-      for (MethodSource<O> method : getOrigin().getMethods())
+      for (MethodSource<O> method : getMethods(methodName("set", name)))
       {
          if (isMutator(method))
          {
@@ -502,6 +515,19 @@ class PropertyImpl<O extends JavaSource<O> & PropertyHolderSource<O>> implements
                && Strings.areEqual(method.getName(), methodName("set", name));
    }
 
+   /**
+    * Return the methods of the origin with the given name, in declaration order.
+    */
+   @SuppressWarnings("unchecked")
+   private List<MethodSource<O>> getMethods(String methodName)
+   {
+      if (getOrigin() instanceof AbstractJavaSourceMemberHolder)
+      {
+         return ((AbstractJavaSourceMemberHolder<O>) getOrigin()).getMethods(methodName);
+      }
+      return getOrigin().getMethods();
+   }
+
    private static String methodName(String prefix, String property)
    {
       return prefix + Strings.capitalize(property);
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.model.source.EnumConstantSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.TypeHolderSource;
+import org.jboss.forge.roaster.spi.JavaParserImpl;
+
+/**
+ * Copies sources by copying their {@link CompilationUnit} into a new AST, which needs neither the formatter nor the
+ * parser. The copy lacks the comment list of the original, which only the parser can set, so its comments are plain
+ * text attached to no declaration: removing a member of the copy leaves the comments preceding it in place. A unit
+ * with syntax errors, which the copy would lack, or with pending modifications, which have no position in the source
+ * the copy is written out from, is instead written out unformatted and parsed with the {@link ParseOptions} of the
+ * original.
+ */
+class SourceCopier
+{
+   private SourceCopier()
+   {
+   }
+
+   /**
+    * Copy the unit of the given source, returning the source declared at the same place in the copy.
+    */
+   static JavaSource<?> copy(JavaSource<?> source)
+   {
+      JavaSource<?> root = source;
+      while (root.getEnclosingType() != root)
+      {
+         root = root.getEnclosingType();
+      }
+      CompilationUnit unit;
+      Document document;
+      if (root instanceof JavaPackageInfoImpl)
+      {
+         unit = ((JavaPackageInfoImpl) root).unit;
+         document = ((JavaPackageInfoImpl) root).document;
+      }
+      else
+      {
+         unit = ((AbstractJavaSource<?>) root).unit;
+         document = ((AbstractJavaSource<?>) root).document;
+      }
+
+      CompilationUnit copy = null;
+      String data = null;
+      if (unit.getProblems().length == 0 && JavaParserImpl.isUnmodified(unit))
+      {
+         copy = JavaParserImpl.copyUnit(unit);
+         data = document.get();
+      }
+      if (copy == null)
+      {
+         data = root.toUnformattedString();
+         copy = JavaParserImpl.reparse(unit, data);
+      }
+      return find(source, copy, new Document(data));
+   }
+
+   /**
+    * Return the source corresponding to the given one in the given copy of its unit.
+    */
+   private static JavaSource<?> find(JavaSource<?> source, CompilationUnit copy, Document document)
+   {
+      if (source instanceof EnumConstantBodyImpl)
+      {
+         EnumConstantBodyImpl body = (EnumConstantBodyImpl) source;
+         JavaEnumSource javaEnum = (JavaEnumSource) find(body.getEnclosingType(), copy, document);
+         ASTNode declaration = locate(copy, body.getBody()).getParent();
+         for (EnumConstantSource constant : javaEnum.getEnumConstants())
+         {
+            if (constant.getInternal() == declaration)
+            {
+               return constant.getBody();
+            }
+         }
+      }
+      else if (source instanceof AbstractJavaSource)
+      {
+         AbstractJavaSource<?> type = (AbstractJavaSource<?>) source;
+         ASTNode declaration = locate(copy, type.body);
+         if (type.getEnclosingType() == type)
+         {
+            return JavaParserImpl.getJavaSource(null, document, copy, declaration);
+         }
+         JavaSource<?> enclosing = find(type.getEnclosingType(), copy, document);
+         for (JavaSource<?> nested : ((TypeHolderSource<?>) enclosing).getNestedTypes())
+         {
+            if (((AbstractJavaSource<?>) nested).body == declaration)
+            {
+               return nested;
+            }
+         }
+      }
+      else if (source instanceof JavaPackageInfoImpl)
+      {
+         return JavaParserImpl.getJavaSource(null, document, copy, copy.getPackage());
+      }
+      throw new IllegalStateException("Type [" + source.getQualifiedName() + "] is not declared in its copy");
+   }
+
+   /**
+    * Return the node of the given copy located where the given node is located in its unit.
+    */
+   private static ASTNode locate(CompilationUnit copy, ASTNode node)
+   {
+      ASTNode parent = node.getParent();
+      if (parent == null)
+      {
+         return copy;
+      }
+      StructuralPropertyDescriptor property = node.getLocationInParent();
+      Object value = locate(copy, parent).getStructuralProperty(property);
+      if (property.isChildListProperty())
+      {
+         int index = ((List<?>) parent.getStructuralProperty(property)).indexOf(node);
+         return (ASTNode) ((List<?>) value).get(index);
+      }
+      return (ASTNode) value;
+   }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.text.edits.TextEdit;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.model.source.SourceFormatting;
+import org.jboss.forge.roaster.model.util.Formatter;
+import org.jboss.forge.roaster.model.util.Instrumentation;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
+
+/**
+ * Applies the pending modifications of a {@link CompilationUnit} to a copy of its original {@link IDocument} and
+ * formats the result according to a {@link SourceFormatting}.
+ */
+class SourceWriter
+{
+   private static final Comparator<IRegion> BY_OFFSET = new Comparator<IRegion>()
+   {
+      @Override
+      public int compare(IRegion left, IRegion right)
+      {
+         return left.getOffset() - right.getOffset();
+      }
+   };
+
+   private SourceWriter()
+   {
+   }
+
+   @SuppressWarnings("rawtypes")
+   static String write(CompilationUnit unit, IDocument original, Map options, SourceFormatting formatting)
+   {
+      Document document = new Document(original.get());
+      TextEdit edit;
+      long start = Instrumentation.start();
+      try
+      {
+         edit = unit.rewrite(document, options);
+         edit.apply(document);
+      }
+      catch (Exception e)
+      {
+         throw new ParserException("Could not modify source: " + unit.toString(), e);
+      }
+      Instrumentation.record(Phase.REWRITE, Instrumentation.getCaller(), start, document.getLength());
+
+      switch (formatting)
+      {
+      case NONE:
+         return document.get();
+      case CHANGED_REGIONS:
+         return Formatter.format(document.get(), getChangedLines(edit, document));
+      default:
+         return Formatter.format(document.get());
+      }
+   }
+
+   /**
+    * Return the merged line ranges of the given {@link IDocument} touched by the given, already applied, {@link TextEdit}.
+    */
+   private static IRegion[] getChangedLines(TextEdit edit, IDocument document)
+   {
+      List<IRegion> regions = new ArrayList<IRegion>();
+      try
+      {
+         collectChangedLines(edit, document, regions);
+      }
+      catch (BadLocationException e)
+      {
+         throw new ParserException("Could not determine modified regions", e);
+      }
+      Collections.sort(regions, BY_OFFSET);
+
+      List<IRegion> merged = new ArrayList<IRegion>();
+      IRegion last = null;
+      for (IRegion region : regions)
+      {
+         if (last != null && region.getOffset() <= last.getOffset() + last.getLength())
+         {
+            int end = Math.max(last.getOffset() + last.getLength(), region.getOffset() + region.getLength());
+            last = new Region(last.getOffset(), end - last.getOffset());
+            merged.set(merged.size() - 1, last);
+         }
+         else
+         {
+            last = region;
+            merged.add(region);
+         }
+      }
+      return merged.toArray(new IRegion[merged.size()]);
+   }
+
+   private static void collectChangedLines(TextEdit edit, IDocument document, List<IRegion> regions)
+            throws BadLocationException
+   {
+      if (edit.isDeleted())
+      {
+         return;
+      }
+      if (edit.hasChildren())
+      {
+         for (TextEdit child : edit.getChildren())
+         {
+            collectChangedLines(child, document, regions);
+         }
+      }
+      else
+      {
+         // inserted code usually starts with the line break ending the previous, unchanged, line
+         int start = edit.getOffset();
+         int end = edit.getExclusiveEnd();
+         while (start < end && Character.isWhitespace(document.getChar(start)))
+            start++;
+         while (end > start && Character.isWhitespace(document.getChar(end - 1)))
+            end--;
+         IRegion first = document.getLineInformationOfOffset(start);
+         IRegion last = document.getLineInformationOfOffset(end);
+         regions.add(new Region(first.getOffset(), last.getOffset() + last.getLength() - first.getOffset()));
+      }
+   }
+}
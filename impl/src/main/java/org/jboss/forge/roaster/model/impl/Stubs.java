@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.util.Instrumentation;
+
+/**
+ * Parses the throwaway sources from which the model copies nodes, reporting them as internal to
+ * {@link org.jboss.forge.roaster.spi.RoasterMetrics}.
+ */
+final class Stubs
+{
+   private Stubs()
+   {
+   }
+
+   static <T extends JavaType<?>> T parse(final Class<T> type, final String source)
+   {
+      Instrumentation.enterInternal();
+      try
+      {
+         return Roaster.parse(type, source);
+      }
+      finally
+      {
+         Instrumentation.exitInternal();
+      }
+   }
+}
@@ -15,16 +15,15 @@ import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ArrayType;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
-import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.ParameterizedType;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.ast.FragmentBuilder;
+import org.jboss.forge.roaster.model.ast.NodeCache;
 import org.jboss.forge.roaster.model.source.Importer;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
 import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.model.util.Symbols;
 import org.jboss.forge.roaster.model.util.Types;
 
 /**
@@ -60,13 +59,7 @@ public class TypeImpl<O extends JavaType<O>> implements Type<O>
       init(origin);
       this.parent = parent;
 
-      String stub = "public class Stub { private " + type + " getType(){return null;} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      MethodDeclaration newMethod = (MethodDeclaration) methods.get(0).getInternal();
-      org.eclipse.jdt.core.dom.Type subtree = (org.eclipse.jdt.core.dom.Type) ASTNode.copySubtree(cu.getAST(),
-               newMethod.getReturnType2());
-      this.type = subtree;
+      this.type = FragmentBuilder.newType(cu.getAST(), type);
    }
 
    public TypeImpl(final O origin, final Type<O> parent, final Object internal)
@@ -99,7 +92,12 @@ public class TypeImpl<O extends JavaType<O>> implements Type<O>
          List<org.eclipse.jdt.core.dom.Type> arguments = ((ParameterizedType) type).typeArguments();
          for (org.eclipse.jdt.core.dom.Type t : arguments)
          {
-            result.add(new TypeImpl<O>(origin, this, t));
+            Type<O> argument = NodeCache.get(t, this, TypeImpl.class);
+            if (argument == null)
+            {
+               argument = NodeCache.put(t, this, TypeImpl.class, new TypeImpl<O>(origin, this, t));
+            }
+            result.add(argument);
          }
          return Collections.unmodifiableList(result);
       }
@@ -184,9 +182,9 @@ public class TypeImpl<O extends JavaType<O>> implements Type<O>
       String result = type.toString();
       if (origin instanceof Importer<?>)
       {
-         return ((Importer<?>) origin).resolveType(result);
+         result = ((Importer<?>) origin).resolveType(result);
       }
-      return result;
+      return Symbols.intern(result);
    }
 
    @Override
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.spi.JavaParserImpl;
+
+/**
+ * The tree of nested type declarations of a {@link CompilationUnit}, built in one pass over the unit, with one
+ * {@link JavaSource} wrapper per nested declaration and container. Shared by all sources of the unit. The types nested
+ * in a container are those declared anywhere within its enum constants and body declarations, including local classes
+ * and classes declared in anonymous class bodies, but not within another nested type. A type declared in the body of
+ * an enum constant is thus nested both in the enum and in that body. A container whose children were changed other
+ * than through {@link #add} or {@link #remove} is re-read when the AST modification count shows it may be stale.
+ */
+class TypeTree
+{
+   private static final String PROPERTY = TypeTree.class.getName();
+
+   private final CompilationUnit unit;
+   private final Document document;
+   private final Map<ASTNode, Children> children = new IdentityHashMap<ASTNode, Children>();
+
+   private TypeTree(CompilationUnit unit, Document document)
+   {
+      this.unit = unit;
+      this.document = document;
+      for (Object type : unit.types())
+      {
+         build((ASTNode) type);
+      }
+   }
+
+   /**
+    * Get the {@link TypeTree} of the given {@link CompilationUnit}, building it on first use.
+    */
+   static TypeTree of(CompilationUnit unit, Document document)
+   {
+      TypeTree result = (TypeTree) unit.getProperty(PROPERTY);
+      if (result == null)
+      {
+         result = new TypeTree(unit, document);
+         unit.setProperty(PROPERTY, result);
+      }
+      return result;
+   }
+
+   /**
+    * Get the wrappers of the types nested in the given container, a type declaration or anonymous class body, creating
+    * any missing wrapper with the given parent as its enclosing type.
+    */
+   List<JavaSource<?>> getNestedTypes(JavaSource<?> parent, ASTNode container)
+   {
+      Children entry = current(container);
+      List<JavaSource<?>> result = new ArrayList<JavaSource<?>>(entry.declarations.size());
+      for (AbstractTypeDeclaration declaration : entry.declarations)
+      {
+         result.add(wrap(parent, entry, declaration));
+      }
+      return result;
+   }
+
+   /**
+    * Get the wrapper of the type nested in the given container matching the given simple or qualified name,
+    * <code>null</code> if there is none.
+    */
+   JavaSource<?> getNestedType(JavaSource<?> parent, ASTNode container, String name)
+   {
+      Children entry = current(container);
+      for (AbstractTypeDeclaration declaration : entry.declarations)
+      {
+         if (declaration.getName().getIdentifier().equals(name))
+         {
+            return wrap(parent, entry, declaration);
+         }
+      }
+      for (AbstractTypeDeclaration declaration : entry.declarations)
+      {
+         JavaSource<?> nested = wrap(parent, entry, declaration);
+         if (nested.getQualifiedName().equals(name))
+         {
+            return nested;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Append the given declaration, already owned by the AST of this tree, to the given container and return its
+    * wrapper.
+    */
+   JavaSource<?> add(JavaSource<?> parent, ASTNode container, AbstractTypeDeclaration declaration)
+   {
+      Children entry = current(container);
+      bodyDeclarations(container).add(declaration);
+      entry.declarations.add(declaration);
+      build(declaration);
+      entry.modificationCount = modificationCount();
+      return wrap(parent, entry, declaration);
+   }
+
+   /**
+    * Remove the given declaration from the given container.
+    */
+   void remove(ASTNode container, ASTNode declaration)
+   {
+      Children entry = current(container);
+      if (bodyDeclarations(container).remove(declaration))
+      {
+         entry.declarations.remove(declaration);
+         entry.wrappers.remove(declaration);
+         forget(declaration);
+         entry.modificationCount = modificationCount();
+      }
+   }
+
+   private JavaSource<?> wrap(JavaSource<?> parent, Children entry, AbstractTypeDeclaration declaration)
+   {
+      JavaSource<?> result = entry.wrappers.get(declaration);
+      if (result == null)
+      {
+         result = JavaParserImpl.getJavaSource(parent, document, unit, declaration);
+         entry.wrappers.put(declaration, result);
+      }
+      return result;
+   }
+
+   private Children current(ASTNode container)
+   {
+      Children result = children.get(container);
+      if (result == null || result.modificationCount != modificationCount())
+      {
+         result = read(container);
+      }
+      return result;
+   }
+
+   private void build(ASTNode container)
+   {
+      for (AbstractTypeDeclaration declaration : read(container).declarations)
+      {
+         build(declaration);
+      }
+   }
+
+   private Children read(ASTNode container)
+   {
+      final Children result = new Children(modificationCount());
+      ASTVisitor finder = new ASTVisitor()
+      {
+         @Override
+         public boolean visit(TypeDeclaration node)
+         {
+            result.declarations.add(node);
+            return false;
+         }
+
+         @Override
+         public boolean visit(EnumDeclaration node)
+         {
+            result.declarations.add(node);
+            return false;
+         }
+
+         @Override
+         public boolean visit(AnnotationTypeDeclaration node)
+         {
+            result.declarations.add(node);
+            return false;
+         }
+      };
+      if (container instanceof EnumDeclaration)
+      {
+         for (Object constant : ((EnumDeclaration) container).enumConstants())
+         {
+            ((ASTNode) constant).accept(finder);
+         }
+      }
+      for (Object declaration : bodyDeclarations(container))
+      {
+         ((ASTNode) declaration).accept(finder);
+      }
+      Children previous = children.put(container, result);
+      if (previous != null)
+      {
+         for (AbstractTypeDeclaration declaration : previous.declarations)
+         {
+            if (result.declarations.contains(declaration))
+            {
+               JavaSource<?> wrapper = previous.wrappers.get(declaration);
+               if (wrapper != null)
+               {
+                  result.wrappers.put(declaration, wrapper);
+               }
+            }
+            else
+            {
+               forget(declaration);
+            }
+         }
+      }
+      return result;
+   }
+
+   private void forget(ASTNode declaration)
+   {
+      Children removed = children.remove(declaration);
+      if (removed != null)
+      {
+         for (AbstractTypeDeclaration nested : removed.declarations)
+         {
+            forget(nested);
+         }
+      }
+   }
+
+   private long modificationCount()
+   {
+      return unit.getAST().modificationCount();
+   }
+
+   @SuppressWarnings("unchecked")
+   private static List<Object> bodyDeclarations(ASTNode container)
+   {
+      if (container instanceof AbstractTypeDeclaration)
+      {
+         return ((AbstractTypeDeclaration) container).bodyDeclarations();
+      }
+      if (container instanceof AnonymousClassDeclaration)
+      {
+         return ((AnonymousClassDeclaration) container).bodyDeclarations();
+      }
+      return Collections.emptyList();
+   }
+
+   /**
+    * The nested type declarations of one container, as of an AST modification count, and their wrappers.
+    */
+   private static class Children
+   {
+      final List<AbstractTypeDeclaration> declarations = new ArrayList<AbstractTypeDeclaration>();
+      final Map<ASTNode, JavaSource<?>> wrappers = new IdentityHashMap<ASTNode, JavaSource<?>>();
+      long modificationCount;
+
+      Children(long modificationCount)
+      {
+         this.modificationCount = modificationCount;
+      }
+   }
+}
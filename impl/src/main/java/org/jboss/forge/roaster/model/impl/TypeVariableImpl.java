@@ -12,7 +12,6 @@ import java.util.List;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.TypeParameter;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
@@ -146,7 +145,7 @@ public class TypeVariableImpl<O extends JavaSource<O>> implements TypeVariableSo
    private org.eclipse.jdt.core.dom.Type parseTypeBound(String bound)
    {
       String stub = "public class Stub<T extends " + bound + "> {}";
-      JavaClassSource temp = Roaster.parse(JavaClassSource.class, stub);
+      JavaClassSource temp = Stubs.parse(JavaClassSource.class, stub);
       TypeParameter v = (TypeParameter) temp.getTypeVariables().get(0).getInternal();
       return (org.eclipse.jdt.core.dom.Type) v.typeBounds().get(0);
    }
@@ -16,6 +16,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 
@@ -25,17 +28,65 @@ import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.text.edits.TextEdit;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
 import org.jboss.forge.roaster.spi.Streams;
 
 /**
  * Formats Java source code.
+ * <p>
+ * {@link CodeFormatter} instances are expensive to create and not thread-safe, so each thread keeps its own instance
+ * for the built in code format style, plus a small LRU cache of instances keyed by the contents of the code format
+ * {@link Properties} they were created with.
  * 
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
 public abstract class Formatter
 {
+   private static final String INTERNAL_CONFIG = "org.eclipse.jdt.core.prefs";
+
+   /**
+    * Maximum number of {@link CodeFormatter} instances cached per thread for custom {@link Properties}.
+    */
+   private static final int MAX_CACHED_FORMATTERS = 16;
+
+   private static final ThreadLocal<CodeFormatter> DEFAULT_FORMATTER = new ThreadLocal<CodeFormatter>()
+   {
+      @Override
+      protected CodeFormatter initialValue()
+      {
+         return ToolFactory.createCodeFormatter(DefaultConfig.OPTIONS);
+      }
+   };
+
+   private static final ThreadLocal<Map<Map<String, String>, CodeFormatter>> FORMATTERS = new ThreadLocal<Map<Map<String, String>, CodeFormatter>>()
+   {
+      @Override
+      protected Map<Map<String, String>, CodeFormatter> initialValue()
+      {
+         return new LinkedHashMap<Map<String, String>, CodeFormatter>(MAX_CACHED_FORMATTERS, 0.75f, true)
+         {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<Map<String, String>, CodeFormatter> eldest)
+            {
+               return size() > MAX_CACHED_FORMATTERS;
+            }
+         };
+      }
+   };
+
+   /**
+    * Lazily reads the built in code format style exactly once.
+    */
+   private static class DefaultConfig
+   {
+      static final Properties OPTIONS = readConfigInternal(INTERNAL_CONFIG);
+   }
+
    /**
     * Format the given Java source {@link File}, using the built in code format style.
     * 
@@ -55,7 +106,7 @@ public abstract class Formatter
    {
       Properties options = readConfig(prefs);
       if (options == null)
-         options = readConfigInternal("org.eclipse.jdt.core.prefs");
+         options = DefaultConfig.OPTIONS;
 
       InputStream in = null;
       OutputStream out = null;
@@ -97,8 +148,7 @@ public abstract class Formatter
     */
    public static String format(String source)
    {
-      Properties options = readConfigInternal("org.eclipse.jdt.core.prefs");
-      return format(options, source);
+      return _format(source, DEFAULT_FORMATTER.get());
    }
 
    /**
@@ -106,12 +156,78 @@ public abstract class Formatter
     */
    public static String format(Properties prefs, String source)
    {
-      final CodeFormatter codeFormatter = ToolFactory.createCodeFormatter(prefs);
-      return _format(source, codeFormatter);
+      return _format(source, getCodeFormatter(prefs));
+   }
+
+   /**
+    * Format only the given {@link IRegion regions} of the given {@link String} as a Java source file, using the built in
+    * code format style. Code outside of the regions is left untouched.
+    */
+   public static String format(String source, IRegion[] regions)
+   {
+      if (regions.length == 0)
+      {
+         return source;
+      }
+      long start = Instrumentation.start();
+      IDocument doc = new Document(source);
+      try
+      {
+         TextEdit edit = DEFAULT_FORMATTER.get().format(CodeFormatter.K_COMPILATION_UNIT, source, regions, 0, null);
+         if (edit != null)
+         {
+            edit.apply(doc);
+         }
+         else
+         {
+            return source;
+         }
+      }
+      catch (BadLocationException e)
+      {
+         throw new RuntimeException(e);
+      }
+      finally
+      {
+         Instrumentation.record(Phase.FORMAT, Instrumentation.getCaller(), start, doc.getLength());
+      }
+
+      return ensureCorrectNewLines(doc.get());
+   }
+
+   /**
+    * Return a {@link CodeFormatter} for the given Eclipse code format {@link Properties}, reusing a cached instance
+    * created by the current thread for equal {@link Properties} when available.
+    */
+   private static CodeFormatter getCodeFormatter(Properties prefs)
+   {
+      if (prefs == DefaultConfig.OPTIONS)
+      {
+         return DEFAULT_FORMATTER.get();
+      }
+      // snapshot the properties, defaults included, so later changes to the caller's instance cannot corrupt the key
+      Map<String, String> key = null;
+      if (prefs != null)
+      {
+         key = new HashMap<String, String>();
+         for (String name : prefs.stringPropertyNames())
+         {
+            key.put(name, prefs.getProperty(name));
+         }
+      }
+      Map<Map<String, String>, CodeFormatter> formatters = FORMATTERS.get();
+      CodeFormatter result = formatters.get(key);
+      if (result == null)
+      {
+         result = ToolFactory.createCodeFormatter(key);
+         formatters.put(key, result);
+      }
+      return result;
    }
 
    private static String _format(String contents, CodeFormatter codeFormatter)
    {
+      long start = Instrumentation.start();
       IDocument doc = new Document(contents);
       try
       {
@@ -130,6 +246,10 @@ public abstract class Formatter
       {
          throw new RuntimeException(e);
       }
+      finally
+      {
+         Instrumentation.record(Phase.FORMAT, Instrumentation.getCaller(), start, doc.getLength());
+      }
 
       return ensureCorrectNewLines(doc.get());
    }
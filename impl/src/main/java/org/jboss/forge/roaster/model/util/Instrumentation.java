@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.jboss.forge.roaster.spi.RoasterMetrics;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Caller;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
+
+/**
+ * Reports timings to the {@link RoasterMetrics} found on the class path and to those added with
+ * {@link #addListener(RoasterMetrics)}. Without any, {@link #isEnabled()} is {@code false} and no time is measured.
+ * <p>
+ * Typical use:
+ * 
+ * <pre>
+ * long start = Instrumentation.start();
+ * // work
+ * Instrumentation.record(Phase.PARSE, Instrumentation.getCaller(), start, source.length());
+ * </pre>
+ */
+public final class Instrumentation
+{
+   private static volatile RoasterMetrics[] listeners;
+   private static final ThreadLocal<int[]> INTERNAL_DEPTH = new ThreadLocal<int[]>()
+   {
+      @Override
+      protected int[] initialValue()
+      {
+         return new int[1];
+      }
+   };
+
+   static
+   {
+      List<RoasterMetrics> listeners = new ArrayList<RoasterMetrics>();
+      for (RoasterMetrics listener : ServiceLoader.load(RoasterMetrics.class, RoasterMetrics.class.getClassLoader()))
+      {
+         listeners.add(listener);
+      }
+      Instrumentation.listeners = listeners.toArray(new RoasterMetrics[listeners.size()]);
+   }
+
+   private Instrumentation()
+   {
+   }
+
+   /**
+    * Report timings to the given listener too, until it is removed.
+    */
+   public static synchronized void addListener(RoasterMetrics listener)
+   {
+      List<RoasterMetrics> result = new ArrayList<RoasterMetrics>(Arrays.asList(listeners));
+      result.add(listener);
+      listeners = result.toArray(new RoasterMetrics[result.size()]);
+   }
+
+   /**
+    * Stop reporting timings to the given listener, whether added or found on the class path.
+    */
+   public static synchronized void removeListener(RoasterMetrics listener)
+   {
+      List<RoasterMetrics> result = new ArrayList<RoasterMetrics>(Arrays.asList(listeners));
+      result.remove(listener);
+      listeners = result.toArray(new RoasterMetrics[result.size()]);
+   }
+
+   /**
+    * Whether any {@link RoasterMetrics} listener is registered.
+    */
+   public static boolean isEnabled()
+   {
+      return listeners.length > 0;
+   }
+
+   /**
+    * Return the start time of a measured phase, {@code 0} if disabled.
+    */
+   public static long start()
+   {
+      return isEnabled() ? System.nanoTime() : 0L;
+   }
+
+   /**
+    * Report a phase that began at the given {@link #start()} time to all listeners.
+    */
+   public static void record(Phase phase, Caller caller, long start, int sourceLength)
+   {
+      RoasterMetrics[] current = listeners;
+      if (current.length > 0 && start != 0L)
+      {
+         long duration = System.nanoTime() - start;
+         for (RoasterMetrics listener : current)
+         {
+            listener.record(phase, caller, duration, sourceLength);
+         }
+      }
+   }
+
+   /**
+    * Return {@link Caller#INTERNAL} between {@link #enterInternal()} and {@link #exitInternal()} on the current
+    * thread, otherwise {@link Caller#USER}.
+    */
+   public static Caller getCaller()
+   {
+      return isEnabled() && INTERNAL_DEPTH.get()[0] > 0 ? Caller.INTERNAL : Caller.USER;
+   }
+
+   /**
+    * Attribute the phases subsequently measured on the current thread to Roaster itself, until the matching
+    * {@link #exitInternal()}. Tracked even while disabled, as listeners may be added in between.
+    */
+   public static void enterInternal()
+   {
+      INTERNAL_DEPTH.get()[0]++;
+   }
+
+   /**
+    * Undo the matching {@link #enterInternal()}.
+    */
+   public static void exitInternal()
+   {
+      INTERNAL_DEPTH.get()[0]--;
+   }
+}
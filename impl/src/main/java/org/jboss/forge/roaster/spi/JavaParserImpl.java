@@ -9,13 +9,21 @@ package org.jboss.forge.roaster.spi;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
@@ -25,35 +33,164 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.util.Util;
 import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.ParseOptions;
 import org.jboss.forge.roaster.ParserException;
 import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.ast.HeaderScanner;
+import org.jboss.forge.roaster.model.ast.MethodBodies;
+import org.jboss.forge.roaster.model.ast.ScanningVisitor;
 import org.jboss.forge.roaster.model.ast.TypeDeclarationFinderVisitor;
 import org.jboss.forge.roaster.model.impl.JavaAnnotationImpl;
 import org.jboss.forge.roaster.model.impl.JavaClassImpl;
 import org.jboss.forge.roaster.model.impl.JavaEnumImpl;
 import org.jboss.forge.roaster.model.impl.JavaInterfaceImpl;
 import org.jboss.forge.roaster.model.impl.JavaPackageInfoImpl;
+import org.jboss.forge.roaster.model.impl.JavaUnitImpl;
+import org.jboss.forge.roaster.model.impl.MemberTemplateImpl;
 import org.jboss.forge.roaster.model.source.JavaAnnotationSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
 import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.JavaUnit;
+import org.jboss.forge.roaster.model.source.MemberTemplate;
+import org.jboss.forge.roaster.model.util.Instrumentation;
+import org.jboss.forge.roaster.scan.RoasterVisitor;
+import org.jboss.forge.roaster.scan.SourceHeader;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
-public class JavaParserImpl implements JavaParser
+public class JavaParserImpl implements JavaParser, ConfigurableJavaParser, JavaUnitParser, PrototypeJavaParser,
+         ScanningJavaParser, HeaderJavaParser, MemberJavaParser
 {
+   /**
+    * Compiler options only vary with Javadoc parsing, so compute both variants once.
+    */
+   private static final Map<?, ?> OPTIONS = compilerOptions(true);
+   private static final Map<?, ?> OPTIONS_WITHOUT_JAVADOC = compilerOptions(false);
+
+   /**
+    * Property of each parsed {@link CompilationUnit} holding the {@link ParseOptions} it was parsed with.
+    */
+   private static final String PARSE_OPTIONS = ParseOptions.class.getName();
+
+   /**
+    * Property of a {@link CompilationUnit}, holding the modification count of its {@link AST} when modifications
+    * started being recorded.
+    */
+   private static final String ORIGINAL_MODIFICATION_COUNT = JavaParserImpl.class.getName() + ".modificationCount";
+
+   /**
+    * Characters read at first to peek at the header of a source, which usually fits.
+    */
+   private static final int PEEK_CHUNK_SIZE = 0x2000;
+
+   private static Map<?, ?> compilerOptions(boolean javadocParsing)
+   {
+      @SuppressWarnings("unchecked")
+      Map<Object, Object> options = JavaCore.getOptions();
+      options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_8);
+      options.put(CompilerOptions.OPTION_Encoding, "UTF-8");
+      options.put(CompilerOptions.OPTION_DocCommentSupport, javadocParsing ? CompilerOptions.ENABLED
+               : CompilerOptions.DISABLED);
+      return Collections.unmodifiableMap(options);
+   }
 
    @Override
    public JavaType<?> parse(final InputStream data)
+   {
+      return parse(data, ParseOptions.DEFAULT);
+   }
+
+   @Override
+   public JavaType<?> parse(final InputStream data, final ParseOptions options)
+   {
+      try
+      {
+         String encoding = System.getProperty("file.encoding", "ISO8859_1");
+         char[] source = Util.getInputStreamAsCharArray(data, data.available(), encoding);
+         return parse(new String(source), options);
+      }
+      catch (IOException e)
+      {
+         return null;
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   @Override
+   public JavaUnit parseUnit(final InputStream data, final ParseOptions options)
+   {
+      try
+      {
+         String encoding = System.getProperty("file.encoding", "ISO8859_1");
+         char[] source = Util.getInputStreamAsCharArray(data, data.available(), encoding);
+         return parseUnit(new String(source), options);
+      }
+      catch (IOException e)
+      {
+         return null;
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   @Override
+   public boolean scan(final InputStream data, final RoasterVisitor visitor)
    {
       try
       {
          String encoding = System.getProperty("file.encoding", "ISO8859_1");
          char[] source = Util.getInputStreamAsCharArray(data, data.available(), encoding);
-         return parse(new String(source));
+         parseCompilationUnit(new String(source), ParseOptions.OUTLINE).accept(new ScanningVisitor(visitor));
+         return true;
+      }
+      catch (IOException e)
+      {
+         return false;
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   @Override
+   public SourceHeader peek(final InputStream data)
+   {
+      try
+      {
+         String encoding = System.getProperty("file.encoding", "ISO8859_1");
+         Reader reader = new InputStreamReader(data, encoding);
+         char[] source = new char[PEEK_CHUNK_SIZE];
+         int length = 0;
+         while (true)
+         {
+            // fill the buffer before scanning, so that the prefix is scanned at doubling lengths only
+            int read = reader.read(source, length, source.length - length);
+            if (read < 0)
+            {
+               return HeaderScanner.scan(source, length);
+            }
+            length += read;
+            if (length == source.length)
+            {
+               SourceHeader header = HeaderScanner.scanPrefix(source, length);
+               if (header != null)
+               {
+                  return header;
+               }
+               source = Arrays.copyOf(source, source.length * 2);
+            }
+         }
       }
       catch (IOException e)
       {
@@ -65,23 +202,68 @@ public class JavaParserImpl implements JavaParser
       }
    }
 
-   @SuppressWarnings({ "rawtypes", "unchecked" })
-   private JavaType<?> parse(final String data)
+   @Override
+   public SourceHeader peek(final char[] data)
+   {
+      return HeaderScanner.scan(data);
+   }
+
+   private JavaSource<?> parse(final String data, final ParseOptions options)
+   {
+      CompilationUnit unit = parseCompilationUnit(data, options);
+      if (options.isIgnoreMethodBodies())
+      {
+         MethodBodies.markIgnored(unit, data);
+      }
+      recordModifications(unit);
+      return getJavaSource(new Document(data), unit);
+   }
+
+   private JavaUnit parseUnit(final String data, final ParseOptions options)
    {
+      CompilationUnit unit = parseCompilationUnit(data, options);
+      if (options.isIgnoreMethodBodies())
+      {
+         MethodBodies.markIgnored(unit, data);
+      }
+      recordModifications(unit);
       Document document = new Document(data);
+      List<JavaSource<?>> types = new ArrayList<JavaSource<?>>();
+      for (Object declaration : unit.types())
+      {
+         types.add(getJavaSource(null, document, unit, (ASTNode) declaration));
+      }
+      if (types.isEmpty())
+      {
+         types.add(getJavaSource(document, unit));
+      }
+      return new JavaUnitImpl(types);
+   }
+
+   private CompilationUnit parseCompilationUnit(final String data, final ParseOptions options)
+   {
+      long start = Instrumentation.start();
       ASTParser parser = ASTParser.newParser(AST.JLS8);
 
-      parser.setSource(document.get().toCharArray());
-      Map options = JavaCore.getOptions();
-      options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_8);
-      options.put(CompilerOptions.OPTION_Encoding, "UTF-8");
-      parser.setCompilerOptions(options);
+      parser.setSource(data.toCharArray());
+      parser.setCompilerOptions(options.isJavadocParsing() ? OPTIONS : OPTIONS_WITHOUT_JAVADOC);
 
-      parser.setResolveBindings(true);
+      parser.setResolveBindings(options.isResolveBindings());
+      parser.setStatementsRecovery(options.isStatementsRecovery());
+      parser.setIgnoreMethodBodies(options.isIgnoreMethodBodies());
       parser.setKind(ASTParser.K_COMPILATION_UNIT);
       CompilationUnit unit = (CompilationUnit) parser.createAST(null);
-      unit.recordModifications();
+      unit.setProperty(PARSE_OPTIONS, options);
+      Instrumentation.record(Phase.PARSE, Instrumentation.getCaller(), start, data.length());
+      return unit;
+   }
 
+   /**
+    * Create a {@link JavaSource} instance for the first type declared in the given {@link CompilationUnit}, or for
+    * its package declaration if it declares no type.
+    */
+   private static JavaSource<?> getJavaSource(Document document, CompilationUnit unit)
+   {
       TypeDeclarationFinderVisitor visitor = new TypeDeclarationFinderVisitor();
       unit.accept(visitor);
 
@@ -145,21 +327,238 @@ public class JavaParserImpl implements JavaParser
       if (type != null)
       {
          if (type.isAssignableFrom(JavaClassSource.class))
-            return (T) parse("public class JavaClass { }");
+            return (T) Prototypes.CLASS.create();
 
          if (type.isAssignableFrom(JavaEnumSource.class))
-            return (T) parse("public enum JavaEnum { }");
+            return (T) Prototypes.ENUM.create();
 
          if (type.isAssignableFrom(JavaAnnotationSource.class))
-            return (T) parse("public @interface JavaAnnotation { }");
+            return (T) Prototypes.ANNOTATION.create();
 
          if (type.isAssignableFrom(JavaInterfaceSource.class))
-            return (T) parse("public interface JavaInterface { }");
+            return (T) Prototypes.INTERFACE.create();
 
          if (type.isAssignableFrom(JavaPackageInfoSource.class))
-            return (T) parse("package org.example;");
+            return (T) Prototypes.PACKAGE_INFO.create();
       }
       return null;
    }
 
+   @Override
+   public MemberTemplate parseMember(final String declaration)
+   {
+      return MemberTemplateImpl.parse(declaration);
+   }
+
+   @Override
+   public JavaSourcePrototype prototype(final String data)
+   {
+      return new JavaSourcePrototypeImpl(data);
+   }
+
+   /**
+    * Prototypes of empty sources, each parsed once on first use.
+    */
+   private static class Prototypes
+   {
+      static final JavaSourcePrototype CLASS = new JavaSourcePrototypeImpl("public class JavaClass { }");
+      static final JavaSourcePrototype ENUM = new JavaSourcePrototypeImpl("public enum JavaEnum { }");
+      static final JavaSourcePrototype ANNOTATION = new JavaSourcePrototypeImpl("public @interface JavaAnnotation { }");
+      static final JavaSourcePrototype INTERFACE = new JavaSourcePrototypeImpl("public interface JavaInterface { }");
+      static final JavaSourcePrototype PACKAGE_INFO = new JavaSourcePrototypeImpl("package org.example;");
+   }
+
+   /**
+    * Parse the given data again as the given {@link CompilationUnit} was parsed, with the same {@link ParseOptions},
+    * recording modifications of the result.
+    */
+   public static CompilationUnit reparse(CompilationUnit unit, String data)
+   {
+      ParseOptions options = (ParseOptions) unit.getProperty(PARSE_OPTIONS);
+      if (options == null)
+      {
+         options = ParseOptions.DEFAULT;
+      }
+      CompilationUnit result = new JavaParserImpl().parseCompilationUnit(data, options);
+      if (options.isIgnoreMethodBodies())
+      {
+         MethodBodies.markIgnored(result, data);
+      }
+      recordModifications(result);
+      return result;
+   }
+
+   /**
+    * Start recording modifications of the given {@link CompilationUnit}, remembering the state it is recorded from.
+    */
+   private static void recordModifications(CompilationUnit unit)
+   {
+      unit.recordModifications();
+      unit.setProperty(ORIGINAL_MODIFICATION_COUNT, unit.getAST().modificationCount());
+   }
+
+   /**
+    * Whether neither the given {@link CompilationUnit} nor any other node of its {@link AST} was modified since
+    * modifications started being recorded. Creating nodes counts as modification, even if they are not attached.
+    */
+   public static boolean isUnmodified(CompilationUnit unit)
+   {
+      Long count = (Long) unit.getProperty(ORIGINAL_MODIFICATION_COUNT);
+      return count != null && count.longValue() == unit.getAST().modificationCount();
+   }
+
+   /**
+    * {@link CompilationUnit#recordModifications()} refuses an {@link AST} modified since its creation, as any
+    * {@link AST} that nodes were copied into is; only {@link ASTParser} may declare the current state original, through
+    * this package private method. Without it, sources are parsed instead of copied.
+    */
+   private static final Method SET_ORIGINAL_MODIFICATION_COUNT = getOriginalModificationCountSetter();
+
+   private static Method getOriginalModificationCountSetter()
+   {
+      try
+      {
+         Method method = AST.class.getDeclaredMethod("setOriginalModificationCount", long.class);
+         method.setAccessible(true);
+         return method;
+      }
+      catch (Exception e)
+      {
+         return null;
+      }
+   }
+
+   /**
+    * Copy the given unmodified {@link CompilationUnit} into a new {@link AST}, recording modifications as if the copy
+    * had been parsed from the same source. The copy has neither the problems nor the comment list of the given
+    * {@link CompilationUnit}, which only the parser can set, so its comments are plain text attached to no node.
+    *
+    * @return the copy, or {@code null} if this version of JDT does not support recording modifications of copies
+    */
+   public static CompilationUnit copyUnit(CompilationUnit unit)
+   {
+      if (SET_ORIGINAL_MODIFICATION_COUNT == null)
+      {
+         return null;
+      }
+      AST ast = AST.newAST(AST.JLS8);
+      CompilationUnit copy;
+      synchronized (unit)
+      {
+         copy = (CompilationUnit) ASTNode.copySubtree(ast, unit);
+      }
+      copy.setProperty(PARSE_OPTIONS, unit.getProperty(PARSE_OPTIONS));
+      MethodBodies.copyMarks(unit, copy);
+      try
+      {
+         SET_ORIGINAL_MODIFICATION_COUNT.invoke(ast, ast.modificationCount());
+      }
+      catch (Exception e)
+      {
+         return null;
+      }
+      recordModifications(copy);
+      return copy;
+   }
+
+   /**
+    * Whether copies of the given {@link CompilationUnit} made by {@link #copyUnit(CompilationUnit)} behave exactly
+    * like it. That is the case unless it has problems, or comments attached to its nodes, which edits move and
+    * remove along with these nodes.
+    */
+   private static boolean isCopyFaithful(final CompilationUnit unit)
+   {
+      if (unit.getProblems().length > 0)
+      {
+         return false;
+      }
+      List<?> comments = unit.getCommentList();
+      if (comments == null || comments.isEmpty())
+      {
+         return true;
+      }
+      final boolean[] result = { true };
+      unit.accept(new ASTVisitor(true)
+      {
+         @Override
+         public boolean preVisit2(ASTNode node)
+         {
+            if (unit.getExtendedStartPosition(node) != node.getStartPosition()
+                     || unit.getExtendedLength(node) != node.getLength())
+            {
+               result[0] = false;
+            }
+            return result[0];
+         }
+      });
+      return result[0];
+   }
+
+   /**
+    * Creates sources by copying the {@link CompilationUnit} parsed from its data, which is considerably cheaper than
+    * parsing the data again. Data that copies could not faithfully represent, as it has problems or comments attached
+    * to nodes, is parsed again for each source instead.
+    */
+   private static class JavaSourcePrototypeImpl implements JavaSourcePrototype
+   {
+      private final String data;
+
+      /**
+       * The {@link CompilationUnit} parsed from the data, which is never modified, or {@code null} if it is not
+       * copied.
+       */
+      private final CompilationUnit unit;
+
+      /**
+       * The source parsed from the data when checking it, to be returned by the first call of {@link #create()} if
+       * the data is parsed for each source.
+       */
+      private final AtomicReference<JavaSource<?>> parsed = new AtomicReference<JavaSource<?>>();
+
+      /**
+       * Estimated bytes retained: two per character of data, plus the syntax tree if it is copied.
+       */
+      private final long retainedSize;
+
+      JavaSourcePrototypeImpl(String data)
+      {
+         this.data = data;
+         CompilationUnit unit = new JavaParserImpl().parseCompilationUnit(data, ParseOptions.DEFAULT);
+         recordModifications(unit);
+         // fail early on data that does not declare a source
+         JavaSource<?> source = getJavaSource(new Document(data), unit);
+         if (isCopyFaithful(unit))
+         {
+            this.unit = unit;
+            this.retainedSize = 2L * data.length() + unit.subtreeBytes();
+         }
+         else
+         {
+            this.unit = null;
+            this.parsed.set(source);
+            this.retainedSize = 2L * data.length();
+         }
+      }
+
+      @Override
+      public JavaSource<?> create()
+      {
+         if (unit != null)
+         {
+            CompilationUnit copy = copyUnit(unit);
+            if (copy != null)
+            {
+               return getJavaSource(new Document(data), copy);
+            }
+         }
+         JavaSource<?> source = parsed.getAndSet(null);
+         return source != null ? source : new JavaParserImpl().parse(data, ParseOptions.DEFAULT);
+      }
+
+      @Override
+      public long getRetainedSize()
+      {
+         return retainedSize;
+      }
+   }
 }
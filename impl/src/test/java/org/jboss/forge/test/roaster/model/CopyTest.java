@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.EnumConstantSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
+import org.jboss.forge.roaster.model.util.Instrumentation;
+import org.jboss.forge.roaster.spi.HistogramRoasterMetrics;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Caller;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
+import org.junit.Test;
+
+public class CopyTest
+{
+   private static final String SOURCE = "package org.example;\n\n"
+            + "public class Outer {\n"
+            + "   private int count;\n"
+            + "   public int getCount() { return count; }\n"
+            + "   public static class Inner {\n"
+            + "      public class Innermost { }\n"
+            + "   }\n"
+            + "}";
+
+   @Test
+   public void testCopyIsIndependent() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource copy = source.copy();
+      assertNotSame(source, copy);
+      assertEquals(source.toString(), copy.toString());
+
+      copy.setName("Copy").addField("private String name;");
+      copy.getMethod("getCount").setBody("return count + 1;");
+      assertEquals("Outer", source.getName());
+      assertNull(source.getField("name"));
+      assertTrue(source.toString().contains("return count;"));
+      assertTrue(copy.toString().contains("return count + 1;"));
+
+      source.removeField(source.getField("count"));
+      assertTrue(copy.hasField("count"));
+   }
+
+   @Test
+   public void testCopyMatchesOriginal() throws Exception
+   {
+      String broken = "package org.example; public class Broken { public void run() { int x = ; } }";
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, broken);
+      JavaClassSource copy = source.copy();
+      assertTrue(copy.hasSyntaxErrors());
+      assertEquals(source.getSyntaxErrors().size(), copy.getSyntaxErrors().size());
+
+      String data = "package org.example;\n\n"
+               + "public class Documented {\n"
+               + "   /** The first. */\n"
+               + "   private int first;\n"
+               + "   /** The second. */\n"
+               + "   private int second;\n"
+               + "}";
+      source = Roaster.parse(JavaClassSource.class, data);
+      copy = source.copy();
+      for (JavaClassSource each : new JavaClassSource[] { source, copy })
+      {
+         each.removeField(each.getField("first"));
+         each.addField("private int third;");
+      }
+      assertEquals(source.toString(), copy.toString());
+      assertFalse(copy.toString().contains("The first."));
+   }
+
+   @Test
+   public void testCopyLeavesCommentsInPlace() throws Exception
+   {
+      String data = "package org.example;\n\n"
+               + "public class Commented {\n"
+               + "   // c1\n"
+               + "   private int first;\n"
+               + "   private int second;\n"
+               + "}";
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, data);
+      JavaClassSource copy = source.copy();
+      source.removeField(source.getField("first"));
+      copy.removeField(copy.getField("first"));
+      assertFalse(source.toString().contains("c1"));
+      assertTrue(copy.toString().contains("c1"));
+      assertFalse(copy.hasField("first"));
+   }
+
+   @Test
+   public void testCopyDoesNotParse() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE);
+      HistogramRoasterMetrics metrics = new HistogramRoasterMetrics();
+      HistogramRoasterMetrics.reset();
+      Instrumentation.addListener(metrics);
+      try
+      {
+         JavaClassSource copy = source.copy();
+         assertEquals(0, HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.USER).getCount()
+                  + HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.INTERNAL).getCount());
+         assertEquals(source.toString(), copy.toString());
+      }
+      finally
+      {
+         Instrumentation.removeListener(metrics);
+      }
+   }
+
+   @Test
+   public void testCopyCarriesPendingModifications() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE);
+      source.addField("private String name;");
+      source.getMethod("getCount").setBody("return -count;");
+
+      JavaClassSource copy = source.copy();
+      assertTrue(copy.hasField("name"));
+      assertEquals("return -count;", copy.getMethod("getCount").getBody().trim());
+      copy.addMethod("public void reset() { count = 0; }");
+      assertFalse(source.hasMethodSignature("reset"));
+      assertTrue(copy.hasMethodSignature("reset"));
+   }
+
+   @Test
+   public void testCopyNestedType() throws Exception
+   {
+      JavaClassSource outer = Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource inner = (JavaClassSource) outer.getNestedType("Inner");
+      JavaClassSource innermost = (JavaClassSource) inner.getNestedType("Innermost");
+
+      JavaClassSource copy = innermost.copy();
+      assertNotSame(innermost, copy);
+      assertEquals("org.example.Outer.Inner.Innermost", copy.getCanonicalName());
+      copy.addField("private int depth;");
+      assertFalse(innermost.hasField("depth"));
+
+      outer.addField("private long pending;");
+      assertEquals("org.example.Outer.Inner", inner.copy().getCanonicalName());
+   }
+
+   @Test
+   public void testCopyOutline() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.OUTLINE);
+      JavaClassSource copy = source.copy();
+      assertEquals("return count;", copy.getMethod("getCount").getBody().trim());
+      assertEquals(source.toString(), copy.toString());
+   }
+
+   @Test
+   public void testCopyPackageInfo() throws Exception
+   {
+      JavaPackageInfoSource source = Roaster.parse(JavaPackageInfoSource.class, "package org.example;");
+      JavaPackageInfoSource copy = source.copy();
+      copy.setPackage("org.example.copy");
+      assertEquals("org.example", source.getPackage());
+      assertEquals("org.example.copy", copy.getPackage());
+   }
+
+   @Test
+   public void testCopyEnumConstantBody() throws Exception
+   {
+      JavaEnumSource source = Roaster.parse(JavaEnumSource.class,
+               "public enum Foo { BAR { class Baz { } public void run() { } }, QUX }");
+      EnumConstantSource.Body body = source.getEnumConstant("BAR").getBody();
+      EnumConstantSource.Body copy = body.copy();
+      assertNotSame(body, copy);
+      assertTrue(copy.hasMethodSignature("run"));
+      copy.addMethod("public void stop() { }");
+      assertFalse(body.hasMethodSignature("stop"));
+
+      JavaClassSource baz = (JavaClassSource) body.getNestedType("Baz");
+      JavaClassSource bazCopy = baz.copy();
+      assertNotSame(baz, bazCopy);
+      assertEquals(baz.getQualifiedName(), bazCopy.getQualifiedName());
+      bazCopy.addField("private int count;");
+      assertFalse(baz.hasField("count"));
+   }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.EditTransaction;
+import org.jboss.forge.roaster.model.source.EnumConstantSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.SourceEdit;
+import org.junit.Test;
+
+public class EditTransactionTest
+{
+   @Test
+   public void testEditAppliesAllModifications() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class,
+               "package org.example; import java.util.List; public class Foo { private int a; public void foo() {} }");
+      JavaClassSource result = javaClass.edit(new SourceEdit<JavaClassSource>()
+      {
+         @Override
+         public void apply(EditTransaction<JavaClassSource> tx)
+         {
+            for (int i = 0; i < 200; i++)
+            {
+               tx.addImport(List.class).addImport("java.util.Map<String, Integer>");
+               tx.addField("private List<String> field" + i + ";");
+               tx.addMethod("public int method" + i + "() { return " + i + "; }");
+            }
+            tx.addAnnotation(Deprecated.class).addAnnotation("javax.annotation.Generated");
+         }
+      });
+      assertSame(javaClass, result);
+
+      assertEquals(4, javaClass.getImports().size());
+      assertEquals("java.util.List", javaClass.getImports().get(0).getQualifiedName());
+      assertEquals("java.util.Map", javaClass.getImports().get(1).getQualifiedName());
+      assertEquals("java.lang.Deprecated", javaClass.getImports().get(2).getQualifiedName());
+      assertEquals("javax.annotation.Generated", javaClass.getImports().get(3).getQualifiedName());
+      assertTrue(javaClass.hasAnnotation(Deprecated.class));
+      assertTrue(javaClass.hasAnnotation("Generated"));
+
+      assertEquals(201, javaClass.getFields().size());
+      assertEquals("a", javaClass.getFields().get(0).getName());
+      assertEquals("field199", javaClass.getFields().get(200).getName());
+      assertEquals(201, javaClass.getMethods().size());
+      assertEquals("foo", javaClass.getMethods().get(0).getName());
+      assertEquals("return 199;", javaClass.getMethod("method199").getBody());
+
+      String source = javaClass.toString();
+      assertTrue(source.indexOf("private List<String> field199;") < source.indexOf("public void foo()"));
+      assertEquals(javaClass.toString(), Roaster.parse(JavaClassSource.class, source).toString());
+   }
+
+   @Test
+   public void testEditSplitsMultipleVariableDeclarations() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, "public class Foo { }");
+      javaClass.edit(new SourceEdit<JavaClassSource>()
+      {
+         @Override
+         public void apply(EditTransaction<JavaClassSource> tx)
+         {
+            tx.addField("private int a, b;");
+         }
+      });
+      assertEquals(2, javaClass.getFields().size());
+      assertEquals("b", javaClass.getFields().get(1).getName());
+      assertTrue(javaClass.toString().contains("private int b;"));
+   }
+
+   @Test
+   public void testFailedEditAppliesNothing() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, "public class Foo { }");
+      String original = javaClass.toString();
+      try
+      {
+         javaClass.edit(new SourceEdit<JavaClassSource>()
+         {
+            @Override
+            public void apply(EditTransaction<JavaClassSource> tx)
+            {
+               tx.addImport("java.util.List").addField("private int a;").addImport("int");
+            }
+         });
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // expected
+      }
+      assertEquals(original, javaClass.toString());
+      assertTrue(javaClass.getImports().isEmpty());
+   }
+
+   @Test
+   public void testMemberOfOtherKind() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, "public class Foo { }");
+      String original = javaClass.toString();
+      try
+      {
+         javaClass.edit(new SourceEdit<JavaClassSource>()
+         {
+            @Override
+            public void apply(EditTransaction<JavaClassSource> tx)
+            {
+               tx.addMethod("public int count() { return 0; }").addField("public void reset() { }");
+            }
+         });
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e)
+      {
+         assertTrue(e.getMessage().contains("reset"));
+      }
+      assertEquals(original, javaClass.toString());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testSeveralMembersInOneDeclaration() throws Exception
+   {
+      Roaster.create(JavaClassSource.class).edit(new SourceEdit<JavaClassSource>()
+      {
+         @Override
+         public void apply(EditTransaction<JavaClassSource> tx)
+         {
+            tx.addMethod("public void start() { } public void stop() { }");
+         }
+      });
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testDeclarationSpanningCalls() throws Exception
+   {
+      Roaster.create(JavaClassSource.class).edit(new SourceEdit<JavaClassSource>()
+      {
+         @Override
+         public void apply(EditTransaction<JavaClassSource> tx)
+         {
+            tx.addMethod("public void start() {").addMethod("} public void stop() { }");
+         }
+      });
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testImportWithoutPackage() throws Exception
+   {
+      Roaster.create(JavaClassSource.class).edit(new SourceEdit<JavaClassSource>()
+      {
+         @Override
+         public void apply(EditTransaction<JavaClassSource> tx)
+         {
+            tx.addImport("Foo");
+         }
+      });
+   }
+
+   @Test
+   public void testEditEnumConstantBody() throws Exception
+   {
+      JavaEnumSource javaEnum = Roaster.parse(JavaEnumSource.class, "public enum Foo { BAR; }");
+      EnumConstantSource.Body body = javaEnum.getEnumConstant("BAR").getBody();
+      body.edit(new SourceEdit<EnumConstantSource.Body>()
+      {
+         @Override
+         public void apply(EditTransaction<EnumConstantSource.Body> tx)
+         {
+            tx.addImport("java.util.List").addField("private List<String> names;")
+                     .addMethod("public String toString() { return names.toString(); }");
+         }
+      });
+      assertNotNull(javaEnum.getImport("java.util.List"));
+      assertEquals("names", body.getFields().get(0).getName());
+      assertEquals("toString", body.getMethods().get(0).getName());
+   }
+
+   @Test(expected = UnsupportedOperationException.class)
+   public void testEnumConstantBodyAnnotation() throws Exception
+   {
+      JavaEnumSource javaEnum = Roaster.parse(JavaEnumSource.class, "public enum Foo { BAR; }");
+      javaEnum.getEnumConstant("BAR").getBody().edit(new SourceEdit<EnumConstantSource.Body>()
+      {
+         @Override
+         public void apply(EditTransaction<EnumConstantSource.Body> tx)
+         {
+            tx.addAnnotation(Deprecated.class);
+         }
+      });
+   }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.junit.Test;
+
+public class JavaClassImportTest
+{
+   @Test
+   public void testImportLookups() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class,
+               "package org.example; import java.util.List; import java.awt.List; import java.util.Map; public class Imports {}");
+      assertEquals("java.util.List", javaClass.getImport("List").getQualifiedName());
+      assertEquals("java.awt.List", javaClass.getImport("java.awt.List").getQualifiedName());
+      assertEquals("java.util.List", javaClass.resolveType("List"));
+      assertEquals("java.util.Map", javaClass.resolveType("Map<String, String>"));
+      assertEquals("org.example.Set", javaClass.resolveType("Set"));
+      assertTrue(javaClass.hasImport("java.util.Map"));
+      assertFalse(javaClass.requiresImport("java.util.Map"));
+      assertTrue(javaClass.requiresImport("java.util.Set"));
+   }
+
+   @Test
+   public void testImportsFollowModifications() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+      List<Import> imports = javaClass.getImports();
+      assertSame(imports, javaClass.getImports());
+
+      Import list = javaClass.addImport("java.util.List");
+      assertEquals(imports.size() + 1, javaClass.getImports().size());
+      assertTrue(javaClass.hasImport("List"));
+
+      list.setName("java.awt.List");
+      assertNull(javaClass.getImport("java.util.List"));
+      assertEquals("java.awt.List", javaClass.resolveType("List"));
+
+      javaClass.removeImport("java.awt.List");
+      assertFalse(javaClass.hasImport("List"));
+      assertEquals(imports.size(), javaClass.getImports().size());
+   }
+}
@@ -9,6 +9,8 @@ package org.jboss.forge.test.roaster.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.InputStream;
@@ -102,6 +104,39 @@ public class JavaClassMethodTest
       assertFalse(javaClass.hasMethodSignature(method.getName()));
    }
 
+   @Test
+   public void testSetParametersGenericAndVarargs() throws Exception
+   {
+      method.setParameters("java.util.Map<String, java.util.List<? extends Number>> map, final int[][] matrix, String... names");
+      List<ParameterSource<JavaClassSource>> parameters = method.getParameters();
+      assertEquals(3, parameters.size());
+      assertEquals("java.util.Map<String,java.util.List<? extends Number>> map", parameters.get(0).toString());
+      assertEquals("final int[][] matrix", parameters.get(1).toString());
+      assertEquals("String... names", parameters.get(2).toString());
+   }
+
+   @Test
+   public void testSetParametersWithAnnotations() throws Exception
+   {
+      method.setParameters("@Deprecated final String foo, int bar[]");
+      List<ParameterSource<JavaClassSource>> parameters = method.getParameters();
+      assertEquals(2, parameters.size());
+      assertTrue(parameters.get(0).hasAnnotation(Deprecated.class));
+      assertEquals("bar", parameters.get(1).getName());
+   }
+
+   @Test
+   public void testSetReturnTypeNestedGenerics() throws Exception
+   {
+      method.setReturnType("java.util.Map<String, java.util.List<String>>");
+      assertEquals("Map<String,List<String>>", method.getReturnType().toString());
+      assertTrue(method.getReturnType().isParameterized());
+      assertTrue(javaClass.hasImport("java.util.Map"));
+      method.setReturnType("int[][]");
+      assertEquals(2, method.getReturnType().getArrayDimensions());
+      assertTrue(method.getReturnType().isPrimitive());
+   }
+
    @Test
    public void testHasMethodZeroParametersIgnoresMethodWithParameters() throws Exception
    {
@@ -183,4 +218,24 @@ public class JavaClassMethodTest
       assertEquals(1, method.getParameters().size());
    }
 
+   @Test
+   public void testMemberLookupsFollowModifications() throws Exception
+   {
+      List<MethodSource<JavaClassSource>> methods = javaClass.getMethods();
+      assertSame(methods, javaClass.getMethods());
+
+      method.setName("rewriteURI");
+      assertNull(javaClass.getMethod("rewriteURL", String.class, String.class));
+      assertNotNull(javaClass.getMethod("rewriteURI", String.class, String.class));
+
+      javaClass.addMethod("public URL rewriteURI(String pattern) { return null; }");
+      assertEquals(methods.size() + 1, javaClass.getMethods().size());
+      assertNotNull(javaClass.getMethod("rewriteURI", String.class));
+
+      javaClass.addField("private int rewriteCount;");
+      assertTrue(javaClass.hasField("rewriteCount"));
+      javaClass.getField("rewriteCount").setName("rewrites");
+      assertFalse(javaClass.hasField("rewriteCount"));
+      assertNotNull(javaClass.getField("rewrites"));
+   }
 }
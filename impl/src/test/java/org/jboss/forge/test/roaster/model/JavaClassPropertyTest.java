@@ -87,4 +87,13 @@ public class JavaClassPropertyTest
       assertTrue(source.hasProperty("list3"));
    }
 
+   @Test
+   public void testPropertyAccessorDeclaredFirstWins()
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "public class Flags { private boolean on; "
+               + "public boolean getOn() { return on; } public boolean isOn() { return on; } }");
+      Assert.assertEquals("getOn", source.getProperty("on").getAccessor().getName());
+      source.removeMethod(source.getMethod("getOn"));
+      Assert.assertEquals("isOn", source.getProperty("on").getAccessor().getName());
+   }
 }
@@ -7,9 +7,36 @@
 
 package org.jboss.forge.test.roaster.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.jboss.forge.roaster.ParseOptions;
 import org.jboss.forge.roaster.ParserException;
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.JavaClass;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
 import org.junit.Test;
 
 /**
@@ -22,4 +49,179 @@ public class JavaParserTest
    {
       Roaster.parse(JavaClass.class, "asdfa$%(*&#$%sdfdsf");
    }
+
+   @Test
+   public void testParseAllPreservesOrderAndTypes() throws Exception
+   {
+      List<String> sources = Arrays.asList("public interface A {}", "public enum B {}", "public class C {}");
+      Map<String, JavaType<?>> result = Roaster.parseAll(sources);
+      assertEquals(3, result.size());
+      Iterator<Map.Entry<String, JavaType<?>>> entries = result.entrySet().iterator();
+      assertTrue(entries.next().getValue() instanceof JavaInterfaceSource);
+      assertTrue(entries.next().getValue() instanceof JavaEnumSource);
+      assertEquals("C", entries.next().getValue().getName());
+      assertFalse(entries.hasNext());
+   }
+
+   @Test
+   public void testParseAllParsesEachSourceOnce() throws Exception
+   {
+      Map<String, JavaType<?>> result = Roaster.parseAll(Arrays.asList("public class C {}"));
+      JavaType<?> parsed = result.get("public class C {}");
+      assertSame(parsed, result.get("public class C {}"));
+      assertEquals(null, result.get("public class D {}"));
+   }
+
+   @Test
+   public void testParseAllFilesAndUrls() throws Exception
+   {
+      URL url = JavaParserTest.class.getResource("/org/jboss/forge/grammar/java/MockClass.java");
+      Collection<Object> sources = new ArrayList<Object>();
+      sources.add(url);
+      sources.add(new File(url.toURI()));
+      Map<Object, JavaType<?>> result = Roaster.parseAll(sources);
+      for (JavaType<?> type : result.values())
+      {
+         assertEquals("MockClass", type.getName());
+      }
+   }
+
+   @Test(expected = ParserException.class)
+   public void testParseAllReportsBadSourceLazily() throws Exception
+   {
+      Map<String, JavaType<?>> result = Roaster.parseAll(Arrays.asList("public class C {}", "asdfa$%(*&#$%sdfdsf"));
+      assertEquals("C", result.get("public class C {}").getName());
+      result.get("asdfa$%(*&#$%sdfdsf");
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testParseAllRejectsUnsupportedSources() throws Exception
+   {
+      Roaster.parseAll(Arrays.asList(Integer.valueOf(1)));
+   }
+
+   @Test
+   public void testParseAllWithExecutor() throws Exception
+   {
+      List<String> sources = new ArrayList<String>();
+      for (int i = 0; i < 50; i++)
+      {
+         sources.add("package org.example; public class Type" + i + " { private int field" + i + "; }");
+      }
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try
+      {
+         Map<String, Future<JavaType<?>>> result = Roaster.parseAll(sources, executor);
+         assertEquals(50, result.size());
+         int i = 0;
+         for (Future<JavaType<?>> future : result.values())
+         {
+            assertEquals("org.example.Type" + i++, future.get().getQualifiedName());
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void testParseAllWithExecutorReportsFailures() throws Exception
+   {
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try
+      {
+         Map<String, Future<JavaType<?>>> result = Roaster.parseAll(Arrays.asList("asdfa$%(*&#$%sdfdsf"), executor);
+         result.values().iterator().next().get();
+      }
+      catch (ExecutionException e)
+      {
+         assertTrue(e.getCause() instanceof ParserException);
+         return;
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+      fail("Expected ExecutionException");
+   }
+
+   @Test
+   public void testParseWithFastOptions() throws Exception
+   {
+      String source = "package org.example; /** Type doc */ public class Fast { /** Method doc */ public void run() {} }";
+      JavaClassSource fast = Roaster.parse(JavaClassSource.class, source, ParseOptions.FAST);
+      assertEquals("org.example.Fast", fast.getQualifiedName());
+      assertEquals("run", fast.getMethods().get(0).getName());
+      assertFalse(fast.hasJavaDoc());
+      assertTrue(fast.toString().contains("/** Type doc */"));
+
+      JavaClassSource full = Roaster.parse(JavaClassSource.class, source);
+      assertEquals("Type doc", full.getJavaDoc().getText());
+   }
+
+   @Test
+   public void testParseWithStatementsRecovery() throws Exception
+   {
+      String source = "public class Broken { public void run() { int x = ; } }";
+      JavaClassSource plain = Roaster.parse(JavaClassSource.class, source, ParseOptions.FAST);
+      assertEquals("", plain.getMethods().get(0).getBody());
+      JavaClassSource recovered = Roaster.parse(JavaClassSource.class, source,
+               ParseOptions.FAST.statementsRecovery(true));
+      assertTrue(recovered.getMethods().get(0).getBody().contains("int x"));
+   }
+
+   @Test
+   public void testParseOptionsAreValues() throws Exception
+   {
+      assertEquals(ParseOptions.FAST, ParseOptions.DEFAULT.resolveBindings(false).javadocParsing(false));
+      assertEquals(ParseOptions.FAST.hashCode(), ParseOptions.DEFAULT.resolveBindings(false).javadocParsing(false)
+               .hashCode());
+      assertTrue(ParseOptions.DEFAULT.isResolveBindings());
+      assertFalse(ParseOptions.DEFAULT.resolveBindings(false).isResolveBindings());
+   }
+
+   @Test
+   public void testOutlineParseLoadsBodiesOnDemand() throws Exception
+   {
+      String source = "public class Outline { private int count; public int next() { count++; return count; } }";
+      JavaClassSource outline = Roaster.parse(JavaClassSource.class, source, ParseOptions.OUTLINE);
+      assertEquals(1, outline.getFields().size());
+      MethodSource<JavaClassSource> next = outline.getMethod("next");
+      assertEquals("int", next.getReturnType().getName());
+      assertEquals(Roaster.parse(JavaClassSource.class, source).getMethod("next").getBody(), next.getBody());
+   }
+
+   @Test
+   public void testOutlineParsePreservesBodiesOnRewrite() throws Exception
+   {
+      String source = "public class Outline { public void run() { System.out.println(\"run\"); } public void stop() { } }";
+      JavaClassSource outline = Roaster.parse(JavaClassSource.class, source, ParseOptions.OUTLINE);
+      outline.getMethod("run").setName("start");
+      outline.getMethod("stop").setBody("return;");
+      assertTrue(outline.toUnformattedString().contains("public void start() { System.out.println(\"run\"); }"));
+      assertEquals("return;", outline.getMethod("stop").getBody());
+   }
+
+   @Test
+   public void testOutlineParseNestedIntoAnotherSource() throws Exception
+   {
+      String source = "public class Inner { public int answer() { return 42; } }";
+      JavaClassSource outer = Roaster.create(JavaClassSource.class);
+      outer.addNestedType(Roaster.parse(JavaClassSource.class, source, ParseOptions.OUTLINE));
+      JavaClassSource inner = (JavaClassSource) outer.getNestedType("Inner");
+      assertEquals("return 42;", inner.getMethod("answer").getBody());
+   }
+
+   @Test
+   public void testOutlineParseNestedLeavesArgumentUntouched() throws Exception
+   {
+      String source = "public class Inner { public int answer() { return 42; } }";
+      JavaClassSource nested = Roaster.parse(JavaClassSource.class, source, ParseOptions.OUTLINE);
+      AST ast = ((CompilationUnit) nested.getInternal()).getAST();
+      long modificationCount = ast.modificationCount();
+      Roaster.create(JavaClassSource.class).addNestedType(nested);
+      assertEquals(modificationCount, ast.modificationCount());
+      assertEquals(source, nested.toUnformattedString());
+   }
 }
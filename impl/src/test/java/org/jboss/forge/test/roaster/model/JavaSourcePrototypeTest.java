@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
+import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
+import org.junit.After;
+import org.junit.Test;
+
+public class JavaSourcePrototypeTest
+{
+   private static final String ENTITY = "/* Licensed to the example project */\n"
+            + "package org.example.model;\n\n"
+            + "import java.io.Serializable;\n\n"
+            + "public class Entity implements Serializable {\n"
+            + "   private static final long serialVersionUID = 1L;\n"
+            + "   private Long id;\n"
+            + "   public Long getId() { return id; }\n"
+            + "}";
+
+   @After
+   public void removePrototypes()
+   {
+      Roaster.removePrototype("entity");
+   }
+
+   @Test
+   public void testCreatedSourcesAreIndependent() throws Exception
+   {
+      JavaClassSource first = Roaster.create(JavaClassSource.class);
+      first.setName("First").setPackage("org.example").addField("private int count;");
+      first.addMethod("public int getCount() { return count; }");
+
+      JavaClassSource second = Roaster.create(JavaClassSource.class);
+      assertNotSame(first, second);
+      assertEquals("JavaClass", second.getName());
+      assertTrue(second.isDefaultPackage());
+      assertTrue(second.getFields().isEmpty());
+      assertTrue(second.getMethods().isEmpty());
+      assertEquals("First", first.getName());
+      assertTrue(first.toString().contains("return count;"));
+   }
+
+   @Test
+   public void testCreateEachKind() throws Exception
+   {
+      assertEquals("JavaEnum", Roaster.create(JavaEnumSource.class).getName());
+      assertEquals("JavaInterface", Roaster.create(JavaInterfaceSource.class).getName());
+      assertEquals("org.example", Roaster.create(JavaPackageInfoSource.class).getPackage());
+   }
+
+   @Test
+   public void testCreateFromRegisteredPrototype() throws Exception
+   {
+      Roaster.registerPrototype("entity", ENTITY);
+
+      JavaClassSource customer = Roaster.create(JavaClassSource.class, "entity");
+      customer.setName("Customer");
+      customer.addField("private String name;");
+      customer.getMethod("getId").setBody("return this.id;");
+
+      JavaClassSource order = Roaster.create(JavaClassSource.class, "entity");
+      assertEquals("Entity", order.getName());
+      assertEquals("org.example.model", order.getPackage());
+      assertTrue(order.hasImport("java.io.Serializable"));
+      assertTrue(order.hasInterface("java.io.Serializable"));
+      assertFalse(order.hasField("name"));
+      assertEquals("return id;", order.getMethod("getId").getBody());
+
+      String source = customer.toString();
+      assertTrue(source.startsWith("/* Licensed to the example project */"));
+      assertTrue(source.contains("public class Customer implements Serializable"));
+      assertTrue(source.contains("private String name;"));
+      assertTrue(source.contains("return this.id;"));
+   }
+
+   @Test
+   public void testCreateCopiesPrototype() throws Exception
+   {
+      Roaster.registerPrototype("entity", ENTITY);
+      CompilationUnit first = (CompilationUnit) Roaster.create(JavaClassSource.class, "entity").getInternal();
+      CompilationUnit second = (CompilationUnit) Roaster.create(JavaClassSource.class, "entity").getInternal();
+      CompilationUnit parsed = (CompilationUnit) Roaster.parse(JavaClassSource.class, ENTITY).getInternal();
+      assertNotSame(first.getAST(), second.getAST());
+      assertEquals(parsed.toString(), first.toString());
+      // only the parser sets the comment list, which a copy lacks
+      assertEquals(1, parsed.getCommentList().size());
+      assertTrue(first.getCommentList() == null || first.getCommentList().isEmpty());
+   }
+
+   @Test
+   public void testCreatedSourceMatchesParsedSource() throws Exception
+   {
+      String broken = "package org.example; public class Broken { public void run() { int x = ; } }";
+      Roaster.registerPrototype("broken", broken);
+      JavaClassSource created = Roaster.create(JavaClassSource.class, "broken");
+      JavaClassSource parsed = Roaster.parse(JavaClassSource.class, broken);
+      assertTrue(created.hasSyntaxErrors());
+      assertEquals(parsed.getSyntaxErrors().size(), created.getSyntaxErrors().size());
+
+      String data = "package org.example;\n\n"
+               + "public class Commented {\n"
+               + "   // helper for old\n"
+               + "   private void old() { }\n"
+               + "   /** Runs. */\n"
+               + "   public void run() { }\n"
+               + "}";
+      Roaster.registerPrototype("entity", data);
+      created = Roaster.create(JavaClassSource.class, "entity");
+      parsed = Roaster.parse(JavaClassSource.class, data);
+      assertEquals(parsed.toString(), created.toString());
+      for (JavaClassSource source : new JavaClassSource[] { created, parsed })
+      {
+         source.removeMethod(source.getMethod("old"));
+         source.addMethod("public void stop() { }");
+      }
+      assertEquals(parsed.toString(), created.toString());
+      assertFalse(created.toString().contains("helper for old"));
+   }
+
+   @Test
+   public void testRegisterReplacesPrototype() throws Exception
+   {
+      Roaster.registerPrototype("entity", ENTITY);
+      Roaster.registerPrototype("entity", "package org.example; public enum Status { ON, OFF }");
+      assertEquals(2, Roaster.create(JavaEnumSource.class, "entity").getEnumConstants().size());
+   }
+
+   @Test(expected = ParserException.class)
+   public void testCreateFromPrototypeOfOtherType() throws Exception
+   {
+      Roaster.registerPrototype("entity", ENTITY);
+      Roaster.create(JavaEnumSource.class, "entity");
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testCreateFromUnknownPrototype() throws Exception
+   {
+      Roaster.create(JavaClassSource.class, "entity");
+   }
+
+   @Test
+   public void testRemovePrototype() throws Exception
+   {
+      assertFalse(Roaster.removePrototype("entity"));
+      Roaster.registerPrototype("entity", ENTITY);
+      assertTrue(Roaster.removePrototype("entity"));
+   }
+}
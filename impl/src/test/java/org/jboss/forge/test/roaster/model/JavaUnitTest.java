@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
+import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.JavaUnit;
+import org.junit.Test;
+
+public class JavaUnitTest
+{
+   private static final String SOURCE = "package org.example;\n"
+            + "import java.util.List;\n"
+            + "public class Foo { Helper helper; class Nested {} }\n"
+            + "class Helper { List<String> names; }\n"
+            + "interface Callback { void call(); }\n"
+            + "enum State { ON, OFF }\n";
+
+   @Test
+   public void testAllTopLevelTypes() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit(SOURCE);
+      assertEquals("org.example", unit.getPackage());
+      assertEquals(1, unit.getImports().size());
+
+      List<JavaSource<?>> types = unit.getTopLevelTypes();
+      assertEquals(4, types.size());
+      assertTrue(types.get(0) instanceof JavaClassSource);
+      assertEquals("Foo", types.get(0).getName());
+      assertEquals("org.example.Helper", types.get(1).getQualifiedName());
+      assertTrue(types.get(2) instanceof JavaInterfaceSource);
+      assertTrue(types.get(3) instanceof JavaEnumSource);
+
+      JavaClassSource governing = unit.getGoverningType();
+      assertEquals("Foo", governing.getName());
+      assertEquals("Helper", unit.getTopLevelType("Helper").getName());
+      assertNull(unit.getTopLevelType("Nested"));
+   }
+
+   @Test
+   public void testModificationsShareOneSource() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit(SOURCE);
+      JavaClassSource helper = (JavaClassSource) unit.getTopLevelType("Helper");
+      helper.addField("private int count;");
+      helper.addImport("java.util.Map");
+      JavaEnumSource state = (JavaEnumSource) unit.getTopLevelType("State");
+      state.addEnumConstant("STANDBY");
+
+      String source = unit.toString();
+      assertTrue(source.contains("private int count;"));
+      assertTrue(source.contains("import java.util.Map;"));
+      assertTrue(source.contains("STANDBY"));
+      assertTrue(source.contains("public class Foo"));
+      assertEquals(source, unit.getGoverningType().toString());
+      assertEquals(2, unit.getImports().size());
+      assertEquals(4, Roaster.parseUnit(source).getTopLevelTypes().size());
+   }
+
+   @Test
+   public void testPackageInfo() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit("@Deprecated package org.example;");
+      assertEquals(1, unit.getTopLevelTypes().size());
+      assertTrue(unit.getGoverningType() instanceof JavaPackageInfoSource);
+      assertEquals("org.example", unit.getPackage());
+   }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.EnumConstantSource;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.FieldTemplate;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.MemberTemplate;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.jboss.forge.roaster.model.source.MethodTemplate;
+import org.junit.Test;
+
+public class MemberTemplateTest
+{
+   @Test
+   public void testAddMethodTemplate() throws Exception
+   {
+      MethodTemplate template = Roaster.parseMethod("@Override public String toString() { return \"example\"; }");
+      assertTrue(template.getPlaceholders().isEmpty());
+
+      JavaClassSource first = Roaster.create(JavaClassSource.class).setName("First");
+      JavaClassSource second = Roaster.create(JavaClassSource.class).setName("Second");
+      MethodSource<JavaClassSource> method = first.addMethod(template);
+      second.addMethod(template);
+
+      assertEquals("toString", method.getName());
+      assertTrue(method.hasAnnotation(Override.class));
+      assertTrue(first.toString().contains("return \"example\";"));
+      assertTrue(second.toString().contains("return \"example\";"));
+      method.setBody("return \"changed\";");
+      assertTrue(second.toString().contains("return \"example\";"));
+   }
+
+   @Test
+   public void testAddFieldTemplate() throws Exception
+   {
+      FieldTemplate template = Roaster.parseField("private int first, second = 2;");
+      JavaClassSource source = Roaster.create(JavaClassSource.class).addMethod("void method() {}").getOrigin();
+      FieldSource<JavaClassSource> field = source.addField(template);
+
+      assertEquals("first", field.getName());
+      assertEquals("2", source.getField("second").getLiteralInitializer());
+      assertEquals(2, source.getFields().size());
+      assertTrue(source.toString().indexOf("second") < source.toString().indexOf("method"));
+   }
+
+   @Test
+   public void testPlaceholders() throws Exception
+   {
+      MethodTemplate getter = Roaster.parseMethod("public ${Type} get${Name}() { return this.${name}; }");
+      FieldTemplate field = Roaster.parseField("private ${Type} ${name};");
+      assertEquals(new HashSet<String>(Arrays.asList("Type", "Name", "name")), getter.getPlaceholders());
+
+      JavaClassSource source = Roaster.create(JavaClassSource.class);
+      Map<String, String> values = new HashMap<String, String>();
+      values.put("Type", "String");
+      values.put("name", "label");
+      values.put("Name", "Label");
+      source.addField(field, values);
+      MethodSource<JavaClassSource> method = source.addMethod(getter, values);
+
+      assertEquals("getLabel", method.getName());
+      assertEquals("String", method.getReturnType().getName());
+      assertEquals("return this.label;", method.getBody().trim());
+      assertEquals("String", source.getField("label").getType().getName());
+      assertTrue(source.toString().contains("private String label;"));
+   }
+
+   @Test
+   public void testPlaceholdersInLiteralsAreKept() throws Exception
+   {
+      MethodTemplate template = Roaster.parseMethod("public String describe${Name}() { return \"${Name}\"; }");
+      assertEquals(new HashSet<String>(Arrays.asList("Name")), template.getPlaceholders());
+
+      MethodSource<JavaClassSource> method = Roaster.create(JavaClassSource.class).addMethod(template,
+               Collections.singletonMap("Name", "Item"));
+      assertEquals("describeItem", method.getName());
+      assertEquals("return \"${Name}\";", method.getBody().trim());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testMissingPlaceholderValue() throws Exception
+   {
+      FieldTemplate template = Roaster.parseField("private int ${name};");
+      Roaster.create(JavaClassSource.class).addField(template);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNullPlaceholderValue() throws Exception
+   {
+      FieldTemplate template = Roaster.parseField("private int ${name};");
+      Roaster.create(JavaClassSource.class).addField(template, Collections.<String, String> singletonMap("name", null));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testInvalidPlaceholderValue() throws Exception
+   {
+      FieldTemplate template = Roaster.parseField("private int ${name};");
+      Roaster.create(JavaClassSource.class).addField(template,
+               Collections.singletonMap("name", "not a name"));
+   }
+
+   @Test
+   public void testParseMember() throws Exception
+   {
+      MemberTemplate method = Roaster.parseMember("void run() {}");
+      MemberTemplate field = Roaster.parseMember("int count;");
+      assertTrue(method instanceof MethodTemplate);
+      assertTrue(field instanceof FieldTemplate);
+      assertEquals("void run() {}", method.toString());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testParseMethodRejectsField() throws Exception
+   {
+      Roaster.parseMethod("int count;");
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testParseMemberRejectsSeveralMembers() throws Exception
+   {
+      Roaster.parseMember("int count; void run() {}");
+   }
+
+   @Test
+   public void testAddToEnumConstantBody() throws Exception
+   {
+      JavaEnumSource source = Roaster.parse(JavaEnumSource.class, "public enum Foo { BAR { } }");
+      EnumConstantSource.Body body = source.getEnumConstant("BAR").getBody();
+      body.addField(Roaster.parseField("private int count;"));
+      body.addMethod(Roaster.parseMethod("public int getCount() { return count; }"));
+      assertNotNull(body.getField("count"));
+      assertNotNull(body.getMethod("getCount"));
+      assertNull(source.getField("count"));
+   }
+}
@@ -205,6 +205,72 @@ public class NestedClassTest
       Assert.assertEquals(1, javaClass.getNestedTypes().size());
    }
 
+   @Test
+   public void testDeeplyNestedNames()
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, "package org.example; public class A { "
+               + "static class B { static class C { static class D {} } } }");
+      JavaClassSource c = (JavaClassSource) ((JavaClassSource) javaClass.getNestedType("B")).getNestedType("C");
+      JavaSource<?> d = c.getNestedType("D");
+      Assert.assertEquals("org.example.A.B.C.D", d.getCanonicalName());
+      Assert.assertEquals("org.example.A$B$C$D", d.getQualifiedName());
+      Assert.assertSame(d, c.getNestedType("org.example.A$B$C$D"));
+   }
+
+   @Test
+   public void testNestedTypesAreStable()
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, "public class Outer { "
+               + "void run() { class Local {} } class Inner {} }");
+      List<JavaSource<?>> nestedTypes = javaClass.getNestedTypes();
+      Assert.assertEquals(2, nestedTypes.size());
+      Assert.assertSame(nestedTypes.get(1), javaClass.getNestedType("Inner"));
+
+      javaClass.addField("private int count;");
+      Assert.assertSame(nestedTypes.get(1), javaClass.getNestedTypes().get(1));
+
+      JavaClassSource added = javaClass.addNestedType("public class Inner {}");
+      Assert.assertEquals(3, javaClass.getNestedTypes().size());
+      Assert.assertSame(added, javaClass.getNestedTypes().get(2));
+      Assert.assertSame(nestedTypes.get(1), javaClass.getNestedType("Inner"));
+
+      javaClass.removeNestedType(nestedTypes.get(1));
+      Assert.assertSame(added, javaClass.getNestedType("Inner"));
+   }
+
+   @Test
+   public void testLocalAndAnonymousClassesAreNested()
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, "package org.example; public class Outer { "
+               + "Object field = new Object() { class InField { class Deeper {} } }; "
+               + "static { class InInitializer {} } "
+               + "void run() { class Local {} } }");
+      List<JavaSource<?>> nestedTypes = javaClass.getNestedTypes();
+      Assert.assertEquals(3, nestedTypes.size());
+      Assert.assertEquals("InField", nestedTypes.get(0).getName());
+      Assert.assertEquals("InInitializer", nestedTypes.get(1).getName());
+      Assert.assertEquals("Local", nestedTypes.get(2).getName());
+      Assert.assertEquals("org.example.Outer$Local", nestedTypes.get(2).getQualifiedName());
+      Assert.assertEquals(1, ((JavaClassSource) nestedTypes.get(0)).getNestedTypes().size());
+   }
+
+   @Test
+   public void testEnumConstantBodyNestedNames()
+   {
+      JavaEnumSource javaEnum = Roaster.parse(JavaEnumSource.class,
+               "package p; public enum E { A { class X { class Y {} } }; }");
+      JavaClassSource x = (JavaClassSource) javaEnum.getEnumConstant("A").getBody().getNestedType("X");
+      Assert.assertEquals("p.E$X", x.getQualifiedName());
+      Assert.assertEquals("p.E.X", x.getCanonicalName());
+      Assert.assertEquals("p.E$X$Y", x.getNestedType("Y").getQualifiedName());
+
+      List<JavaSource<?>> nestedTypes = javaEnum.getNestedTypes();
+      Assert.assertEquals(1, nestedTypes.size());
+      Assert.assertEquals("p.E$X", nestedTypes.get(0).getQualifiedName());
+      Assert.assertSame(nestedTypes.get(0), javaEnum.getNestedType("X"));
+      Assert.assertSame(javaEnum, nestedTypes.get(0).getEnclosingType());
+   }
+
    public class NestedClass
    {
    }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+
+import org.jboss.forge.roaster.ParseCache;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.util.Instrumentation;
+import org.jboss.forge.roaster.spi.HistogramRoasterMetrics;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Caller;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ParseCacheTest
+{
+   private static final String FOO = "package org.example; public class Foo { private int bar; }";
+   private static final String BAZ = "package org.example; public class Baz { private int bar; }";
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testParseStringReturnsIndependentCopies() throws Exception
+   {
+      ParseCache cache = new ParseCache(1024 * 1024);
+      JavaClassSource first = cache.parse(JavaClassSource.class, FOO);
+      first.setName("Modified").addField("private String name;");
+
+      JavaClassSource second = cache.parse(JavaClassSource.class, new String(FOO));
+      assertNotSame(first, second);
+      assertEquals("Foo", second.getName());
+      assertFalse(second.hasField("name"));
+      assertEquals(1, cache.getMissCount());
+      assertEquals(1, cache.getHitCount());
+      assertEquals(1, cache.size());
+      assertTrue(first.toString().contains("class Modified"));
+   }
+
+   @Test
+   public void testParseFileFollowsModifications() throws Exception
+   {
+      File file = folder.newFile("Foo.java");
+      write(file, FOO);
+      ParseCache cache = new ParseCache(1024 * 1024);
+      assertEquals("Foo", cache.parse(JavaClassSource.class, file).getName());
+      assertEquals("Foo", cache.parse(JavaClassSource.class, file).getName());
+      assertEquals(1, cache.getHitCount());
+
+      write(file, BAZ + "\n");
+      file.setLastModified(file.lastModified() + 2000);
+      assertEquals("Baz", cache.parse(JavaClassSource.class, file).getName());
+      assertEquals(2, cache.getMissCount());
+      assertEquals(1, cache.size());
+   }
+
+   @Test
+   public void testEvictsLeastRecentlyUsedByWeight() throws Exception
+   {
+      ParseCache sizing = new ParseCache(1024 * 1024);
+      sizing.parse(FOO);
+      // room for two sources of this size
+      ParseCache cache = new ParseCache(sizing.getWeight() * 5 / 2);
+      cache.parse(FOO);
+      cache.parse(BAZ);
+      cache.parse(FOO);
+      String qux = FOO.replace("Foo", "Qux");
+      cache.parse(qux);
+
+      assertEquals(2, cache.size());
+      assertEquals(1, cache.getEvictionCount());
+      assertTrue(cache.getWeight() <= cache.getMaximumWeight());
+      cache.parse(FOO);
+      cache.parse(qux);
+      assertEquals(3, cache.getHitCount());
+      cache.parse(BAZ);
+      assertEquals(4, cache.getMissCount());
+   }
+
+   @Test
+   public void testCachedResultMatchesParsedSource() throws Exception
+   {
+      String broken = "package org.example; public class Broken { public void run() { int x = ; } }";
+      ParseCache cache = new ParseCache(1024 * 1024);
+      cache.parse(JavaClassSource.class, broken);
+      JavaClassSource cached = cache.parse(JavaClassSource.class, broken);
+      assertEquals(1, cache.getHitCount());
+      assertTrue(cached.hasSyntaxErrors());
+      assertEquals(Roaster.parse(JavaClassSource.class, broken).getSyntaxErrors().size(), cached.getSyntaxErrors()
+               .size());
+
+      String data = "package org.example;\n\n"
+               + "public class Commented {\n"
+               + "   // helper for old\n"
+               + "   private void old() { }\n"
+               + "   public void run() { }\n"
+               + "}";
+      cache.parse(JavaClassSource.class, data);
+      cached = cache.parse(JavaClassSource.class, data);
+      JavaClassSource parsed = Roaster.parse(JavaClassSource.class, data);
+      assertEquals(parsed.toString(), cached.toString());
+      for (JavaClassSource source : new JavaClassSource[] { cached, parsed })
+      {
+         source.removeMethod(source.getMethod("old"));
+         source.addMethod("public void stop() { }");
+      }
+      assertEquals(parsed.toString(), cached.toString());
+      assertFalse(cached.toString().contains("helper for old"));
+   }
+
+   @Test
+   public void testHitCopiesParsedSource() throws Exception
+   {
+      HistogramRoasterMetrics metrics = new HistogramRoasterMetrics();
+      HistogramRoasterMetrics.reset();
+      Instrumentation.addListener(metrics);
+      try
+      {
+         ParseCache cache = new ParseCache(1024 * 1024);
+         cache.parse(JavaClassSource.class, FOO);
+         JavaClassSource cached = cache.parse(JavaClassSource.class, FOO);
+         assertEquals(1, cache.getHitCount());
+         assertEquals(1, HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.USER).getCount()
+                  + HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.INTERNAL).getCount());
+         assertEquals(Roaster.parse(JavaClassSource.class, FOO).toString(), cached.toString());
+         assertTrue(cache.getWeight() > FOO.length() * 2);
+      }
+      finally
+      {
+         Instrumentation.removeListener(metrics);
+      }
+   }
+
+   @Test
+   public void testDoesNotRetainSourcesOverBudget() throws Exception
+   {
+      ParseCache cache = new ParseCache(FOO.length());
+      assertEquals("Foo", cache.parse(JavaClassSource.class, FOO).getName());
+      assertEquals(0, cache.size());
+      assertEquals(0, cache.getWeight());
+   }
+
+   @Test(expected = ParserException.class)
+   public void testParseAsOtherType() throws Exception
+   {
+      new ParseCache(1024 * 1024).parse(JavaEnumSource.class, FOO);
+   }
+
+   private static void write(File file, String data) throws Exception
+   {
+      OutputStream out = new FileOutputStream(file);
+      try
+      {
+         out.write(data.getBytes("UTF-8"));
+      }
+      finally
+      {
+         out.close();
+      }
+   }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.SourceFormatting;
+import org.jboss.forge.roaster.model.util.Instrumentation;
+import org.jboss.forge.roaster.spi.HistogramRoasterMetrics;
+import org.jboss.forge.roaster.spi.HistogramRoasterMetrics.Histogram;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Caller;
+import org.jboss.forge.roaster.spi.RoasterMetrics.Phase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Timings are reported to a {@link HistogramRoasterMetrics} installed for each test only.
+ */
+public class RoasterMetricsTest
+{
+   private static final String SOURCE = "package org.example; public class Foo { private int bar; }";
+
+   private final HistogramRoasterMetrics metrics = new HistogramRoasterMetrics();
+
+   @Before
+   public void install()
+   {
+      HistogramRoasterMetrics.reset();
+      Instrumentation.addListener(metrics);
+   }
+
+   @After
+   public void uninstall()
+   {
+      Instrumentation.removeListener(metrics);
+   }
+
+   @Test
+   public void testUserParse() throws Exception
+   {
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      Histogram parse = HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.USER);
+      assertEquals(1, parse.getCount());
+      assertEquals(SOURCE.length(), parse.getTotalSourceLength());
+      assertTrue(parse.getTotalNanos() > 0);
+      assertEquals(0, HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.INTERNAL).getCount());
+   }
+
+   @Test
+   public void testInternalParses() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE);
+      source.addMethod("public int getBar() { return bar; }");
+      source.addAnnotation(Deprecated.class).setLiteralValue("since", "\"1.0\"");
+
+      assertEquals(1, HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.USER).getCount());
+      assertTrue(HistogramRoasterMetrics.getHistogram(Phase.PARSE, Caller.INTERNAL).getCount() >= 2);
+   }
+
+   @Test
+   public void testRewriteAndFormat() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE);
+      String unformatted = source.toString(SourceFormatting.NONE);
+      Histogram rewrite = HistogramRoasterMetrics.getHistogram(Phase.REWRITE, Caller.USER);
+      assertEquals(1, rewrite.getCount());
+      assertEquals(unformatted.length(), rewrite.getTotalSourceLength());
+      assertEquals(0, HistogramRoasterMetrics.getHistogram(Phase.FORMAT, Caller.USER).getCount());
+
+      source.toString();
+      Roaster.format(SOURCE);
+      assertEquals(2, HistogramRoasterMetrics.getHistogram(Phase.REWRITE, Caller.USER).getCount());
+      assertEquals(2, HistogramRoasterMetrics.getHistogram(Phase.FORMAT, Caller.USER).getCount());
+   }
+
+   @Test
+   public void testPercentiles() throws Exception
+   {
+      for (int i = 1; i <= 100; i++)
+      {
+         metrics.record(Phase.FORMAT, Caller.INTERNAL, i * 1000L, 10);
+      }
+      Histogram histogram = HistogramRoasterMetrics.getHistogram(Phase.FORMAT, Caller.INTERNAL);
+      assertEquals(100, histogram.getCount());
+      assertEquals(100000L, histogram.getMaxNanos());
+      assertEquals(50500.0, histogram.getMeanNanos(), 0.0);
+      assertEquals(1000L, histogram.getTotalSourceLength());
+      long median = histogram.getPercentileNanos(50);
+      assertTrue(median >= 50000L && median < 100000L);
+      assertEquals(100000L, histogram.getPercentileNanos(100));
+   }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.scan.RoasterVisitor;
+import org.jboss.forge.roaster.scan.ScannedAnnotation;
+import org.jboss.forge.roaster.scan.ScannedField;
+import org.jboss.forge.roaster.scan.ScannedMethod;
+import org.jboss.forge.roaster.scan.ScannedType;
+import org.junit.Test;
+
+public class RoasterVisitorTest
+{
+   private static final String SOURCE = "package org.example;\n"
+            + "import java.util.List;\n"
+            + "import javax.persistence.Entity;\n"
+            + "import static java.util.Collections.emptyList;\n"
+            + "@Entity @Table(name = \"CUSTOMER\")\n"
+            + "public class Customer extends Person implements java.io.Serializable {\n"
+            + "   private List<String> names = emptyList(), aliases[];\n"
+            + "   @Deprecated protected static final long id = 1L;\n"
+            + "   public Customer(String first, int... rest) { Runnable r = new Runnable() { public void run() {} }; }\n"
+            + "   public abstract java.util.Map<String, Integer> getOrders();\n"
+            + "   static { class Local { int ignored; } }\n"
+            + "   public enum Status { @SuppressWarnings(\"x\") ACTIVE, CLOSED; private String label; }\n"
+            + "}\n";
+
+   @Test
+   public void testEventsInSourceOrder() throws Exception
+   {
+      final List<String> events = new ArrayList<String>();
+      Roaster.scan(SOURCE, new RoasterVisitor()
+      {
+         @Override
+         public void visitPackage(String name)
+         {
+            events.add("package " + name);
+         }
+
+         @Override
+         public void visitImport(String name, boolean isStatic, boolean isWildcard)
+         {
+            events.add("import " + (isStatic ? "static " : "") + name);
+         }
+
+         @Override
+         public boolean visitType(ScannedType type)
+         {
+            events.add(type.getKind() + " " + type.getQualifiedName());
+            return true;
+         }
+
+         @Override
+         public void visitAnnotation(ScannedAnnotation annotation)
+         {
+            events.add("@" + annotation.getQualifiedName() + " on " + annotation.getTarget().getName());
+         }
+
+         @Override
+         public void visitField(ScannedField field)
+         {
+            events.add("field " + field.getQualifiedType() + " " + field.getName());
+         }
+
+         @Override
+         public void visitMethod(ScannedMethod method)
+         {
+            events.add("method " + method.getName());
+         }
+
+         @Override
+         public void endVisitType(ScannedType type)
+         {
+            events.add("end " + type.getName());
+         }
+      });
+      assertEquals(Arrays.asList("package org.example",
+               "import java.util.List",
+               "import javax.persistence.Entity",
+               "import static java.util.Collections.emptyList",
+               "CLASS org.example.Customer",
+               "@javax.persistence.Entity on Customer",
+               "@org.example.Table on Customer",
+               "field java.util.List names",
+               "field java.util.List[] aliases",
+               "field long id",
+               "@java.lang.Deprecated on id",
+               "method Customer",
+               "method getOrders",
+               "ENUM org.example.Customer.Status",
+               "field org.example.Customer.Status ACTIVE",
+               "@java.lang.SuppressWarnings on ACTIVE",
+               "field org.example.Customer.Status CLOSED",
+               "field java.lang.String label",
+               "end Status",
+               "end Customer"), events);
+   }
+
+   @Test
+   public void testViews() throws Exception
+   {
+      final List<String> checked = new ArrayList<String>();
+      Roaster.scan(SOURCE, new RoasterVisitor()
+      {
+         @Override
+         public boolean visitType(ScannedType type)
+         {
+            if ("Customer".equals(type.getName()))
+            {
+               assertTrue(type.isPublic());
+               assertTrue(type.hasAnnotation("javax.persistence.Entity"));
+               assertTrue(type.hasAnnotation("Table"));
+               assertFalse(type.hasAnnotation("javax.persistence.Table"));
+               assertEquals("org.example.Person", type.getSuperType());
+               assertNull(type.getEnclosingType());
+            }
+            else
+            {
+               assertEquals("Customer", type.getEnclosingType().getName());
+               assertNull(type.getSuperType());
+            }
+            checked.add(type.getName());
+            return true;
+         }
+
+         @Override
+         public void visitAnnotation(ScannedAnnotation annotation)
+         {
+            if ("Table".equals(annotation.getName()))
+            {
+               assertEquals("\"CUSTOMER\"", annotation.getLiteralValue("name"));
+               assertNull(annotation.getLiteralValue());
+            }
+            else if ("SuppressWarnings".equals(annotation.getName()))
+            {
+               assertEquals("\"x\"", annotation.getLiteralValue());
+               assertEquals("\"x\"", annotation.getLiteralValue("value"));
+            }
+         }
+
+         @Override
+         public void visitField(ScannedField field)
+         {
+            if ("names".equals(field.getName()))
+            {
+               assertEquals("List<String>", field.getType());
+               assertTrue(field.isPrivate());
+               assertFalse(field.isEnumConstant());
+               assertEquals("Customer", field.getDeclaringType().getName());
+            }
+            else if ("aliases".equals(field.getName()))
+            {
+               assertEquals("List<String>[]", field.getType());
+            }
+            else if ("id".equals(field.getName()))
+            {
+               assertTrue(field.isProtected());
+               assertTrue(field.isStatic());
+               assertTrue(field.isFinal());
+               assertTrue(field.hasAnnotation(Deprecated.class.getName()));
+            }
+            else if ("ACTIVE".equals(field.getName()))
+            {
+               assertTrue(field.isEnumConstant());
+               assertTrue(field.isPublic());
+               assertTrue(field.isStatic());
+               assertEquals("Status", field.getType());
+            }
+            checked.add(field.getName());
+         }
+
+         @Override
+         public void visitMethod(ScannedMethod method)
+         {
+            if (method.isConstructor())
+            {
+               assertNull(method.getReturnType());
+               assertEquals(2, method.getParameterCount());
+               assertEquals("first", method.getParameterName(0));
+               assertEquals("java.lang.String", method.getQualifiedParameterType(0));
+               assertEquals("int...", method.getParameterType(1));
+               assertEquals("int[]", method.getQualifiedParameterType(1));
+            }
+            else
+            {
+               assertTrue(method.isAbstract());
+               assertEquals("java.util.Map<String,Integer>", method.getReturnType());
+               assertEquals("java.util.Map", method.getQualifiedReturnType());
+               assertEquals(0, method.getParameterCount());
+            }
+            checked.add(method.getName());
+         }
+      });
+      assertEquals(Arrays.asList("Customer", "names", "aliases", "id", "Customer", "getOrders", "Status", "ACTIVE",
+               "CLOSED", "label"), checked);
+   }
+
+   @Test
+   public void testSkipType() throws Exception
+   {
+      final List<String> events = new ArrayList<String>();
+      Roaster.scan(SOURCE, new RoasterVisitor()
+      {
+         @Override
+         public boolean visitType(ScannedType type)
+         {
+            return false;
+         }
+
+         @Override
+         public void visitAnnotation(ScannedAnnotation annotation)
+         {
+            events.add(annotation.getName());
+         }
+
+         @Override
+         public void visitField(ScannedField field)
+         {
+            events.add(field.getName());
+         }
+
+         @Override
+         public void endVisitType(ScannedType type)
+         {
+            events.add("end " + type.getName());
+         }
+      });
+      assertEquals(Arrays.asList("end Customer"), events);
+   }
+
+   @Test
+   public void testViewsAreReused() throws Exception
+   {
+      final List<ScannedField> fields = new ArrayList<ScannedField>();
+      Roaster.scan("public class Foo { int a; String b; }", new RoasterVisitor()
+      {
+         @Override
+         public void visitField(ScannedField field)
+         {
+            fields.add(field);
+         }
+      });
+      assertEquals(2, fields.size());
+      assertSame(fields.get(0), fields.get(1));
+   }
+
+   @Test
+   public void testWildcardImportsLeaveNamesUnresolved() throws Exception
+   {
+      final List<String> types = new ArrayList<String>();
+      Roaster.scan("package org.example; import java.util.*; public class Foo { List<String> a; Foo b; }",
+               new RoasterVisitor()
+               {
+                  @Override
+                  public void visitField(ScannedField field)
+                  {
+                     types.add(field.getQualifiedType());
+                  }
+               });
+      assertEquals(Arrays.asList("List", "Foo"), types);
+   }
+}
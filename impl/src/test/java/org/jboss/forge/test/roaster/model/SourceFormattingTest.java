@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
+import org.jboss.forge.roaster.model.source.SourceFormatting;
+import org.junit.Test;
+
+public class SourceFormattingTest
+{
+   private static final String UGLY = "package com.example;\npublic class Ugly {\n   public    int   a(  ) { return   1; }\n}\n";
+
+   @Test
+   public void testUnformattedStringLeavesUnchangedSourceAlone() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, UGLY);
+      assertEquals(UGLY, source.toUnformattedString());
+      assertEquals(UGLY, source.toString(SourceFormatting.NONE));
+   }
+
+   @Test
+   public void testUnformattedStringContainsModifications() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, UGLY);
+      source.addField("private String name;");
+      String result = source.toUnformattedString();
+      assertTrue(result.contains("private String name;"));
+      assertTrue(result.contains("public    int   a(  ) { return   1; }"));
+   }
+
+   @Test
+   public void testFullFormattingIsDefault() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, UGLY);
+      assertEquals(source.toString(), source.toString(SourceFormatting.FULL));
+      assertTrue(!source.toString().contains("public    int"));
+   }
+
+   @Test
+   public void testChangedRegionsFormatsOnlyModifiedLines() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, UGLY);
+      source.addMethod("public    void   b(  ) {   }");
+      String result = source.toString(SourceFormatting.CHANGED_REGIONS);
+      assertTrue(result.contains("public    int   a(  ) { return   1; }"));
+      assertTrue(result.contains("public void b()"));
+      assertTrue(!result.contains("public    void"));
+   }
+
+   @Test
+   public void testChangedRegionsWithoutModificationsReturnsOriginal() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, UGLY);
+      assertEquals(UGLY, source.toString(SourceFormatting.CHANGED_REGIONS));
+   }
+
+   @Test
+   public void testPackageInfoUnformattedString() throws Exception
+   {
+      String info = "@Deprecated   package   com.example;\n";
+      JavaPackageInfoSource source = Roaster.parse(JavaPackageInfoSource.class, info);
+      assertEquals(info, source.toUnformattedString());
+   }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.scan.ScannedType;
+import org.jboss.forge.roaster.scan.SourceHeader;
+import org.junit.Test;
+
+public class SourceHeaderTest
+{
+   @Test
+   public void testPeekClass() throws Exception
+   {
+      SourceHeader header = Roaster.peek("/* header */ package org.example;\n"
+               + "import java.util.List;\n"
+               + "import java.io.*;\n"
+               + "import static java.util.Collections.emptyList;\n"
+               + "import static org.junit.Assert.*;\n"
+               + "@javax.persistence.Entity @Table(name = (\"CUSTOMER\"), indexes = {}) // comment\n"
+               + "public abstract class Customer extends { this is never read");
+      assertEquals("org.example", header.getPackage());
+      assertEquals(Arrays.asList("java.util.List", "java.io.*"), header.getImports());
+      assertEquals(Arrays.asList("java.util.Collections.emptyList", "org.junit.Assert.*"), header.getStaticImports());
+      assertEquals(ScannedType.Kind.CLASS, header.getKind());
+      assertEquals("Customer", header.getName());
+      assertEquals("org.example.Customer", header.getQualifiedName());
+      assertEquals(Arrays.asList("javax.persistence.Entity", "Table"), header.getAnnotations());
+   }
+
+   @Test
+   public void testPeekKinds() throws Exception
+   {
+      assertEquals(ScannedType.Kind.INTERFACE, Roaster.peek("interface Foo {}").getKind());
+      assertEquals(ScannedType.Kind.ENUM, Roaster.peek("public final strictfp enum Foo {}").getKind());
+      SourceHeader header = Roaster.peek("@Retention(RUNTIME) public @interface Foo {}");
+      assertEquals(ScannedType.Kind.ANNOTATION, header.getKind());
+      assertEquals("Foo", header.getName());
+      assertEquals(Collections.singletonList("Retention"), header.getAnnotations());
+   }
+
+   @Test
+   public void testPeekDefaultPackage() throws Exception
+   {
+      SourceHeader header = Roaster.peek("import java.util.List; class Foo {}".toCharArray());
+      assertNull(header.getPackage());
+      assertEquals("Foo", header.getQualifiedName());
+   }
+
+   @Test
+   public void testPeekPackageInfo() throws Exception
+   {
+      SourceHeader header = Roaster.peek("@Deprecated package org.example;");
+      assertEquals("org.example", header.getPackage());
+      assertNull(header.getKind());
+      assertNull(header.getName());
+      assertNull(header.getQualifiedName());
+      assertTrue(header.getAnnotations().isEmpty());
+   }
+
+   @Test
+   public void testPeekFile() throws Exception
+   {
+      File file = File.createTempFile("Foo", ".java");
+      file.deleteOnExit();
+      FileWriter writer = new FileWriter(file);
+      writer.write("package org.example; public class Foo { }");
+      writer.close();
+      assertEquals("org.example.Foo", Roaster.peek(file).getQualifiedName());
+   }
+
+   @Test
+   public void testPeekStreamReadsOnlyTheHeader() throws Exception
+   {
+      StringBuilder source = new StringBuilder("package org.example; public class Foo {\n");
+      while (source.length() < 1024 * 1024)
+      {
+         source.append("   private int field").append(source.length()).append(";\n");
+      }
+      source.append("}");
+      final byte[] bytes = source.toString().getBytes();
+      final int[] read = new int[1];
+      InputStream stream = new ByteArrayInputStream(bytes)
+      {
+         @Override
+         public synchronized int read(byte[] b, int off, int len)
+         {
+            int result = super.read(b, off, len);
+            read[0] += Math.max(result, 0);
+            return result;
+         }
+      };
+      assertEquals("org.example.Foo", Roaster.peek(stream).getQualifiedName());
+      assertTrue(read[0] < bytes.length);
+   }
+
+   @Test
+   public void testPeekStreamAcrossReads() throws Exception
+   {
+      StringBuilder imports = new StringBuilder();
+      for (int i = 0; imports.length() < 20000; i++)
+      {
+         imports.append("import org.example.Import").append(i).append(";\n");
+      }
+      String padding = "/*" + new String(new char[8150]).replace('\0', ' ') + "*/";
+      for (int i = 0; i < 40; i++)
+      {
+         String source = padding + new String(new char[i]).replace('\0', ' ') + "package org.example; "
+                  + (i % 2 == 0 ? "" : imports) + "public class LongerTypeName { }";
+         SourceHeader expected = Roaster.peek(source);
+         SourceHeader header = Roaster.peek(new ByteArrayInputStream(source.getBytes()));
+         assertEquals("org.example.LongerTypeName", header.getQualifiedName());
+         assertEquals(expected.getImports(), header.getImports());
+      }
+   }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.AnnotationSource;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.Test;
+
+public class WrapperIdentityTest
+{
+   private static final String SOURCE = "package org.example; import java.util.List;\n"
+            + "/** Foo */ @Deprecated public class Foo<T> {\n"
+            + "   /** names */ @Deprecated private List<String> names;\n"
+            + "   public List<String> getNames(@Deprecated int limit) { return names; }\n"
+            + "}";
+
+   @Test
+   public void testRepeatedAccessReturnsSameWrappers() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      FieldSource<JavaClassSource> field = javaClass.getField("names");
+      MethodSource<JavaClassSource> method = javaClass.getMethods().get(0);
+
+      assertSame(field, javaClass.getFields().get(0));
+      assertSame(field.getType(), field.getType());
+      assertSame(field.getType().getTypeArguments().get(0), field.getType().getTypeArguments().get(0));
+      assertSame(field.getJavaDoc(), field.getJavaDoc());
+      assertSame(field.getAnnotations().get(0), field.getAnnotation(Deprecated.class));
+      assertSame(method.getReturnType(), method.getReturnType());
+      assertSame(method.getParameters().get(0), method.getParameters().get(0));
+      assertSame(method.getParameters().get(0).getAnnotations().get(0),
+               method.getParameters().get(0).getAnnotations().get(0));
+      assertSame(javaClass.getAnnotations().get(0), javaClass.getAnnotations().get(0));
+      assertSame(javaClass.getJavaDoc(), javaClass.getJavaDoc());
+      assertSame(javaClass.getTypeVariables().get(0), javaClass.getTypeVariable("T"));
+      assertSame(javaClass.getImports().get(0), javaClass.getImport("java.util.List"));
+   }
+
+   @Test
+   public void testWrappersSurviveModification() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      FieldSource<JavaClassSource> field = javaClass.getField("names");
+      MethodSource<JavaClassSource> method = javaClass.getMethod("getNames", int.class);
+
+      FieldSource<JavaClassSource> added = javaClass.addField("private int count;");
+      MethodSource<JavaClassSource> addedMethod = javaClass.addMethod("public void reset() {}");
+      javaClass.addImport("java.util.Map");
+
+      assertSame(field, javaClass.getField("names"));
+      assertSame(added, javaClass.getField("count"));
+      assertSame(method, javaClass.getMethod("getNames", int.class));
+      assertSame(addedMethod, javaClass.getMethod("reset"));
+      assertEquals(2, javaClass.getImports().size());
+   }
+
+   @Test
+   public void testAnnotationConversionKeepsWrapper() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      AnnotationSource<JavaClassSource> annotation = javaClass.getAnnotations().get(0);
+      annotation.setLiteralValue("since", "\"1.0\"");
+      assertSame(annotation, javaClass.getAnnotations().get(0));
+   }
+
+   @Test
+   public void testEnumConstants() throws Exception
+   {
+      JavaEnumSource javaEnum = Roaster.parse(JavaEnumSource.class, "public enum Foo { A { int x; }, B }");
+      assertSame(javaEnum.getEnumConstant("A"), javaEnum.getEnumConstants().get(0));
+      assertSame(javaEnum.getEnumConstant("A").getBody(), javaEnum.getEnumConstant("A").getBody());
+      assertSame(javaEnum.getEnumConstant("A").getBody().getFields().get(0),
+               javaEnum.getEnumConstant("A").getBody().getField("x"));
+   }
+
+   @Test
+   public void testWrappersAreOwnedBySource() throws Exception
+   {
+      JavaClassSource first = Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource second = Roaster.parse(JavaClassSource.class, SOURCE);
+      assertNotSame(first.getField("names"), second.getField("names"));
+      assertSame(first, first.getField("names").getOrigin());
+   }
+}
@@ -8,10 +8,21 @@ package org.jboss.forge.test.roaster.model.common;
 
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
 import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.impl.ClassLoaderWildcardImportResolver;
 import org.jboss.forge.roaster.model.source.FieldSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 
 public class WildCardImportsTest
@@ -52,4 +63,102 @@ public class WildCardImportsTest
       Assert.assertNotNull(field.getType());
       Assert.assertEquals("java.util.Date", field.getType().getQualifiedName());
    }
+
+   @Test
+   public void testWildcardImportResolvesFromClassPath()
+   {
+      JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+      javaClass.setPackage("it.coopservice.test");
+      javaClass.addImport("org.junit.*");
+      Assert.assertEquals("org.junit.Assert", javaClass.resolveType("Assert"));
+      Assert.assertEquals("it.coopservice.test.Missing", javaClass.resolveType("Missing"));
+   }
+
+   @Test
+   public void testWildcardImportOfNestedTypes()
+   {
+      JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+      javaClass.addImport("java.util.Map.*");
+      Assert.assertEquals("java.util.Map.Entry", javaClass.resolveType("Entry"));
+   }
+
+   @Test
+   public void testWildcardImportResolvesClassesCompiledLater() throws Exception
+   {
+      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      Assume.assumeNotNull(compiler);
+      File directory = File.createTempFile("classes", "");
+      Assert.assertTrue(directory.delete() && directory.mkdir());
+      ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[] { directory.toURI().toURL() },
+               contextClassLoader));
+      try
+      {
+         JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+         javaClass.setPackage("org.example.app");
+         javaClass.addImport("org.example.later.*");
+         Assert.assertEquals("org.example.app.Later", javaClass.resolveType("Later"));
+
+         compile(compiler, directory, "Later", "package org.example.later; public class Later { }");
+         Assert.assertEquals("org.example.later.Later", javaClass.resolveType("Later"));
+      }
+      finally
+      {
+         Thread.currentThread().setContextClassLoader(contextClassLoader);
+      }
+   }
+
+   @Test
+   public void testWildcardImportLoadsClassesOnlyWhenConfigured() throws Exception
+   {
+      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      Assume.assumeNotNull(compiler);
+      File directory = File.createTempFile("classes", "");
+      Assert.assertTrue(directory.delete() && directory.mkdir());
+      compile(compiler, directory, "Outer",
+               "package org.example.hidden; public class Outer { public static class Inner { } }");
+      // a class loader whose class path cannot be listed
+      final ClassLoader hidden = new URLClassLoader(new URL[] { directory.toURI().toURL() }, null);
+      ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      try
+      {
+         JavaClassSource javaClass = Roaster.create(JavaClassSource.class);
+         javaClass.setPackage("org.example.app");
+         javaClass.addImport("org.example.hidden.Outer.*");
+
+         Thread.currentThread().setContextClassLoader(new ClassLoader(contextClassLoader)
+         {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException
+            {
+               return hidden.loadClass(name);
+            }
+         });
+         Assert.assertEquals("org.example.app.Inner", javaClass.resolveType("Inner"));
+
+         System.setProperty(ClassLoaderWildcardImportResolver.LOAD_CLASS_FALLBACK_PROPERTY, "true");
+         Assert.assertEquals("org.example.hidden.Outer.Inner", javaClass.resolveType("Inner"));
+         Assert.assertEquals("org.example.app.Missing", javaClass.resolveType("Missing"));
+      }
+      finally
+      {
+         System.clearProperty(ClassLoaderWildcardImportResolver.LOAD_CLASS_FALLBACK_PROPERTY);
+         Thread.currentThread().setContextClassLoader(contextClassLoader);
+      }
+   }
+
+   private static void compile(JavaCompiler compiler, File directory, String name, String code) throws Exception
+   {
+      File source = new File(directory, name + ".java");
+      Writer writer = new FileWriter(source);
+      try
+      {
+         writer.write(code);
+      }
+      finally
+      {
+         writer.close();
+      }
+      Assert.assertEquals(0, compiler.run(null, null, null, "-d", directory.getPath(), source.getPath()));
+   }
 }
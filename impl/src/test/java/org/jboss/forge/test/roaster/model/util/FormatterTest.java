@@ -7,9 +7,12 @@
 
 package org.jboss.forge.test.roaster.model.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.InputStream;
+import java.util.Properties;
 
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
@@ -49,5 +52,48 @@ public class FormatterTest
       String original = javaClass.toString();
       assertNotSame(original, result);
    }
-   
+
+   @Test
+   public void testFormattingIsRepeatable() throws Exception
+   {
+      String source = "public class Foo { public void bar() { return; } }";
+      String first = Formatter.format(source);
+      String second = Formatter.format(source);
+      assertEquals(first, second);
+   }
+
+   @Test
+   public void testFormatterHonorsChangedProperties() throws Exception
+   {
+      String source = "public class Foo { public void bar() { return; } }";
+      Properties prefs = new Properties();
+      prefs.setProperty("org.eclipse.jdt.core.formatter.tabulation.char", "space");
+      prefs.setProperty("org.eclipse.jdt.core.formatter.tabulation.size", "2");
+      prefs.setProperty("org.eclipse.jdt.core.formatter.indentation.size", "2");
+      String narrow = Formatter.format(prefs, source);
+      assertEquals(narrow, Formatter.format(prefs, source));
+      assertTrue(narrow.contains("\n  public void bar()") || narrow.contains("\r\n  public void bar()"));
+
+      prefs.setProperty("org.eclipse.jdt.core.formatter.tabulation.size", "6");
+      prefs.setProperty("org.eclipse.jdt.core.formatter.indentation.size", "6");
+      String wide = Formatter.format(prefs, source);
+      assertTrue(wide.contains("      public void bar()"));
+   }
+
+   @Test
+   public void testFormatterHonorsDefaultProperties() throws Exception
+   {
+      String source = "public class Foo { public void bar() { return; } }";
+      Properties defaults = new Properties();
+      defaults.setProperty("org.eclipse.jdt.core.formatter.tabulation.char", "space");
+      defaults.setProperty("org.eclipse.jdt.core.formatter.tabulation.size", "2");
+      defaults.setProperty("org.eclipse.jdt.core.formatter.indentation.size", "2");
+      String narrow = Formatter.format(new Properties(defaults), source);
+      assertTrue(narrow.contains("\n  public void bar()") || narrow.contains("\r\n  public void bar()"));
+
+      Properties wide = new Properties(defaults);
+      wide.setProperty("org.eclipse.jdt.core.formatter.tabulation.size", "6");
+      wide.setProperty("org.eclipse.jdt.core.formatter.indentation.size", "6");
+      assertTrue(Formatter.format(wide, source).contains("      public void bar()"));
+   }
 }
@@ -108,6 +108,64 @@ public class RefactoryTest
       assertFalse(javaClass.hasSyntaxErrors());
    }
 
+   @Test
+   @SuppressWarnings("unchecked")
+   public void testCreateGettersAndSetters() throws Exception
+   {
+      javaClass.addMethod("public int getFoo() { return 42; }");
+      Refactory.createGettersAndSetters(javaClass, javaClass.getField("foo"), javaClass.getField("names"),
+               javaClass.getField("bar"));
+
+      List<MethodSource<JavaClassSource>> methods = javaClass.getMethods();
+      assertEquals(5, methods.size());
+      assertEquals("return 42;", methods.get(0).getBody());
+      assertEquals("setFoo", methods.get(1).getName());
+      assertEquals("getNames", methods.get(2).getName());
+      assertEquals("Set<String>", methods.get(2).getReturnType().toString());
+      assertEquals("setNames", methods.get(3).getName());
+      assertEquals("getBar", methods.get(4).getName());
+      assertFalse(javaClass.hasSyntaxErrors());
+
+      Refactory.createGettersAndSetters(javaClass, javaClass.getFields());
+      assertEquals(7, javaClass.getMethods().size());
+      assertTrue(javaClass.hasMethodSignature("getFirstName"));
+      assertTrue(javaClass.hasMethodSignature("setFirstName", String.class));
+   }
+
+   @Test
+   @SuppressWarnings("unchecked")
+   public void testCreateSetterBesideOverloadOfOtherType() throws Exception
+   {
+      javaClass.addMethod("public void setFoo(String foo) { }");
+      javaClass.addMethod("public void setFirstName(java.lang.String name) { }");
+      Refactory.createGettersAndSetters(javaClass, javaClass.getField("foo"), javaClass.getField("firstName"));
+
+      assertTrue(javaClass.hasMethodSignature("setFoo", String.class));
+      assertTrue(javaClass.hasMethodSignature("setFoo", int.class));
+      assertEquals(1, countMethods("setFirstName"));
+      assertFalse(javaClass.hasSyntaxErrors());
+   }
+
+   private int countMethods(String name)
+   {
+      int result = 0;
+      for (MethodSource<JavaClassSource> method : javaClass.getMethods())
+      {
+         if (method.getName().equals(name))
+         {
+            result++;
+         }
+      }
+      return result;
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testCreateGettersAndSettersForeignField() throws Exception
+   {
+      JavaClassSource other = Roaster.parse(JavaClassSource.class, "public class Bar { private int baz; }");
+      Refactory.createGettersAndSetters(javaClass, javaClass.getFields().get(0), other.getField("baz"));
+   }
+
    @Test
    public void testCreateToStringFromFields() throws Exception
    {
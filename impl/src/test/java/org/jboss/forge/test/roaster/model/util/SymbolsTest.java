@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.test.roaster.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.util.Symbols;
+import org.junit.Test;
+
+public class SymbolsTest
+{
+   private static final String SOURCE = "package org.example.model; import java.util.List; "
+            + "public class Foo { private List<String> names; private java.util.Map<String, Long> counts; }";
+
+   @Test
+   public void testIntern() throws Exception
+   {
+      String name = new String("org.example.Interned");
+      assertSame(name, Symbols.intern(name));
+      assertSame(name, Symbols.intern(new String("org.example.Interned")));
+      assertNull(Symbols.intern(null));
+   }
+
+   @Test
+   public void testModelNamesAreCanonical() throws Exception
+   {
+      JavaClassSource first = Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource second = Roaster.parse(JavaClassSource.class, SOURCE);
+
+      assertEquals("org.example.model", first.getPackage());
+      assertSame(first.getPackage(), second.getPackage());
+      assertSame(first.getImport("java.util.List").getQualifiedName(),
+               second.getImport("java.util.List").getQualifiedName());
+      assertSame(first.getField("names").getType().getQualifiedName(),
+               second.getField("names").getType().getQualifiedName());
+      assertSame(first.getField("counts").getType().getQualifiedName(),
+               second.getField("counts").getType().getQualifiedName());
+   }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.test.roaster.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.model.util.TypeName;
+import org.jboss.forge.roaster.model.util.TypeName.BoundKind;
+import org.jboss.forge.roaster.model.util.Types;
+import org.junit.Test;
+
+public class TypeNameTest
+{
+   @Test
+   public void testQualifiedName() throws Exception
+   {
+      TypeName type = TypeName.parse("java.util.Map.Entry");
+      assertEquals("java.util.Map", type.getPackage());
+      assertEquals("Entry", type.getSimpleName());
+      assertEquals("java.util.Map.Entry", type.getQualifiedName());
+      assertFalse(type.isParameterized());
+      assertFalse(type.isArray());
+      assertEquals("", TypeName.parse("String").getPackage());
+   }
+
+   @Test
+   public void testNestedTypeArguments() throws Exception
+   {
+      TypeName type = TypeName.parse("java.util.Map<java.lang.String, java.util.Map<java.lang.String,java.lang.Long>>");
+      assertEquals("java.util.Map", type.getQualifiedName());
+      assertEquals(2, type.getTypeArguments().size());
+      TypeName value = type.getTypeArguments().get(1);
+      assertEquals("java.util.Map", value.getQualifiedName());
+      assertEquals("java.lang.Long", value.getTypeArguments().get(1).getQualifiedName());
+      assertEquals("java.util.Map<java.lang.String, java.util.Map<java.lang.String, java.lang.Long>>",
+               type.toString());
+      assertEquals("Map<String, Map<String, Long>>", type.toSimpleString());
+   }
+
+   @Test
+   public void testWildcardsAndBounds() throws Exception
+   {
+      TypeName type = TypeName.parse("java.lang.Class<? super java.lang.Integer>");
+      TypeName wildcard = type.getTypeArguments().get(0);
+      assertTrue(wildcard.isWildcard());
+      assertEquals(BoundKind.SUPER, wildcard.getBoundKind());
+      assertEquals("java.lang.Integer", wildcard.getBounds().get(0).getQualifiedName());
+      assertTrue(TypeName.parse("Class<?>").getTypeArguments().get(0).isWildcard());
+      assertNull(TypeName.parse("Class<?>").getTypeArguments().get(0).getBoundKind());
+
+      TypeName variable = TypeName.parse("Class<E extends Enum<E> & java.io.Serializable>").getTypeArguments().get(0);
+      assertEquals("E", variable.getSimpleName());
+      assertEquals(BoundKind.EXTENDS, variable.getBoundKind());
+      assertEquals(2, variable.getBounds().size());
+      assertEquals("E extends Enum<E> & Serializable", variable.toSimpleString());
+   }
+
+   @Test
+   public void testArrays() throws Exception
+   {
+      TypeName type = TypeName.parse("java.util.List<java.lang.String> [] []");
+      assertEquals(2, type.getArrayDimensions());
+      assertEquals("java.util.List<java.lang.String>[][]", type.toString());
+      assertEquals(1, TypeName.parse("java.util.List<int[]>").getTypeArguments().get(0).getArrayDimensions());
+
+      assertEquals("int", TypeName.parse(int[][].class.getName()).getQualifiedName());
+      assertEquals(2, TypeName.parse(int[][].class.getName()).getArrayDimensions());
+      assertEquals("java.lang.String", TypeName.parse(String[].class.getName()).getQualifiedName());
+   }
+
+   @Test
+   public void testEquality() throws Exception
+   {
+      assertEquals(TypeName.parse("Map<String,Long>"), TypeName.parse("Map< String , Long >"));
+      assertEquals(TypeName.parse("Map<String,Long>").hashCode(), TypeName.parse("Map<String, Long>").hashCode());
+      assertFalse(TypeName.parse("Map<String, Long>").equals(TypeName.parse("Map<Long, String>")));
+   }
+
+   @Test
+   public void testInvalidNames() throws Exception
+   {
+      for (String invalid : new String[] { "", "9Lives", "List<String", "List<String>>", "String...", "Outer<T>.Inner",
+               "[Q", "[L;", "Foo-bar", "java..util" })
+      {
+         try
+         {
+            TypeName.parse(invalid);
+            throw new AssertionError("Parsed invalid type name [" + invalid + "]");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // expected
+         }
+      }
+   }
+
+   @Test
+   public void testTypesDelegate() throws Exception
+   {
+      assertEquals("Map<String, Map<String, Long>>",
+               Types.toSimpleName("java.util.Map<java.lang.String, java.util.Map<java.lang.String, java.lang.Long>>"));
+      assertEquals("List<String>[]", Types.toSimpleName("java.util.List<java.lang.String>[]"));
+      assertEquals("Class<?>", Types.toSimpleName("java.lang.Class<?>"));
+      assertTrue(Types.isArray("java.util.List<java.lang.String>[]"));
+      assertEquals("java.util.List<java.lang.String>", Types.stripArray("java.util.List<java.lang.String>[]"));
+      assertEquals("java.util", Types.getPackage("java.util.List<java.lang.String>"));
+      assertFalse(Types.isArray("String..."));
+   }
+}